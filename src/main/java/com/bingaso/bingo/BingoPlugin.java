@@ -1,11 +1,14 @@
 package com.bingaso.bingo;
 
-import com.bingaso.bingo.card.BingoCardGuiListener;
 import com.bingaso.bingo.command.BingoCommand;
+import com.bingaso.bingo.gui.BingoGuiItemTemplates;
+import com.bingaso.bingo.gui.BingoGuiListener;
+import com.bingaso.bingo.gui.BingoGuiSessionManager;
 import com.bingaso.bingo.match.BingoMatch;
 import com.bingaso.bingo.match.BingoMatchListener;
-import com.bingaso.bingo.match.BingoMatchSettingsGuiListener;
-import com.bingaso.bingo.team.select.BingoTeamSelectGuiListener;
+import com.bingaso.bingo.match.replay.BingoMatchReplaySession;
+import com.bingaso.bingo.team.TeamChatListener;
+import com.bingaso.bingo.utils.BingoMainThreadExecutor;
 
 import org.bukkit.plugin.java.JavaPlugin;
 
@@ -24,29 +27,40 @@ public final class BingoPlugin extends JavaPlugin {
         INSTANCE = this;
         getLogger().info("Bingo plugin enabled!");
 
-        // Register gui listeners
-        getServer()
-            .getPluginManager()
-            .registerEvents(new BingoCardGuiListener(), this);
-        getServer()
-            .getPluginManager()
-            .registerEvents(new BingoTeamSelectGuiListener(), this);
+        // Start running async callbacks on the main thread
+        BingoMainThreadExecutor.getInstance().start(this);
+
+        // Register gui listener
         getServer()
             .getPluginManager()
-            .registerEvents(new BingoMatchSettingsGuiListener(), this);
+            .registerEvents(new BingoGuiListener(), this);
+        BingoGuiSessionManager.getInstance().start(this);
 
         // Register match listener
         getServer().getPluginManager().registerEvents(new BingoMatchListener(), this);
 
+        // Register team chat listener
+        getServer().getPluginManager().registerEvents(new TeamChatListener(), this);
+
         // Register bingo command
         getCommand("bingo").setExecutor(new BingoCommand());
         getCommand("bingo").setTabCompleter(new BingoCommand());
 
         bingoMatch = new BingoMatch();
+        // Continue the match that was running when the server stopped
+        if (bingoMatch.resumeFromCheckpoint()) {
+            getLogger().info("Resumed the match from its checkpoint");
+        }
     }
 
     @Override
     public void onDisable() {
+        BingoMatchReplaySession.stopAll();
+        if (bingoMatch != null) bingoMatch.close();
+        BingoGuiSessionManager.getInstance().stop();
+        // Run the callbacks queued so far, such as abandoned captures
+        BingoMainThreadExecutor.getInstance().stop();
+        BingoGuiItemTemplates.clear();
         getLogger().info("Bingo plugin disabled!");
     }
 
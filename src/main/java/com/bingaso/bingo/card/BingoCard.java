@@ -57,6 +57,18 @@ public class BingoCard {
         }
     }
 
+    /**
+     * Creates a Bingo card holding the given quests in order, such as the
+     * card of a resumed match.
+     *
+     * @param questList The quests of the card, in card order
+     * @return The card
+     * @since 1.0
+     */
+    public static BingoCard fromQuests(List<BingoQuest> questList) {
+        return new BingoCard(questList);
+    }
+
     /**
      * Securely adds a quest into the Bingo card.
      *
@@ -222,4 +234,40 @@ public class BingoCard {
         }
         return true;
     }
+
+    /**
+     * Counts the quests the specified team still has to complete in the row,
+     * column or diagonal closest to completion.
+     *
+     * @param bingoTeam The team to check completion for
+     * @return The number of missing quests in the closest line, 0 if a line
+     * is already completed
+     * @since 1.0
+     */
+    public int getFewestMissingInLine(BingoTeam bingoTeam) {
+        int fewest = size;
+        int mainDiagonalMissing = 0;
+        int antiDiagonalMissing = 0;
+        for (int i = 0; i < size; i++) {
+            int rowMissing = 0;
+            int columnMissing = 0;
+            for (int j = 0; j < size; j++) {
+                if (!bingoTeam.hasCompletedQuest(items[i * size + j])) {
+                    rowMissing++;
+                }
+                if (!bingoTeam.hasCompletedQuest(items[j * size + i])) {
+                    columnMissing++;
+                }
+            }
+            fewest = Math.min(fewest, Math.min(rowMissing, columnMissing));
+
+            if (!bingoTeam.hasCompletedQuest(items[i * size + i])) {
+                mainDiagonalMissing++;
+            }
+            if (!bingoTeam.hasCompletedQuest(items[i * size + (size - 1 - i)])) {
+                antiDiagonalMissing++;
+            }
+        }
+        return Math.min(fewest, Math.min(mainDiagonalMissing, antiDiagonalMissing));
+    }
 }
@@ -94,6 +94,8 @@ public class BingoCardGenerator {
      * Generates a Bingo card with 25 items based on the specified difficulty level.
      * Uses weighted random selection to choose items according to the difficulty weights.
      * The selected materials are then shuffled and arranged into a Bingo card.
+     * Item scores are the ones of the repository at the time of the call,
+     * calibrated from observed find times when there are enough of them.
      *
      * @return A new BingoCard containing 25 randomly selected items
      */
@@ -1,14 +1,24 @@
 package com.bingaso.bingo.card;
 
-import org.bukkit.Bukkit;
+import java.time.Instant;
+
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
 
+import com.bingaso.bingo.BingoPlugin;
 import com.bingaso.bingo.quest.BingoQuest;
 import com.bingaso.bingo.quest.BingoQuestItem;
 import com.bingaso.bingo.gui.BingoGui;
 import com.bingaso.bingo.gui.BingoGuiItem;
 import com.bingaso.bingo.gui.BingoGuiItemFactory;
+import com.bingaso.bingo.gui.BingoGuiItemTemplates;
+import com.bingaso.bingo.match.BingoMatch;
+import com.bingaso.bingo.team.BingoQuestClaims;
 import com.bingaso.bingo.team.BingoTeam;
+import com.bingaso.bingo.team.BingoTeamRepositoryReadOnly;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -21,7 +31,10 @@ public class BingoCardGui extends BingoGui {
 
     /** Singleton instance */
     public static final BingoCardGui INSTANCE = new BingoCardGui();
-    private BingoCardGui() {}
+    private BingoCardGui() {
+        registerClickHandler("bingo_card_next_team_gui_item", this::onTeamArrowClick);
+        registerClickHandler("bingo_card_previous_team_gui_item", this::onTeamArrowClick);
+    }
 
     /**
      * Gets the singleton instance of BingoCardGui.
@@ -31,17 +44,55 @@ public class BingoCardGui extends BingoGui {
         return INSTANCE;
     }
 
-    /** Context necessary to open this inventory */
+    /**
+     * Context necessary to open this inventory. The teams, claims and start
+     * of the card are those of the running match, unless the context is made
+     * for another match such as a replay.
+     */
     public static class BingoCardGuiContext extends GuiContext {
         public BingoTeam bingoTeamToShow;
         public BingoTeam bingoTeamFromWatcher;
         public BingoCard bingoCard;
+        /** Teams of the card, null for the running match */
+        public BingoTeamRepositoryReadOnly teamRepository;
+        /** Claims of the quests of the card, null for the running match */
+        public BingoQuestClaims claims;
+        /** Start of the match of the card, null for the running match */
+        public Instant startInstant;
 
         public BingoCardGuiContext(BingoTeam bingoTeamToShow, BingoTeam bingoTeamFromWatcher, BingoCard bingoCard) {
             this.bingoTeamToShow = bingoTeamToShow;
             this.bingoTeamFromWatcher = bingoTeamFromWatcher;
             this.bingoCard = bingoCard;
         }
+
+        public BingoCardGuiContext(
+            BingoTeam bingoTeamToShow,
+            BingoCard bingoCard,
+            BingoTeamRepositoryReadOnly teamRepository,
+            BingoQuestClaims claims,
+            Instant startInstant
+        ) {
+            this(bingoTeamToShow, null, bingoCard);
+            this.teamRepository = teamRepository;
+            this.claims = claims;
+            this.startInstant = startInstant;
+        }
+
+        /**
+         * @return A copy of this context showing another team.
+         */
+        public BingoCardGuiContext withTeamToShow(BingoTeam bingoTeamToShow) {
+            BingoCardGuiContext context = new BingoCardGuiContext(
+                bingoTeamToShow,
+                bingoTeamFromWatcher,
+                bingoCard
+            );
+            context.teamRepository = teamRepository;
+            context.claims = claims;
+            context.startInstant = startInstant;
+            return context;
+        }
     }
 
     /**
@@ -75,41 +126,95 @@ public class BingoCardGui extends BingoGui {
         BingoTeam bingoTeamFromWatcher = context.bingoTeamFromWatcher;
         BingoCard bingoCard = context.bingoCard;
 
-        Inventory inventory = Bukkit.createInventory(
-            null,
+        Inventory inventory = createInventory(
+            context,
             54,
             Component.text("Bingo Card", NamedTextColor.GOLD, TextDecoration.BOLD)
         );
 
+        BingoMatch bingoMatch = BingoPlugin.getInstance().getBingoMatch();
+        BingoQuestClaims claims = context.claims != null
+            ? context.claims
+            : bingoMatch.getTeamManager().getTeamQuestService().getClaims();
+        BingoTeamRepositoryReadOnly teamRepository = context.teamRepository != null
+            ? context.teamRepository
+            : bingoMatch.getBingoTeamRepository();
+
         // Add 25 items of the bingo card in the center of the inventory
         int i = 0;
         for (BingoQuest bingoQuest : bingoCard.getItems()) {
             int j = i % 5;
             int k = i / 5;
 
-            BingoGuiItem bingoItemStack;
+            ItemStack bingoItemStack;
             
             // Handle different quest types
             if (bingoQuest instanceof BingoQuestItem) {
                 BingoQuestItem questItem = (BingoQuestItem) bingoQuest;
-                bingoItemStack = new BingoGuiItem(questItem.getMaterial(), "BingoItemStack");
+                bingoItemStack = createQuestGuiItem(questItem.getMaterial());
             } else {
                 // For other quest types, use a default material (placeholder)
-                bingoItemStack = new BingoGuiItem(org.bukkit.Material.PAPER, "BingoItemStack");
+                bingoItemStack = createQuestGuiItem(org.bukkit.Material.PAPER);
             }
 
             if(bingoTeamToShow != null && bingoTeamToShow.hasCompletedQuest(bingoQuest)) {
-                bingoItemStack = BingoGuiItemFactory.createCompletedGuiItem(bingoQuest, bingoTeamToShow, bingoTeamFromWatcher);
+                bingoItemStack = BingoGuiItemFactory.createCompletedGuiItem(bingoQuest, bingoTeamToShow, bingoTeamFromWatcher, context.startInstant);
+            } else if(claims.isClaimed(bingoQuest)) {
+                // Overlay the teams that already own the quest
+                bingoItemStack = BingoGuiItemFactory.createClaimedGuiItem(
+                    bingoItemStack.getType(),
+                    claims.getOwners(bingoQuest)
+                );
             }
             inventory.setItem(2 + k*9 + j, bingoItemStack); // Place in the center 5x5 grid
             i++;
         }
         // Add arrows for navigating teams
         if(bingoTeamToShow != null) {
-            inventory.setItem(45, BingoGuiItemFactory.createPreviousTeamGuiItem(bingoTeamToShow));
+            inventory.setItem(45, BingoGuiItemFactory.createPreviousTeamGuiItem(bingoTeamToShow, teamRepository));
             inventory.setItem(49, BingoGuiItemFactory.createTeamGuiItem(bingoTeamToShow, bingoTeamFromWatcher));
-            inventory.setItem(53, BingoGuiItemFactory.createNextTeamGuiItem(bingoTeamToShow));
+            inventory.setItem(53, BingoGuiItemFactory.createNextTeamGuiItem(bingoTeamToShow, teamRepository));
         }
         return inventory;
     }
+
+    /**
+     * Shows the card of the team pointed by the clicked navigation arrow.
+     */
+    private void onTeamArrowClick(
+        InventoryClickEvent event,
+        Player player,
+        ItemStack clickedItem,
+        GuiContext context
+    ) {
+        String teamName = BingoGuiItem.getCustomString(clickedItem, BingoGuiItem.TEAM);
+        if(teamName == null) return;
+
+        if(context instanceof BingoCardGuiContext && ((BingoCardGuiContext) context).teamRepository != null) {
+            // Card of another match, its teams are not in the running match
+            BingoCardGuiContext cardContext = (BingoCardGuiContext) context;
+            openForPlayer(
+                player,
+                cardContext.withTeamToShow(cardContext.teamRepository.findByName(teamName))
+            );
+            return;
+        }
+
+        BingoMatch bingoMatch = BingoPlugin.getInstance().getBingoMatch();
+        openForPlayer(
+            player,
+            new BingoCardGuiContext(
+                bingoMatch.getBingoTeamRepository().findByName(teamName),
+                bingoMatch.getBingoTeamFromPlayer(player),
+                bingoMatch.getBingoCard())
+        );
+    }
+
+    private ItemStack createQuestGuiItem(Material material) {
+        return BingoGuiItemTemplates.get(
+            "BingoItemStack",
+            material,
+            () -> new BingoGuiItem(material, "BingoItemStack")
+        );
+    }
 }
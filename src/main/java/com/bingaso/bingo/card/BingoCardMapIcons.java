@@ -0,0 +1,214 @@
+package com.bingaso.bingo.card;
+
+import java.awt.Color;
+import java.util.List;
+
+import org.bukkit.Material;
+import org.bukkit.map.MapFont.CharacterSprite;
+import org.bukkit.map.MapPalette;
+import org.bukkit.map.MinecraftFont;
+
+import com.bingaso.bingo.quest.BingoQuest;
+import com.bingaso.bingo.quest.BingoQuestItem;
+
+/**
+ * Map pixels of every slot of a bingo card, rasterised once per card.
+ * Every slot has two versions, the plain icon and the icon with the
+ * completion overlay, so renderers only copy pixels.
+ *
+ * @since 1.0
+ */
+@SuppressWarnings("deprecation")
+public class BingoCardMapIcons {
+
+    /** Side of a slot icon in map pixels */
+    public static final int ICON_SIZE = 24;
+
+    private static final byte BORDER_COLOR = MapPalette.matchColor(
+        new Color(40, 40, 40)
+    );
+    private static final byte COMPLETED_COLOR = MapPalette.matchColor(
+        new Color(80, 200, 60)
+    );
+    private static final byte LIGHT_TEXT_COLOR = MapPalette.matchColor(
+        Color.WHITE
+    );
+    private static final byte DARK_TEXT_COLOR = MapPalette.matchColor(
+        Color.BLACK
+    );
+    /** Colors of quests that have no block color, picked by name */
+    private static final Color[] FALLBACK_COLORS = {
+        new Color(170, 60, 60),
+        new Color(60, 110, 170),
+        new Color(170, 140, 60),
+        new Color(120, 70, 160),
+        new Color(60, 150, 140),
+        new Color(150, 90, 50),
+    };
+
+    private final BingoCard bingoCard;
+    private final List<BingoQuest> quests;
+    private final byte[][] plainIcons;
+    private final byte[][] completedIcons;
+
+    /**
+     * Rasterises the icons of every slot of a card.
+     *
+     * @param bingoCard The card to rasterise
+     */
+    public BingoCardMapIcons(BingoCard bingoCard) {
+        this.bingoCard = bingoCard;
+        this.quests = bingoCard.getItems();
+        this.plainIcons = new byte[quests.size()][];
+        this.completedIcons = new byte[quests.size()][];
+
+        for (int slot = 0; slot < quests.size(); slot++) {
+            BingoQuest quest = quests.get(slot);
+            plainIcons[slot] = rasterise(quest);
+            completedIcons[slot] = addCompletedOverlay(plainIcons[slot]);
+        }
+    }
+
+    /**
+     * @return The card these icons were rasterised from.
+     */
+    public BingoCard getBingoCard() {
+        return bingoCard;
+    }
+
+    /**
+     * @return The number of slots of the card.
+     */
+    public int getSlotCount() {
+        return quests.size();
+    }
+
+    /**
+     * Gets the quest shown in a slot.
+     *
+     * @param slot The slot of the card
+     * @return The quest of the slot, or null if the slot is empty
+     */
+    public BingoQuest getQuest(int slot) {
+        return quests.get(slot);
+    }
+
+    /**
+     * Gets the slot of a quest.
+     *
+     * @param quest The quest to look for
+     * @return The slot of the quest, or -1 if it is not on the card
+     */
+    public int getSlot(BingoQuest quest) {
+        return quests.indexOf(quest);
+    }
+
+    /**
+     * Gets the pixels of a slot, row by row.
+     *
+     * @param slot The slot of the card
+     * @param completed Whether to get the version with the completion overlay
+     * @return The {@link #ICON_SIZE} x {@link #ICON_SIZE} pixels, not to be
+     * modified
+     */
+    public byte[] getPixels(int slot, boolean completed) {
+        return completed ? completedIcons[slot] : plainIcons[slot];
+    }
+
+    private static byte[] rasterise(BingoQuest quest) {
+        byte[] pixels = new byte[ICON_SIZE * ICON_SIZE];
+        if (quest == null) return pixels;
+
+        Color background = getColor(quest);
+        byte backgroundColor = MapPalette.matchColor(background);
+        for (int y = 0; y < ICON_SIZE; y++) {
+            for (int x = 0; x < ICON_SIZE; x++) {
+                boolean border =
+                    x == 0 || y == 0 || x == ICON_SIZE - 1 || y == ICON_SIZE - 1;
+                pixels[y * ICON_SIZE + x] = border
+                    ? BORDER_COLOR
+                    : backgroundColor;
+            }
+        }
+
+        int brightness = background.getRed() * 299 +
+            background.getGreen() * 587 +
+            background.getBlue() * 114;
+        byte textColor = brightness > 128000
+            ? DARK_TEXT_COLOR
+            : LIGHT_TEXT_COLOR;
+        drawText(pixels, getAbbreviation(quest.getQuestName()), textColor);
+        return pixels;
+    }
+
+    private static byte[] addCompletedOverlay(byte[] plain) {
+        byte[] pixels = plain.clone();
+        for (int y = 0; y < ICON_SIZE; y++) {
+            for (int x = 0; x < ICON_SIZE; x++) {
+                boolean frame =
+                    x < 2 || y < 2 || x >= ICON_SIZE - 2 || y >= ICON_SIZE - 2;
+                // Frame plus a checkered tint over the icon
+                if (frame || (x + y) % 4 == 0) {
+                    pixels[y * ICON_SIZE + x] = COMPLETED_COLOR;
+                }
+            }
+        }
+        return pixels;
+    }
+
+    private static Color getColor(BingoQuest quest) {
+        if (quest instanceof BingoQuestItem) {
+            Material material = ((BingoQuestItem) quest).getMaterial();
+            if (material.isBlock()) {
+                org.bukkit.Color color = material.createBlockData().getMapColor();
+                if (color.asRGB() != 0) {
+                    return new Color(color.getRed(), color.getGreen(), color.getBlue());
+                }
+            }
+        }
+        int index = Math.floorMod(quest.getQuestName().hashCode(), FALLBACK_COLORS.length);
+        return FALLBACK_COLORS[index];
+    }
+
+    /**
+     * Gets up to two letters identifying a quest, the initials of its first
+     * two words or the first two letters of a single word.
+     */
+    private static String getAbbreviation(String questName) {
+        String[] words = questName.split("[_ ]+");
+        if (words.length >= 2 && !words[0].isEmpty() && !words[1].isEmpty()) {
+            return ("" + words[0].charAt(0) + words[1].charAt(0)).toUpperCase();
+        }
+        String word = words.length > 0 ? words[0] : questName;
+        return word.substring(0, Math.min(2, word.length())).toUpperCase();
+    }
+
+    /**
+     * Draws centered text with the Minecraft map font.
+     */
+    private static void drawText(byte[] pixels, String text, byte color) {
+        int width = MinecraftFont.Font.getWidth(text);
+        int height = MinecraftFont.Font.getHeight();
+        int x = (ICON_SIZE - width) / 2;
+        int y = (ICON_SIZE - height) / 2;
+
+        for (char c : text.toCharArray()) {
+            CharacterSprite sprite = MinecraftFont.Font.getChar(c);
+            if (sprite == null) continue;
+            for (int row = 0; row < sprite.getHeight(); row++) {
+                for (int col = 0; col < sprite.getWidth(); col++) {
+                    int px = x + col;
+                    int py = y + row;
+                    if (
+                        sprite.get(row, col) &&
+                        px >= 0 && py >= 0 &&
+                        px < ICON_SIZE && py < ICON_SIZE
+                    ) {
+                        pixels[py * ICON_SIZE + px] = color;
+                    }
+                }
+            }
+            x += sprite.getWidth() + 1;
+        }
+    }
+}
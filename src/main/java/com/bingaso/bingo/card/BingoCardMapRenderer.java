@@ -0,0 +1,107 @@
+package com.bingaso.bingo.card;
+
+import java.util.BitSet;
+
+import org.bukkit.entity.Player;
+import org.bukkit.map.MapCanvas;
+import org.bukkit.map.MapRenderer;
+import org.bukkit.map.MapView;
+
+import com.bingaso.bingo.quest.BingoQuest;
+import com.bingaso.bingo.team.BingoTeam;
+
+/**
+ * Draws the card of one team on a map.
+ * <p>
+ * Slots are copied from the icons rasterised once per card, and only slots
+ * marked dirty are drawn again. Pixels equal to the ones already on the map
+ * are skipped, so the server only sends map data when a slot really changed.
+ * The renderer is not contextual, so every holder of the map shares the
+ * same canvas. Renders run on the main thread, like the quest changes that
+ * mark slots dirty.
+ * </p>
+ *
+ * @since 1.0
+ */
+public class BingoCardMapRenderer extends MapRenderer {
+
+    /** Side of a map in pixels */
+    private static final int MAP_SIZE = 128;
+    /** Distance between the corners of two adjacent slots */
+    private static final int SLOT_SPACING = 25;
+    /** Offset of the first slot from the map corner */
+    private static final int GRID_OFFSET = 2;
+    private static final int GRID_SIZE = 5;
+
+    private final BingoTeam team;
+    private final BingoCardMapIcons icons;
+    /** Slots to draw in the next render */
+    private final BitSet dirtySlots = new BitSet();
+    /** Pixels already drawn on the canvas, row by row, blank at first */
+    private final byte[] shown = new byte[MAP_SIZE * MAP_SIZE];
+
+    /**
+     * Creates a renderer for the card of a team.
+     *
+     * @param team The team whose progress is drawn
+     * @param icons The icons of the card
+     */
+    public BingoCardMapRenderer(BingoTeam team, BingoCardMapIcons icons) {
+        super(false);
+        this.team = team;
+        this.icons = icons;
+        markAllDirty();
+    }
+
+    /**
+     * Marks the slot of a quest to be drawn again.
+     *
+     * @param quest The quest whose completion changed
+     */
+    public void markDirty(BingoQuest quest) {
+        int slot = icons.getSlot(quest);
+        if (slot < 0) return;
+        dirtySlots.set(slot);
+    }
+
+    /**
+     * Marks every slot to be drawn again.
+     */
+    public void markAllDirty() {
+        dirtySlots.set(0, icons.getSlotCount());
+    }
+
+    @Override
+    public void render(MapView map, MapCanvas canvas, Player player) {
+        if (dirtySlots.isEmpty()) return;
+
+        for (
+            int slot = dirtySlots.nextSetBit(0);
+            slot >= 0 && slot < icons.getSlotCount();
+            slot = dirtySlots.nextSetBit(slot + 1)
+        ) {
+            BingoQuest quest = icons.getQuest(slot);
+            boolean completed = quest != null && team.hasCompletedQuest(quest);
+            drawSlot(canvas, slot, icons.getPixels(slot, completed));
+        }
+        dirtySlots.clear();
+    }
+
+    @SuppressWarnings("deprecation")
+    private void drawSlot(MapCanvas canvas, int slot, byte[] pixels) {
+        int size = BingoCardMapIcons.ICON_SIZE;
+        int originX = GRID_OFFSET + (slot % GRID_SIZE) * SLOT_SPACING;
+        int originY = GRID_OFFSET + (slot / GRID_SIZE) * SLOT_SPACING;
+
+        for (int y = 0; y < size; y++) {
+            int row = (originY + y) * MAP_SIZE;
+            for (int x = 0; x < size; x++) {
+                byte color = pixels[y * size + x];
+                int index = row + originX + x;
+                if (shown[index] == color) continue;
+                shown[index] = color;
+                canvas.setPixel(originX + x, originY + y, color);
+            }
+        }
+    }
+}
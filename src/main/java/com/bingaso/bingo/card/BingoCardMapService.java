@@ -0,0 +1,125 @@
+package com.bingaso.bingo.card;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.map.MapRenderer;
+import org.bukkit.map.MapView;
+
+import com.bingaso.bingo.gui.BingoGuiItemFactory;
+import com.bingaso.bingo.quest.BingoQuest;
+import com.bingaso.bingo.team.BingoTeam;
+import com.bingaso.bingo.team.TeamQuestListener;
+
+/**
+ * Keeps one map per team drawing its bingo card, given to players to hold in
+ * the off-hand during a match.
+ * <p>
+ * The icons are rasterised once per card and shared by every team. Quest
+ * changes only mark the affected slot dirty on the renderer of the team.
+ * Map views are kept in a pool and reused by later matches, so every match
+ * does not allocate new map ids in the world.
+ * </p>
+ *
+ * @since 1.0
+ */
+public class BingoCardMapService implements TeamQuestListener {
+
+    /** Map views not used by the current match */
+    private final Deque<MapView> freeMapViews = new ArrayDeque<>();
+    /** Map views of the current match by team */
+    private final Map<BingoTeam, MapView> teamMapViews = new HashMap<>();
+    /** Renderers of the current match by team */
+    private final Map<BingoTeam, BingoCardMapRenderer> renderers =
+        new HashMap<>();
+    private BingoCardMapIcons icons;
+
+    /**
+     * Prepares the maps of every team for a match.
+     *
+     * @param bingoCard The card of the match
+     * @param teams The teams playing the match
+     * @param world The world the map views are created in if the pool is empty
+     */
+    public void start(BingoCard bingoCard, List<BingoTeam> teams, World world) {
+        stop();
+        if (icons == null || icons.getBingoCard() != bingoCard) {
+            icons = new BingoCardMapIcons(bingoCard);
+        }
+
+        for (BingoTeam team : teams) {
+            MapView mapView = freeMapViews.isEmpty()
+                ? createMapView(world)
+                : freeMapViews.pop();
+            BingoCardMapRenderer renderer = new BingoCardMapRenderer(team, icons);
+            mapView.addRenderer(renderer);
+            teamMapViews.put(team, mapView);
+            renderers.put(team, renderer);
+        }
+    }
+
+    /**
+     * Releases the maps of the current match back to the pool.
+     */
+    public void stop() {
+        for (Map.Entry<BingoTeam, MapView> entry : teamMapViews.entrySet()) {
+            MapView mapView = entry.getValue();
+            mapView.removeRenderer(renderers.get(entry.getKey()));
+            freeMapViews.push(mapView);
+        }
+        teamMapViews.clear();
+        renderers.clear();
+    }
+
+    /**
+     * Creates the map item showing the card of a team.
+     *
+     * @param team The team of the player receiving the map
+     * @return The map item, or null if the team has no map in this match
+     */
+    public ItemStack createMapItem(BingoTeam team) {
+        MapView mapView = team != null ? teamMapViews.get(team) : null;
+        if (mapView == null) return null;
+        return BingoGuiItemFactory.createBingoCardMapItem(mapView);
+    }
+
+    private MapView createMapView(World world) {
+        MapView mapView = Bukkit.createMap(world);
+        for (MapRenderer renderer : mapView.getRenderers()) {
+            mapView.removeRenderer(renderer);
+        }
+        mapView.setTrackingPosition(false);
+        mapView.setUnlimitedTracking(false);
+        mapView.setLocked(true);
+        return mapView;
+    }
+
+    @Override
+    public void onQuestCompleted(
+        BingoTeam team,
+        BingoQuest quest,
+        Instant completionTime
+    ) {
+        BingoCardMapRenderer renderer = renderers.get(team);
+        if (renderer != null) renderer.markDirty(quest);
+    }
+
+    @Override
+    public void onQuestCompletionRemoved(BingoTeam team, BingoQuest quest) {
+        BingoCardMapRenderer renderer = renderers.get(team);
+        if (renderer != null) renderer.markDirty(quest);
+    }
+
+    @Override
+    public void onQuestsCleared(BingoTeam team) {
+        BingoCardMapRenderer renderer = renderers.get(team);
+        if (renderer != null) renderer.markAllDirty();
+    }
+}
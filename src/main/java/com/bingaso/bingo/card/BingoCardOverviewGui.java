@@ -0,0 +1,371 @@
+package com.bingaso.bingo.card;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.scheduler.BukkitTask;
+
+import com.bingaso.bingo.BingoPlugin;
+import com.bingaso.bingo.card.BingoCardGui.BingoCardGuiContext;
+import com.bingaso.bingo.gui.BingoGui;
+import com.bingaso.bingo.gui.BingoGuiItem;
+import com.bingaso.bingo.gui.BingoGuiItemFactory;
+import com.bingaso.bingo.gui.BingoGuiSessionManager;
+import com.bingaso.bingo.match.BingoMatch;
+import com.bingaso.bingo.quest.BingoQuest;
+import com.bingaso.bingo.team.BingoTeam;
+import com.bingaso.bingo.team.BingoTeamListener;
+import com.bingaso.bingo.team.TeamQuestListener;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+
+/**
+ * GUI for spectators and casters showing the progress of several teams at
+ * once, one compact row per team.
+ * <p>
+ * Changes only mark the affected teams as dirty. Dirty rows are rebuilt once
+ * and pushed in place to every viewer by a single refresh, which runs at most
+ * once every {@link com.bingaso.bingo.match.BingoMatchSettings#getOverviewRefreshTicks()}
+ * ticks, so the cost does not depend on how many quests are completed.
+ * </p>
+ */
+public class BingoCardOverviewGui extends BingoGui
+    implements TeamQuestListener, BingoTeamListener {
+
+    /** Number of teams shown at once, one per inventory row */
+    private static final int TEAMS_PER_VIEW = 5;
+    /** Number of card rows summarized for every team */
+    private static final int CARD_ROWS = 5;
+    /** Slot of the first card row summary in every team row */
+    private static final int FIRST_CARD_ROW_SLOT = 2;
+    private static final int PREVIOUS_TEAM_SLOT = 45;
+    private static final int NEXT_TEAM_SLOT = 53;
+
+    /** Singleton instance */
+    public static final BingoCardOverviewGui INSTANCE = new BingoCardOverviewGui();
+
+    /** Cached row items of every team, the team item first */
+    private final Map<BingoTeam, ItemStack[]> teamRows = new HashMap<>();
+    /** Card the cached rows were built for */
+    private BingoCard teamRowsCard;
+    /** Teams changed since the last refresh */
+    private final Set<BingoTeam> dirtyTeams = new HashSet<>();
+    /** Whether teams were added or removed since the last refresh */
+    private boolean teamsDirty = false;
+    /** Pending refresh, null if none is scheduled */
+    private BukkitTask refreshTask;
+    /** Server tick of the last refresh */
+    private int lastRefreshTick = 0;
+
+    private BingoCardOverviewGui() {
+        registerClickHandler("bingo_card_next_team_gui_item", this::onTeamArrowClick);
+        registerClickHandler("bingo_card_previous_team_gui_item", this::onTeamArrowClick);
+        registerClickHandler("bingo_card_team_gui_item", this::onTeamClick);
+    }
+
+    /**
+     * Gets the singleton instance of BingoCardOverviewGui.
+     * @return The singleton BingoCardOverviewGui instance
+     */
+    public static BingoCardOverviewGui getInstance() {
+        return INSTANCE;
+    }
+
+    /** Context necessary to open this inventory */
+    public static class BingoCardOverviewGuiContext extends GuiContext {
+
+        /** First team shown, null to start at the first team */
+        public BingoTeam firstTeam;
+
+        public BingoCardOverviewGuiContext(BingoTeam firstTeam) {
+            this.firstTeam = firstTeam;
+        }
+    }
+
+    /**
+     * Creates and returns the overview inventory.
+     * Contains one row per team starting at the first team of the context,
+     * and arrows to scroll through the teams.
+     *
+     * @param context The context for styling
+     * @return The configured overview inventory
+     */
+    @Override
+    public Inventory getInventory(GuiContext context) {
+        Inventory inventory = createInventory(
+            context,
+            54,
+            Component.text("Bingo Overview", NamedTextColor.GOLD, TextDecoration.BOLD)
+        );
+        render(inventory, context);
+        return inventory;
+    }
+
+    /**
+     * Fills an inventory with the teams of the given context.
+     *
+     * @param inventory The inventory to fill
+     * @param context The context of the inventory
+     */
+    private void render(Inventory inventory, GuiContext context) {
+        inventory.clear();
+
+        List<BingoTeam> shownTeams = getShownTeams(getFirstTeam(context));
+        for (int i = 0; i < shownTeams.size(); i++) {
+            renderTeamRow(inventory, i, shownTeams.get(i));
+        }
+
+        List<BingoTeam> teams = getTeams();
+        if (teams.size() > TEAMS_PER_VIEW) {
+            // The arrows scroll by a whole view
+            int first = teams.indexOf(shownTeams.get(0));
+            BingoTeam previousFirstTeam = teams.get(
+                Math.floorMod(first - TEAMS_PER_VIEW, teams.size())
+            );
+            BingoGuiItem previousItem = BingoGuiItemFactory.createPreviousTeamGuiItem(
+                shownTeams.get(0)
+            );
+            previousItem.setCustomString(BingoGuiItem.TEAM, previousFirstTeam.getName());
+            inventory.setItem(PREVIOUS_TEAM_SLOT, previousItem);
+            inventory.setItem(
+                NEXT_TEAM_SLOT,
+                BingoGuiItemFactory.createNextTeamGuiItem(
+                    shownTeams.get(shownTeams.size() - 1)
+                )
+            );
+        }
+    }
+
+    private void renderTeamRow(Inventory inventory, int row, BingoTeam team) {
+        BingoCard bingoCard = BingoPlugin.getInstance().getBingoMatch().getBingoCard();
+        if (bingoCard != teamRowsCard) {
+            teamRows.clear();
+            teamRowsCard = bingoCard;
+        }
+
+        ItemStack[] items = teamRows.computeIfAbsent(team, this::buildTeamRow);
+        inventory.setItem(row * 9, items[0]);
+        for (int i = 0; i < CARD_ROWS; i++) {
+            inventory.setItem(row * 9 + FIRST_CARD_ROW_SLOT + i, items[i + 1]);
+        }
+    }
+
+    private ItemStack[] buildTeamRow(BingoTeam team) {
+        ItemStack[] items = new ItemStack[CARD_ROWS + 1];
+
+        BingoGuiItem teamItem = BingoGuiItemFactory.createTeamGuiItem(team, team);
+        teamItem.setCustomString(BingoGuiItem.TEAM, team.getName());
+        teamItem.setAmount(Math.max(1, team.getCompletedQuests().size()));
+        items[0] = teamItem;
+
+        for (int i = 0; i < CARD_ROWS; i++) {
+            items[i + 1] = BingoGuiItemFactory.createCardRowGuiItem(
+                teamRowsCard,
+                team,
+                i
+            );
+        }
+        return items;
+    }
+
+    /**
+     * Gets the teams shown starting at the given one, in the order used by
+     * the team navigation arrows.
+     */
+    private List<BingoTeam> getShownTeams(BingoTeam firstTeam) {
+        List<BingoTeam> teams = getTeams();
+        List<BingoTeam> shownTeams = new ArrayList<>();
+        if (teams.isEmpty()) return shownTeams;
+
+        int first = Math.max(0, teams.indexOf(firstTeam));
+        int count = Math.min(TEAMS_PER_VIEW, teams.size());
+        for (int i = 0; i < count; i++) {
+            shownTeams.add(teams.get((first + i) % teams.size()));
+        }
+        return shownTeams;
+    }
+
+    private List<BingoTeam> getTeams() {
+        return BingoPlugin.getInstance()
+            .getBingoMatch()
+            .getBingoTeamRepository()
+            .findAll();
+    }
+
+    private BingoTeam getFirstTeam(GuiContext context) {
+        if (context instanceof BingoCardOverviewGuiContext) {
+            return ((BingoCardOverviewGuiContext) context).firstTeam;
+        }
+        return null;
+    }
+
+    /**
+     * Scrolls the overview in place to start at the team of the clicked
+     * navigation arrow.
+     */
+    private void onTeamArrowClick(
+        InventoryClickEvent event,
+        Player player,
+        ItemStack clickedItem,
+        GuiContext context
+    ) {
+        String teamName = BingoGuiItem.getCustomString(clickedItem, BingoGuiItem.TEAM);
+        if (teamName == null) return;
+
+        BingoTeam team = BingoPlugin.getInstance()
+            .getBingoMatch()
+            .getBingoTeamRepository()
+            .findByName(teamName);
+        BingoCardOverviewGuiContext newContext =
+            new BingoCardOverviewGuiContext(team);
+        Inventory inventory = switchContext(player, newContext);
+        if (inventory != null) {
+            render(inventory, newContext);
+        }
+    }
+
+    /**
+     * Opens the full card of the clicked team.
+     */
+    private void onTeamClick(
+        InventoryClickEvent event,
+        Player player,
+        ItemStack clickedItem,
+        GuiContext context
+    ) {
+        String teamName = BingoGuiItem.getCustomString(clickedItem, BingoGuiItem.TEAM);
+        if (teamName == null) return;
+
+        BingoMatch bingoMatch = BingoPlugin.getInstance().getBingoMatch();
+        BingoCardGui.getInstance().openForPlayer(
+            player,
+            new BingoCardGuiContext(
+                bingoMatch.getBingoTeamRepository().findByName(teamName),
+                bingoMatch.getBingoTeamFromPlayer(player),
+                bingoMatch.getBingoCard())
+        );
+    }
+
+    /**
+     * Marks a team as changed and schedules a refresh.
+     *
+     * @param team The changed team
+     */
+    private void markDirty(BingoTeam team) {
+        teamRows.remove(team);
+        dirtyTeams.add(team);
+        scheduleRefresh();
+    }
+
+    /**
+     * Marks the set of teams as changed and schedules a refresh.
+     */
+    private void markTeamsDirty() {
+        teamRows.clear();
+        teamsDirty = true;
+        scheduleRefresh();
+    }
+
+    /**
+     * Schedules a refresh unless one is already pending, respecting the
+     * minimum interval between refreshes.
+     */
+    private void scheduleRefresh() {
+        if (refreshTask != null) return;
+
+        int refreshTicks = BingoPlugin.getInstance()
+            .getBingoMatch()
+            .getMatchSettings()
+            .getOverviewRefreshTicks();
+        long delay = Math.max(
+            1,
+            lastRefreshTick + refreshTicks - Bukkit.getCurrentTick()
+        );
+        refreshTask = Bukkit.getScheduler().runTaskLater(
+            BingoPlugin.getInstance(),
+            this::refresh,
+            delay
+        );
+    }
+
+    /**
+     * Pushes every change since the last refresh to the viewers. Only the
+     * rows of dirty teams are set, unless teams were added or removed.
+     */
+    private void refresh() {
+        refreshTask = null;
+        lastRefreshTick = Bukkit.getCurrentTick();
+
+        Map<Player, GuiContext> viewers =
+            BingoGuiSessionManager.getInstance().getViewers(this);
+        for (Map.Entry<Player, GuiContext> viewer : viewers.entrySet()) {
+            Inventory inventory = getOpenInventory(viewer.getKey());
+            if (inventory == null) continue;
+
+            if (teamsDirty) {
+                render(inventory, viewer.getValue());
+                continue;
+            }
+            List<BingoTeam> shownTeams = getShownTeams(getFirstTeam(viewer.getValue()));
+            for (int i = 0; i < shownTeams.size(); i++) {
+                if (dirtyTeams.contains(shownTeams.get(i))) {
+                    renderTeamRow(inventory, i, shownTeams.get(i));
+                }
+            }
+        }
+
+        dirtyTeams.clear();
+        teamsDirty = false;
+    }
+
+    @Override
+    public void onQuestCompleted(
+        BingoTeam team,
+        BingoQuest quest,
+        Instant completionTime
+    ) {
+        markDirty(team);
+    }
+
+    @Override
+    public void onQuestCompletionRemoved(BingoTeam team, BingoQuest quest) {
+        markDirty(team);
+    }
+
+    @Override
+    public void onQuestsCleared(BingoTeam team) {
+        markDirty(team);
+    }
+
+    @Override
+    public void onTeamPlayersChanged(BingoTeam bingoTeam) {
+        markDirty(bingoTeam);
+    }
+
+    @Override
+    public void onTeamCreated(BingoTeam bingoTeam) {
+        markTeamsDirty();
+    }
+
+    @Override
+    public void onTeamRemoved(BingoTeam bingoTeam) {
+        markTeamsDirty();
+    }
+
+    @Override
+    public void onTeamsCleared() {
+        markTeamsDirty();
+    }
+}
@@ -2,14 +2,16 @@ package com.bingaso.bingo.card;
 
 import com.bingaso.bingo.BingoPlugin;
 import com.bingaso.bingo.card.BingoCardGui.BingoCardGuiContext;
+import com.bingaso.bingo.card.BingoCardOverviewGui.BingoCardOverviewGuiContext;
 import com.bingaso.bingo.command.BingoSubCommand;
 import com.bingaso.bingo.match.BingoMatch;
 import com.bingaso.bingo.match.managers.MatchLifecycleManager.State;
 import com.bingaso.bingo.team.BingoTeam;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.GameMode;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
@@ -61,6 +63,24 @@ public class BingoCardSubCommand implements BingoSubCommand {
             return true;
         }
 
+        if (args.length == 1 && args[0].equalsIgnoreCase("overview")) {
+            if (!player.isOp() && player.getGameMode() != GameMode.SPECTATOR) {
+                player.sendMessage(
+                    Component.text(
+                        "Only spectators can use the overview.",
+                        NamedTextColor.RED
+                    )
+                );
+                return true;
+            }
+
+            BingoCardOverviewGui.getInstance().openForPlayer(
+                player,
+                new BingoCardOverviewGuiContext(null)
+            );
+            return true;
+        }
+
         if (args.length == 0) {
             BingoTeam bingoTeamFromPlayer = gameManager.getBingoTeamFromPlayer(
                 player
@@ -97,8 +117,11 @@ public class BingoCardSubCommand implements BingoSubCommand {
         @NotNull CommandSender sender,
         @NotNull String[] args
     ) {
-        if (args.length == 1 && sender.isOp()) {
-            return Collections.singletonList("reload");
+        if (args.length == 1) {
+            List<String> completions = new ArrayList<>();
+            completions.add("overview");
+            if (sender.isOp()) completions.add("reload");
+            return completions;
         }
         return null;
     }
@@ -112,6 +135,11 @@ public class BingoCardSubCommand implements BingoSubCommand {
                 Component.text(" - Shows the bingo card GUI.")
             )
         );
+        player.sendMessage(
+            Component.text("/bingo card overview", NamedTextColor.GREEN).append(
+                Component.text(" - Shows the progress of every team.")
+            )
+        );
         if (player.isOp()) {
             player.sendMessage(
                 Component.text(
@@ -16,6 +16,9 @@ import org.jetbrains.annotations.Nullable;
 import com.bingaso.bingo.card.BingoCardSubCommand;
 import com.bingaso.bingo.match.BingoMatchSettingsSubCommand;
 import com.bingaso.bingo.match.BingoMatchStartSubCommand;
+import com.bingaso.bingo.match.replay.BingoReplaySubCommand;
+import com.bingaso.bingo.stats.BingoStatsSubCommand;
+import com.bingaso.bingo.stats.BingoTopSubCommand;
 import com.bingaso.bingo.team.select.BingoTeamSubCommand;
 
 import net.kyori.adventure.text.Component;
@@ -31,6 +34,9 @@ public class BingoCommand implements CommandExecutor, TabCompleter {
         subCommands.put("card", new BingoCardSubCommand());
         subCommands.put("start", new BingoMatchStartSubCommand());
         subCommands.put("settings", new BingoMatchSettingsSubCommand());
+        subCommands.put("replay", new BingoReplaySubCommand());
+        subCommands.put("stats", new BingoStatsSubCommand());
+        subCommands.put("top", new BingoTopSubCommand());
     }
 
     @Override
@@ -76,6 +82,9 @@ public class BingoCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(Component.text("/bingo card - Shows the bingo card.", NamedTextColor.GREEN));
         sender.sendMessage(Component.text("/bingo start - Starts the Bingo Game.", NamedTextColor.GREEN));
         sender.sendMessage(Component.text("/bingo settings - Opens the configuration.", NamedTextColor.GREEN));
+        sender.sendMessage(Component.text("/bingo replay - Replays a recorded match.", NamedTextColor.GREEN));
+        sender.sendMessage(Component.text("/bingo stats - Shows the stats of a player.", NamedTextColor.GREEN));
+        sender.sendMessage(Component.text("/bingo top - Shows the leaderboards.", NamedTextColor.GREEN));
     }
     
 }
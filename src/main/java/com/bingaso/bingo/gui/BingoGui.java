@@ -1,22 +1,47 @@
 package com.bingaso.bingo.gui;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
 import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
 
-import java.util.Collections;
+import net.kyori.adventure.text.Component;
 
 public abstract class BingoGui {
 
     /** If context is needed to open the inventory, this structure is used */
     public static abstract class GuiContext {}
 
-    /** Map that contains all players that have this inventory opened */
-    private final HashMap<Player, GuiContext> openPlayers = new HashMap<>();
+    /**
+     * Handles a click on a GUI item of this GUI.
+     */
+    @FunctionalInterface
+    public interface ClickHandler {
+        /**
+         * @param event The click event, already cancelled
+         * @param player The player who clicked
+         * @param clickedItem The clicked GUI item
+         * @param context The context the GUI was opened with
+         */
+        void onClick(
+            InventoryClickEvent event,
+            Player player,
+            ItemStack clickedItem,
+            GuiContext context
+        );
+    }
+
+    /** Click handlers of this GUI by custom_id of the clicked item */
+    private final Map<String, ClickHandler> clickHandlers = new HashMap<>();
+
     /**
      * Opens the GUI for the given player with specified team and player context.
      * @param player The Player to open the GUI for
@@ -25,7 +50,7 @@ public abstract class BingoGui {
      */
     public void openForPlayer(Player player, GuiContext context) {
         player.openInventory(getInventory(context));
-        openPlayers.put(player, context);
+        BingoGuiSessionManager.getInstance().openGui(player, this, context);
     }
 
     /**
@@ -34,7 +59,10 @@ public abstract class BingoGui {
      * @return The configured bingo card GUI inventory
      */
     public boolean isOpenBy(Player player) {
-        return openPlayers.keySet().contains(player);
+        return BingoGuiSessionManager.getInstance().isViewing(
+            player.getUniqueId(),
+            this
+        );
     }
 
     /**
@@ -42,7 +70,9 @@ public abstract class BingoGui {
      * @return unmodifiable list of players with the GUI open
      */
     public List<Player> getOpenPlayers() {
-        return Collections.unmodifiableList(new ArrayList<>(openPlayers.keySet()));
+        return List.copyOf(
+            BingoGuiSessionManager.getInstance().getViewers(this).keySet()
+        );
     }
 
     /**
@@ -50,7 +80,10 @@ public abstract class BingoGui {
      * @param player The player to remove
      */
     public void removeOpenPlayer(Player player) {
-        openPlayers.remove(player);
+        BingoGuiSessionManager.getInstance().closeGui(
+            player.getUniqueId(),
+            this
+        );
     }
 
     /**
@@ -58,14 +91,115 @@ public abstract class BingoGui {
      * Refreshes the GUI for all players who currently have it open.
      */
     public void updateInventories() {
-        HashMap<Player, GuiContext> copyOpenPlayers = new HashMap<>(openPlayers);
-        for (Entry<Player, GuiContext> entry : copyOpenPlayers.entrySet()) {
+        Map<Player, GuiContext> viewers =
+            BingoGuiSessionManager.getInstance().getViewers(this);
+        for (Entry<Player, GuiContext> entry : viewers.entrySet()) {
             Player player = entry.getKey();
             GuiContext context = entry.getValue();
             openForPlayer(player, context);
         }
     }
 
+    /**
+     * Registers the handler called when an item with the given custom_id is
+     * clicked in this GUI.
+     *
+     * @param customId The custom_id of the GUI item
+     * @param handler The handler for clicks on that item
+     */
+    protected void registerClickHandler(String customId, ClickHandler handler) {
+        clickHandlers.put(customId, handler);
+    }
+
+    /**
+     * Dispatches a click made inside an inventory of this GUI.
+     * The click is always cancelled, then routed to the handler registered
+     * for the custom_id of the clicked item, if any.
+     *
+     * @param event The inventory click event
+     * @param holder The holder of the clicked GUI inventory
+     */
+    public void handleClick(InventoryClickEvent event, BingoGuiHolder holder) {
+        event.setCancelled(true);
+        BingoGuiSessionManager.getInstance().touch(
+            event.getWhoClicked().getUniqueId()
+        );
+
+        ItemStack clickedItem = event.getCurrentItem();
+        if (clickedItem == null || clickedItem.getType() == Material.AIR) {
+            return;
+        }
+
+        String customId = BingoGuiItem.getCustomId(clickedItem);
+        if (customId == null) return;
+
+        ClickHandler handler = clickHandlers.get(customId);
+        if (handler == null) return;
+
+        handler.onClick(
+            event,
+            (Player) event.getWhoClicked(),
+            clickedItem,
+            holder.getContext()
+        );
+    }
+
+    /**
+     * Creates an inventory owned by this GUI, so clicks on it are routed to
+     * this GUI by {@link BingoGuiListener}.
+     *
+     * @param context The context the inventory is created with
+     * @param size The size of the inventory
+     * @param title The title of the inventory
+     * @return The new empty inventory
+     */
+    protected Inventory createInventory(
+        GuiContext context,
+        int size,
+        Component title
+    ) {
+        BingoGuiHolder holder = new BingoGuiHolder(this, context);
+        Inventory inventory = Bukkit.createInventory(holder, size, title);
+        holder.setInventory(inventory);
+        return inventory;
+    }
+
+    /**
+     * Gets the inventory of this GUI a player is looking at, so it can be
+     * updated in place instead of being opened again.
+     *
+     * @param player The player viewing the GUI
+     * @return The open inventory, or null if the player is not viewing this GUI
+     */
+    protected Inventory getOpenInventory(Player player) {
+        Inventory inventory = player.getOpenInventory().getTopInventory();
+        InventoryHolder holder = inventory.getHolder(false);
+        if (
+            holder instanceof BingoGuiHolder &&
+            ((BingoGuiHolder) holder).getGui() == this
+        ) {
+            return inventory;
+        }
+        return null;
+    }
+
+    /**
+     * Changes the context of the inventory of this GUI a player is looking
+     * at, so it can be rendered again in place instead of being opened again.
+     *
+     * @param player The player viewing the GUI
+     * @param context The new context of the inventory
+     * @return The open inventory, or null if the player is not viewing this GUI
+     */
+    protected Inventory switchContext(Player player, GuiContext context) {
+        Inventory inventory = getOpenInventory(player);
+        if (inventory == null) return null;
+
+        ((BingoGuiHolder) inventory.getHolder(false)).setContext(context);
+        BingoGuiSessionManager.getInstance().openGui(player, this, context);
+        return inventory;
+    }
+
     /**
      * Gets the inventory for the given BingoPlayer and context.
      * Context is class dependant.
@@ -74,4 +208,4 @@ public abstract class BingoGui {
      * @return The configured inventory for the given context
      */
     public abstract Inventory getInventory(GuiContext context);
-}
\ No newline at end of file
+}
@@ -0,0 +1,58 @@
+package com.bingaso.bingo.gui;
+
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.jetbrains.annotations.NotNull;
+
+import com.bingaso.bingo.gui.BingoGui.GuiContext;
+
+/**
+ * Holder attached to every inventory created by a {@link BingoGui}.
+ * It identifies plugin GUIs without comparing titles or reading items, and
+ * keeps the context the inventory was created with.
+ */
+public class BingoGuiHolder implements InventoryHolder {
+
+    private final BingoGui gui;
+    private GuiContext context;
+    private Inventory inventory;
+
+    /**
+     * @param gui The GUI that owns the inventory
+     * @param context The context the inventory is created with
+     */
+    BingoGuiHolder(BingoGui gui, GuiContext context) {
+        this.gui = gui;
+        this.context = context;
+    }
+
+    /**
+     * @return The GUI that owns the inventory.
+     */
+    public BingoGui getGui() {
+        return gui;
+    }
+
+    /**
+     * @return The context the inventory is currently showing.
+     */
+    public GuiContext getContext() {
+        return context;
+    }
+
+    /**
+     * @param context The new context the inventory is showing.
+     */
+    public void setContext(GuiContext context) {
+        this.context = context;
+    }
+
+    void setInventory(Inventory inventory) {
+        this.inventory = inventory;
+    }
+
+    @Override
+    public @NotNull Inventory getInventory() {
+        return inventory;
+    }
+}
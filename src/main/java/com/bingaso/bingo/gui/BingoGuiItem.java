@@ -1,5 +1,8 @@
 package com.bingaso.bingo.gui;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.inventory.ItemStack;
@@ -14,16 +17,39 @@ import com.bingaso.bingo.BingoPlugin;
  * using Bukkit's persistent data container system.
  */
 public class BingoGuiItem extends ItemStack{
-    
+
+    /** Key under which every GUI item stores its type identifier */
+    public static final String CUSTOM_ID = "custom_id";
+    /** Key under which team related GUI items store the team name */
+    public static final String TEAM = "team";
+
+    /** Interned {@link NamespacedKey}s, one per key name */
+    private static final Map<String, NamespacedKey> KEYS =
+        new ConcurrentHashMap<>();
+
     /**
      * Creates a new GuiItem with the specified material and custom identifier.
-     * 
+     *
      * @param material the material type for this GUI item
      * @param customId the unique identifier for this GUI item type
      */
     public BingoGuiItem(Material material, String customId) {
         super(material);
-        setCustomString("custom_id", customId);
+        setCustomString(CUSTOM_ID, customId);
+    }
+
+    /**
+     * Gets the interned {@link NamespacedKey} for the given key name.
+     * Keys are created once and reused afterwards.
+     *
+     * @param key The key name
+     * @return The plugin namespaced key for that name
+     */
+    public static NamespacedKey getKey(String key) {
+        return KEYS.computeIfAbsent(
+            key,
+            k -> new NamespacedKey(BingoPlugin.getInstance(), k)
+        );
     }
 
     /**
@@ -38,37 +64,67 @@ public class BingoGuiItem extends ItemStack{
         if (itemMeta == null) {
             throw new IllegalArgumentException("ItemStack must have metadata to set custom data");
         }
-        NamespacedKey namespacedKey = new NamespacedKey(BingoPlugin.getInstance(), key);
-        itemMeta.getPersistentDataContainer().set(namespacedKey, PersistentDataType.STRING, value);
+        itemMeta.getPersistentDataContainer().set(getKey(key), PersistentDataType.STRING, value);
         setItemMeta(itemMeta);
     }
 
     /**
      * Checks if an ItemStack is a GuiItem.
-     * 
+     *
      * @param itemStack the ItemStack to check
      * @return true if the ItemStack is a GuiItem false otherwise
      */
     public static boolean isGuiItem(ItemStack itemStack) {
-        return getCustomString(itemStack, "custom_id") != null;
+        return getCustomId(itemStack) != null;
+    }
+
+    /**
+     * Checks if an ItemStack is the plugin item with the given identifier.
+     * The material of the item is compared against the known material of
+     * that GUI item first, so unrelated items are rejected without cloning
+     * their meta.
+     *
+     * @param itemStack the ItemStack to check
+     * @param customId the identifier of the expected GUI item
+     * @return true if the ItemStack is that GUI item, false otherwise
+     */
+    public static boolean isGuiItem(ItemStack itemStack, String customId) {
+        if (itemStack == null) {
+            return false;
+        }
+        Material material = BingoGuiItemTemplates.getMaterial(customId);
+        if (material != null && itemStack.getType() != material) {
+            return false;
+        }
+        return customId.equals(getCustomId(itemStack));
+    }
+
+    /**
+     * Retrieves the custom identifier of a GUI item.
+     *
+     * @param itemStack The ItemStack to query
+     * @return The identifier, or null if the item is not a GUI item
+     */
+    public static String getCustomId(ItemStack itemStack) {
+        return getCustomString(itemStack, CUSTOM_ID);
     }
 
     /**
      * Retrieves a custom string value from the item's persistent data container.
+     * Items without meta are rejected before any meta is cloned.
      *
      * @param itemStack The ItemStack to query
      * @param key The key to retrieve
      * @return The stored value, or null if not present
      */
     public static String getCustomString(ItemStack itemStack, String key) {
-        if (itemStack == null) {
+        if (itemStack == null || !itemStack.hasItemMeta()) {
             return null;
         }
         ItemMeta itemMeta = itemStack.getItemMeta();
         if (itemMeta == null) {
             return null;
         }
-        NamespacedKey namespacedKey = new NamespacedKey(BingoPlugin.getInstance(), key);
-        return itemMeta.getPersistentDataContainer().get(namespacedKey, PersistentDataType.STRING);
+        return itemMeta.getPersistentDataContainer().get(getKey(key), PersistentDataType.STRING);
     }
 }
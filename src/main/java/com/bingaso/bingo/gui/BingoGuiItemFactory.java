@@ -1,19 +1,23 @@
 package com.bingaso.bingo.gui;
 
 import com.bingaso.bingo.BingoPlugin;
+import com.bingaso.bingo.card.BingoCard;
 import com.bingaso.bingo.card.BingoCardGenerator.DifficultyLevel;
 import com.bingaso.bingo.match.BingoMatch;
+import com.bingaso.bingo.match.BingoMatchSettings.AnnouncementMode;
 import com.bingaso.bingo.match.BingoMatchSettings.GameMode;
 import com.bingaso.bingo.match.BingoMatchSettings.TeamMode;
 import com.bingaso.bingo.player.BingoPlayer;
 import com.bingaso.bingo.quest.BingoQuest;
 import com.bingaso.bingo.quest.BingoQuestItem;
 import com.bingaso.bingo.team.BingoTeam;
+import com.bingaso.bingo.team.BingoTeamRepositoryReadOnly;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import org.bukkit.Material;
@@ -21,10 +25,49 @@ import org.bukkit.enchantments.Enchantment;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.inventory.meta.MapMeta;
+import org.bukkit.map.MapView;
 import org.jetbrains.annotations.NotNull;
 
 public class BingoGuiItemFactory {
 
+    /** Identifier of the bingo card item given to players during a match */
+    public static final String BINGO_CARD_ITEM_ID =
+        "bingo_match_bingo_card_item";
+    /** Material of the bingo card item */
+    public static final Material BINGO_CARD_MATERIAL = Material.PAPER;
+    /** Identifier of the map of the bingo card held in the off-hand */
+    public static final String BINGO_CARD_MAP_ITEM_ID =
+        "bingo_match_bingo_card_map_item";
+    /** Material of the map of the bingo card */
+    public static final Material BINGO_CARD_MAP_MATERIAL = Material.FILLED_MAP;
+    /** Identifier of the team selection item given to players in the lobby */
+    public static final String TEAM_SELECTION_ITEM_ID =
+        "bingo_lobby_team_selection_item";
+    /** Identifier of the arrow that goes to the previous page of a paged GUI */
+    public static final String PREVIOUS_PAGE_ITEM_ID =
+        "bingo_previous_page_gui_item";
+    /** Identifier of the arrow that goes to the next page of a paged GUI */
+    public static final String NEXT_PAGE_ITEM_ID = "bingo_next_page_gui_item";
+
+    // Lore lines shared by several items
+    private static final Component CYCLE_MODE_LORE = Component.text(
+        "Click to cycle to the next mode.",
+        NamedTextColor.GRAY
+    );
+    private static final Component CYCLE_LEVEL_LORE = Component.text(
+        "Click to cycle to the next level.",
+        NamedTextColor.GRAY
+    );
+    private static final Component TOGGLE_LORE = Component.text(
+        "Click to toggle.",
+        NamedTextColor.GRAY
+    );
+    private static final Component CURRENT_LORE = Component.text(
+        "Current: ",
+        NamedTextColor.GRAY
+    );
+
     /**
      * Creates an ItemStack representing a specific team.
      * The item appearance changes based on whether the bingoTeamOwned is the
@@ -76,8 +119,23 @@ public class BingoGuiItemFactory {
      * @return ItemStack representing the previous team navigation arrow
      */
     public static BingoGuiItem createPreviousTeamGuiItem(BingoTeam team) {
-        BingoMatch gameManager = BingoPlugin.getInstance().getBingoMatch();
+        return createPreviousTeamGuiItem(
+            team,
+            BingoPlugin.getInstance().getBingoMatch().getBingoTeamRepository()
+        );
+    }
 
+    /**
+     * Creates an arrow ItemStack for navigating to the previous team of the
+     * given teams.
+     * @param team the current team to get the previous team from
+     * @param teams the teams to navigate through
+     * @return ItemStack representing the previous team navigation arrow
+     */
+    public static BingoGuiItem createPreviousTeamGuiItem(
+        BingoTeam team,
+        BingoTeamRepositoryReadOnly teams
+    ) {
         // item itself
         BingoGuiItem itemStack = new BingoGuiItem(
             Material.ARROW,
@@ -89,9 +147,10 @@ public class BingoGuiItemFactory {
         itemMeta.addEnchant(Enchantment.PROTECTION, 1, true);
         itemMeta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
         itemStack.setItemMeta(itemMeta);
+        BingoTeam previousTeam = teams.getPreviousTeam(team);
         itemStack.setCustomString(
-            "team",
-            gameManager.getBingoTeamRepository().getPreviousTeam(team).getName()
+            BingoGuiItem.TEAM,
+            (previousTeam != null ? previousTeam : team).getName()
         );
         return itemStack;
     }
@@ -102,8 +161,23 @@ public class BingoGuiItemFactory {
      * @return ItemStack representing the next team navigation arrow
      */
     public static BingoGuiItem createNextTeamGuiItem(BingoTeam team) {
-        BingoMatch gameManager = BingoPlugin.getInstance().getBingoMatch();
+        return createNextTeamGuiItem(
+            team,
+            BingoPlugin.getInstance().getBingoMatch().getBingoTeamRepository()
+        );
+    }
 
+    /**
+     * Creates an arrow ItemStack for navigating to the next team of the
+     * given teams.
+     * @param team the current team to get the next team from
+     * @param teams the teams to navigate through
+     * @return ItemStack representing the next team navigation arrow
+     */
+    public static BingoGuiItem createNextTeamGuiItem(
+        BingoTeam team,
+        BingoTeamRepositoryReadOnly teams
+    ) {
         // item itself
         BingoGuiItem itemStack = new BingoGuiItem(
             Material.ARROW,
@@ -115,9 +189,10 @@ public class BingoGuiItemFactory {
         itemMeta.addEnchant(Enchantment.PROTECTION, 1, true);
         itemMeta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
         itemStack.setItemMeta(itemMeta);
+        BingoTeam nextTeam = teams.getNextTeam(team);
         itemStack.setCustomString(
-            "team",
-            gameManager.getBingoTeamRepository().getNextTeam(team).getName()
+            BingoGuiItem.TEAM,
+            (nextTeam != null ? nextTeam : team).getName()
         );
         return itemStack;
     }
@@ -133,6 +208,29 @@ public class BingoGuiItemFactory {
         BingoQuest bingoQuest,
         BingoTeam bingoTeamThatCompleted,
         BingoTeam bingoTeamFromWatcher
+    ) {
+        return createCompletedGuiItem(
+            bingoQuest,
+            bingoTeamThatCompleted,
+            bingoTeamFromWatcher,
+            null
+        );
+    }
+
+    /**
+     * Creates a green stained glass pane ItemStack to represent a completed
+     * bingo quest of a match that started at the given instant.
+     * @param bingoQuest The bingo quest that has been completed
+     * @param bingoTeamThatCompleted The bingo team that completed the quest
+     * @param bingoTeamFromWatcher The bingo team from the player watching
+     * @param matchStart The start of the match, null for the running match
+     * @return GuiItem representing the completed state with green styling
+     */
+    public static BingoGuiItem createCompletedGuiItem(
+        BingoQuest bingoQuest,
+        BingoTeam bingoTeamThatCompleted,
+        BingoTeam bingoTeamFromWatcher,
+        Instant matchStart
     ) {
         // style depending on team ownership
         Material material = Material.GREEN_STAINED_GLASS_PANE;
@@ -159,12 +257,12 @@ public class BingoGuiItemFactory {
             bingoQuest
         );
 
-        BingoMatch gameManager = BingoPlugin.getInstance().getBingoMatch();
-        long milliseconds = gameManager.getMatchDurationMilliseconds(
-            completionInstant
-        );
-
         if (completionInstant != null) {
+            long milliseconds = matchStart != null
+                ? completionInstant.toEpochMilli() - matchStart.toEpochMilli()
+                : BingoPlugin.getInstance()
+                    .getBingoMatch()
+                    .getMatchDurationMilliseconds(completionInstant);
             long totalSeconds = milliseconds / 1000;
             long hours = totalSeconds / 3600;
             long minutes = (totalSeconds % 3600) / 60;
@@ -209,11 +307,159 @@ public class BingoGuiItemFactory {
         return itemStack;
     }
 
+    /**
+     * Creates an ItemStack for a quest the shown team has not completed yet
+     * but other teams have, listing those teams in their colors.
+     *
+     * @param material The material of the quest
+     * @param owners The teams that completed the quest
+     * @return GuiItem representing the quest with its claims
+     */
+    public static BingoGuiItem createClaimedGuiItem(
+        Material material,
+        List<BingoTeam> owners
+    ) {
+        List<Component> teamNames = new ArrayList<>(owners.size());
+        for (BingoTeam owner : owners) {
+            teamNames.add(Component.text(owner.getName(), owner.getColor()));
+        }
+
+        BingoGuiItem itemStack = new BingoGuiItem(
+            material,
+            "bingo_card_claimed_gui_item"
+        );
+        ItemMeta itemMeta = itemStack.getItemMeta();
+        itemMeta.lore(
+            List.of(
+                Component.text("Claimed by: ", NamedTextColor.GRAY).append(
+                    Component.join(
+                        JoinConfiguration.separator(
+                            Component.text(", ", NamedTextColor.GRAY)
+                        ),
+                        teamNames
+                    )
+                )
+            )
+        );
+        itemStack.setItemMeta(itemMeta);
+        return itemStack;
+    }
+
+    /**
+     * Creates an ItemStack summarizing one row of the bingo card for a team.
+     * The pane is lime when the row is complete, yellow when it is started
+     * and gray otherwise, and its amount is the number of completed quests.
+     *
+     * @param bingoCard The bingo card of the match
+     * @param bingoTeam The team whose progress is shown
+     * @param row The row of the card, starting at 0
+     * @return GuiItem representing the progress of the team on the row
+     */
+    public static BingoGuiItem createCardRowGuiItem(
+        BingoCard bingoCard,
+        BingoTeam bingoTeam,
+        int row
+    ) {
+        List<BingoQuest> quests = bingoCard.getItems();
+        int rowSize = (int) Math.sqrt(quests.size());
+
+        // lore
+        List<Component> lore = new ArrayList<>();
+        int completed = 0;
+        for (int col = 0; col < rowSize; col++) {
+            BingoQuest quest = quests.get(row * rowSize + col);
+            if (quest == null) continue;
+            if (bingoTeam.hasCompletedQuest(quest)) {
+                completed++;
+                lore.add(
+                    Component.text(
+                        "\u2714 " + quest.getQuestName(),
+                        NamedTextColor.GREEN
+                    )
+                );
+            } else {
+                lore.add(
+                    Component.text(
+                        "\u2718 " + quest.getQuestName(),
+                        NamedTextColor.GRAY
+                    )
+                );
+            }
+        }
+
+        // style depending on progress
+        Material material = Material.GRAY_STAINED_GLASS_PANE;
+        NamedTextColor namedTextColor = NamedTextColor.GRAY;
+        if (completed == rowSize) {
+            material = Material.LIME_STAINED_GLASS_PANE;
+            namedTextColor = NamedTextColor.GREEN;
+        } else if (completed > 0) {
+            material = Material.YELLOW_STAINED_GLASS_PANE;
+            namedTextColor = NamedTextColor.YELLOW;
+        }
+
+        // item itself
+        BingoGuiItem itemStack = new BingoGuiItem(
+            material,
+            "bingo_card_overview_row_gui_item"
+        );
+        itemStack.setAmount(Math.max(1, completed));
+        ItemMeta itemMeta = itemStack.getItemMeta();
+
+        itemMeta.displayName(
+            Component.text(
+                "Row " + (row + 1) + ": " + completed + "/" + rowSize,
+                namedTextColor
+            )
+        );
+        itemMeta.lore(lore);
+        itemStack.setItemMeta(itemMeta);
+        return itemStack;
+    }
+
+    /**
+     * Creates an ItemStack to go to the previous page of a paged GUI.
+     * @return GuiItem representing the "Previous Page" option
+     */
+    public static ItemStack createPreviousPageGuiItem() {
+        return BingoGuiItemTemplates.get(
+            PREVIOUS_PAGE_ITEM_ID,
+            () -> buildPageGuiItem(PREVIOUS_PAGE_ITEM_ID, "Previous Page")
+        );
+    }
+
+    /**
+     * Creates an ItemStack to go to the next page of a paged GUI.
+     * @return GuiItem representing the "Next Page" option
+     */
+    public static ItemStack createNextPageGuiItem() {
+        return BingoGuiItemTemplates.get(
+            NEXT_PAGE_ITEM_ID,
+            () -> buildPageGuiItem(NEXT_PAGE_ITEM_ID, "Next Page")
+        );
+    }
+
+    private static BingoGuiItem buildPageGuiItem(String customId, String name) {
+        BingoGuiItem itemStack = new BingoGuiItem(Material.ARROW, customId);
+        ItemMeta itemMeta = itemStack.getItemMeta();
+
+        itemMeta.displayName(Component.text(name));
+        itemStack.setItemMeta(itemMeta);
+        return itemStack;
+    }
+
     /**
      * Creates an ItemStack for creating a new team.
      * @return GuiItem representing the "Create New Team" option
      */
-    public static BingoGuiItem createNewTeamGuiItem() {
+    public static ItemStack createNewTeamGuiItem() {
+        return BingoGuiItemTemplates.get(
+            "bingo_team_new_team_gui_item",
+            BingoGuiItemFactory::buildNewTeamGuiItem
+        );
+    }
+
+    private static BingoGuiItem buildNewTeamGuiItem() {
         // item itself
         BingoGuiItem itemStack = new BingoGuiItem(
             Material.WHITE_WOOL,
@@ -293,7 +539,7 @@ public class BingoGuiItemFactory {
         );
         itemMeta.lore(lore);
         itemStack.setItemMeta(itemMeta);
-        itemStack.setCustomString("team", team.getName());
+        itemStack.setCustomString(BingoGuiItem.TEAM, team.getName());
         return itemStack;
     }
 
@@ -304,17 +550,20 @@ public class BingoGuiItemFactory {
      * @param currentMode The currently selected team mode
      * @return A configured GuiItem for team mode selection
      */
-    public static BingoGuiItem createTeamModeGuiItem(TeamMode currentMode) {
+    public static ItemStack createTeamModeGuiItem(TeamMode currentMode) {
+        return BingoGuiItemTemplates.get(
+            "bingo_config_team_mode_gui_item",
+            currentMode,
+            () -> buildTeamModeGuiItem(currentMode)
+        );
+    }
+
+    private static BingoGuiItem buildTeamModeGuiItem(TeamMode currentMode) {
         // lore
         List<Component> lore = new ArrayList<>();
+        lore.add(CYCLE_MODE_LORE);
         lore.add(
-            Component.text(
-                "Click to cycle to the next mode.",
-                NamedTextColor.GRAY
-            )
-        );
-        lore.add(
-            Component.text("Current: ", NamedTextColor.GRAY).append(
+            CURRENT_LORE.append(
                 Component.text(currentMode.name(), NamedTextColor.YELLOW)
             )
         );
@@ -339,19 +588,24 @@ public class BingoGuiItemFactory {
      * @param currentLevel The currently selected difficulty level
      * @return A configured GuiItem for difficulty selection
      */
-    public static BingoGuiItem createDifficultyGuiItem(
+    public static ItemStack createDifficultyGuiItem(
+        DifficultyLevel currentLevel
+    ) {
+        return BingoGuiItemTemplates.get(
+            "bingo_config_difficulty_gui_item",
+            currentLevel,
+            () -> buildDifficultyGuiItem(currentLevel)
+        );
+    }
+
+    private static BingoGuiItem buildDifficultyGuiItem(
         DifficultyLevel currentLevel
     ) {
         // lore
         List<Component> lore = new ArrayList<>();
+        lore.add(CYCLE_LEVEL_LORE);
         lore.add(
-            Component.text(
-                "Click to cycle to the next level.",
-                NamedTextColor.GRAY
-            )
-        );
-        lore.add(
-            Component.text("Current: ", NamedTextColor.GRAY).append(
+            CURRENT_LORE.append(
                 Component.text(currentLevel.name(), NamedTextColor.YELLOW)
             )
         );
@@ -377,7 +631,15 @@ public class BingoGuiItemFactory {
      * @param currentDuration The current game duration in minutes
      * @return A configured GuiItem for duration adjustment
      */
-    public static BingoGuiItem createDurationGuiItem(int currentDuration) {
+    public static ItemStack createDurationGuiItem(int currentDuration) {
+        return BingoGuiItemTemplates.get(
+            "bingo_config_duration_gui_item",
+            currentDuration,
+            () -> buildDurationGuiItem(currentDuration)
+        );
+    }
+
+    private static BingoGuiItem buildDurationGuiItem(int currentDuration) {
         // lore
         List<Component> lore = new ArrayList<>();
         lore.add(
@@ -390,7 +652,7 @@ public class BingoGuiItemFactory {
             )
         );
         lore.add(
-            Component.text("Current: ", NamedTextColor.GRAY).append(
+            CURRENT_LORE.append(
                 Component.text(
                     currentDuration + " minutes",
                     NamedTextColor.YELLOW
@@ -413,23 +675,119 @@ public class BingoGuiItemFactory {
     }
 
     /**
-     * Creates a GUI item for selecting the game mode.
-     * The item displays the current game mode and instructions for changing it.
-     *
-     * @param currentMode The currently selected game mode
-     * @return A configured GuiItem for game mode selection
+     * Creates a GUI item for selecting the refresh interval of the card
+     * overview.
+     * @param currentTicks The current refresh interval in ticks
+     * @return GuiItem representing the refresh interval selection option
+     */
+    public static ItemStack createOverviewRefreshGuiItem(int currentTicks) {
+        return BingoGuiItemTemplates.get(
+            "bingo_config_overview_refresh_gui_item",
+            currentTicks,
+            () -> buildOverviewRefreshGuiItem(currentTicks)
+        );
+    }
+    private static BingoGuiItem buildOverviewRefreshGuiItem(int currentTicks) {
+        // lore
+        List<Component> lore = new ArrayList<>();
+        lore.add(
+            Component.text(
+                "Minimum time between two refreshes",
+                NamedTextColor.GRAY
+            )
+        );
+        lore.add(
+            Component.text("of the card overview.", NamedTextColor.GRAY)
+        );
+        lore.add(CYCLE_LEVEL_LORE);
+        lore.add(
+            CURRENT_LORE.append(
+                Component.text(currentTicks + " ticks", NamedTextColor.YELLOW)
+            )
+        );
+
+        // item itself
+        BingoGuiItem itemStack = new BingoGuiItem(
+            Material.SPYGLASS,
+            "bingo_config_overview_refresh_gui_item"
+        );
+        ItemMeta itemMeta = itemStack.getItemMeta();
+        itemMeta.displayName(
+            Component.text("Overview Refresh", NamedTextColor.AQUA)
+        );
+        itemMeta.lore(lore);
+        itemStack.setItemMeta(itemMeta);
+        return itemStack;
+    }
+
+    /**
+     * Creates a GUI item for selecting how found items are announced.
+     * @param currentMode The current announcement mode
+     * @return GuiItem representing the announcement mode selection option
      */
-    public static BingoGuiItem createGameModeGuiItem(GameMode currentMode) {
+    public static ItemStack createAnnouncementModeGuiItem(
+        AnnouncementMode currentMode
+    ) {
+        return BingoGuiItemTemplates.get(
+            "bingo_config_announcement_mode_gui_item",
+            currentMode,
+            () -> buildAnnouncementModeGuiItem(currentMode)
+        );
+    }
+
+    private static BingoGuiItem buildAnnouncementModeGuiItem(
+        AnnouncementMode currentMode
+    ) {
         // lore
         List<Component> lore = new ArrayList<>();
         lore.add(
             Component.text(
-                "Click to cycle to the next mode.",
+                "How found items are announced in chat.",
                 NamedTextColor.GRAY
             )
         );
+        lore.add(CYCLE_MODE_LORE);
+        lore.add(
+            CURRENT_LORE.append(
+                Component.text(currentMode.name(), NamedTextColor.YELLOW)
+            )
+        );
+
+        // item itself
+        BingoGuiItem itemStack = new BingoGuiItem(
+            Material.BELL,
+            "bingo_config_announcement_mode_gui_item"
+        );
+        ItemMeta itemMeta = itemStack.getItemMeta();
+        itemMeta.displayName(
+            Component.text("Announcements", NamedTextColor.AQUA)
+        );
+        itemMeta.lore(lore);
+        itemStack.setItemMeta(itemMeta);
+        return itemStack;
+    }
+
+    /**
+     * Creates a GUI item for selecting the game mode.
+     * The item displays the current game mode and instructions for changing it.
+     *
+     * @param currentMode The currently selected game mode
+     * @return A configured GuiItem for game mode selection
+     */
+    public static ItemStack createGameModeGuiItem(GameMode currentMode) {
+        return BingoGuiItemTemplates.get(
+            "bingo_config_gamemode_gui_item",
+            currentMode,
+            () -> buildGameModeGuiItem(currentMode)
+        );
+    }
+
+    private static BingoGuiItem buildGameModeGuiItem(GameMode currentMode) {
+        // lore
+        List<Component> lore = new ArrayList<>();
+        lore.add(CYCLE_MODE_LORE);
         lore.add(
-            Component.text("Current: ", NamedTextColor.GRAY).append(
+            CURRENT_LORE.append(
                 Component.text(currentMode.name(), NamedTextColor.YELLOW)
             )
         );
@@ -446,7 +804,17 @@ public class BingoGuiItemFactory {
         return itemStack;
     }
 
-    public static BingoGuiItem createEnableRobbersModeGuiItem(
+    public static ItemStack createEnableRobbersModeGuiItem(
+        boolean robbersMode
+    ) {
+        return BingoGuiItemTemplates.get(
+            "bingo_config_robbers_mode_gui_item",
+            robbersMode,
+            () -> buildEnableRobbersModeGuiItem(robbersMode)
+        );
+    }
+
+    private static BingoGuiItem buildEnableRobbersModeGuiItem(
         boolean robbersMode
     ) {
         Material material = robbersMode
@@ -458,9 +826,9 @@ public class BingoGuiItemFactory {
             : NamedTextColor.RED;
 
         List<Component> lore = new ArrayList<>();
-        lore.add(Component.text("Click to toggle.", NamedTextColor.GRAY));
+        lore.add(TOGGLE_LORE);
         lore.add(
-            Component.text("Current: ", NamedTextColor.GRAY).append(
+            CURRENT_LORE.append(
                 Component.text(status, statusColor)
             )
         );
@@ -479,7 +847,15 @@ public class BingoGuiItemFactory {
         return itemStack;
     }
 
-    public static BingoGuiItem createIsTimedGuiItem(boolean isTimed) {
+    public static ItemStack createIsTimedGuiItem(boolean isTimed) {
+        return BingoGuiItemTemplates.get(
+            "bingo_config_is_timed_gui_item",
+            isTimed,
+            () -> buildIsTimedGuiItem(isTimed)
+        );
+    }
+
+    private static BingoGuiItem buildIsTimedGuiItem(boolean isTimed) {
         Material material = isTimed ? Material.LIME_DYE : Material.GRAY_DYE;
         String status = isTimed ? "Enabled" : "Disabled";
         NamedTextColor statusColor = isTimed
@@ -487,9 +863,9 @@ public class BingoGuiItemFactory {
             : NamedTextColor.RED;
 
         List<Component> lore = new ArrayList<>();
-        lore.add(Component.text("Click to toggle.", NamedTextColor.GRAY));
+        lore.add(TOGGLE_LORE);
         lore.add(
-            Component.text("Current: ", NamedTextColor.GRAY).append(
+            CURRENT_LORE.append(
                 Component.text(status, statusColor)
             )
         );
@@ -509,9 +885,16 @@ public class BingoGuiItemFactory {
     }
 
     public static @NotNull ItemStack createTeamSelectionItem() {
+        return BingoGuiItemTemplates.get(
+            TEAM_SELECTION_ITEM_ID,
+            BingoGuiItemFactory::buildTeamSelectionItem
+        );
+    }
+
+    private static BingoGuiItem buildTeamSelectionItem() {
         BingoGuiItem itemStack = new BingoGuiItem(
             Material.COMPASS,
-            "bingo_lobby_team_selection_item"
+            TEAM_SELECTION_ITEM_ID
         );
         ItemMeta itemMeta = itemStack.getItemMeta();
 
@@ -525,9 +908,16 @@ public class BingoGuiItemFactory {
     }
 
     public static @NotNull ItemStack createBingoCardItem() {
+        return BingoGuiItemTemplates.get(
+            BINGO_CARD_ITEM_ID,
+            BingoGuiItemFactory::buildBingoCardItem
+        );
+    }
+
+    private static BingoGuiItem buildBingoCardItem() {
         BingoGuiItem itemStack = new BingoGuiItem(
-            Material.PAPER,
-            "bingo_match_bingo_card_item"
+            BINGO_CARD_MATERIAL,
+            BINGO_CARD_ITEM_ID
         );
         ItemMeta itemMeta = itemStack.getItemMeta();
 
@@ -538,4 +928,28 @@ public class BingoGuiItemFactory {
         itemStack.setItemMeta(itemMeta);
         return itemStack;
     }
+
+    /**
+     * Creates the map showing the bingo card of a team, meant to be held in
+     * the off-hand during a match.
+     *
+     * @param mapView The map view drawing the card of the team
+     * @return ItemStack of the filled map
+     */
+    public static @NotNull BingoGuiItem createBingoCardMapItem(
+        MapView mapView
+    ) {
+        BingoGuiItem itemStack = new BingoGuiItem(
+            BINGO_CARD_MAP_MATERIAL,
+            BINGO_CARD_MAP_ITEM_ID
+        );
+        MapMeta mapMeta = (MapMeta) itemStack.getItemMeta();
+
+        mapMeta.displayName(Component.text("Bingo Card", NamedTextColor.AQUA));
+        mapMeta.setMapView(mapView);
+        mapMeta.addEnchant(Enchantment.VANISHING_CURSE, 1, true);
+        mapMeta.addItemFlags(ItemFlag.HIDE_ENCHANTS);
+        itemStack.setItemMeta(mapMeta);
+        return itemStack;
+    }
 }
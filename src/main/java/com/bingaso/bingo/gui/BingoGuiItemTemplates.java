@@ -0,0 +1,84 @@
+package com.bingaso.bingo.gui;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Registry of prebuilt GUI items.
+ * Items that never change once built are created the first time they are
+ * requested and stored as templates. Callers always receive a clone, so the
+ * stored templates are never modified.
+ */
+public final class BingoGuiItemTemplates {
+
+    /** Templates by key, a key is the custom id plus an optional variant */
+    private static final Map<String, ItemStack> TEMPLATES = new HashMap<>();
+    /**
+     * Material of the items checked on every click, drop and death, by
+     * custom id. Known up front, since the map item is never a template.
+     */
+    private static final Map<String, Material> MATERIALS = Map.of(
+        BingoGuiItemFactory.BINGO_CARD_ITEM_ID,
+        BingoGuiItemFactory.BINGO_CARD_MATERIAL,
+        BingoGuiItemFactory.BINGO_CARD_MAP_ITEM_ID,
+        BingoGuiItemFactory.BINGO_CARD_MAP_MATERIAL
+    );
+
+    private BingoGuiItemTemplates() {}
+
+    /**
+     * Gets a copy of the template with the given key, building it first if it
+     * is not registered yet.
+     *
+     * @param key The template key
+     * @param builder Builds the template the first time it is requested
+     * @return A new copy of the template
+     */
+    public static ItemStack get(String key, Supplier<BingoGuiItem> builder) {
+        ItemStack template = TEMPLATES.get(key);
+        if (template == null) {
+            template = builder.get();
+            TEMPLATES.put(key, template);
+        }
+        return template.clone();
+    }
+
+    /**
+     * Gets a copy of the template of a GUI item that has several variants,
+     * such as one per configuration value.
+     *
+     * @param customId The custom id of the item
+     * @param variant The variant of the item
+     * @param builder Builds the template the first time it is requested
+     * @return A new copy of the template
+     */
+    public static ItemStack get(
+        String customId,
+        Object variant,
+        Supplier<BingoGuiItem> builder
+    ) {
+        return get(customId + ":" + variant, builder);
+    }
+
+    /**
+     * Gets the material of a GUI item that is checked on hot paths.
+     *
+     * @param customId The custom id of the item
+     * @return The material, or null if the item has no known material
+     */
+    public static Material getMaterial(String customId) {
+        return MATERIALS.get(customId);
+    }
+
+    /**
+     * Removes every template. Needed if the plugin is reloaded, since items
+     * carry keys bound to the plugin instance.
+     */
+    public static void clear() {
+        TEMPLATES.clear();
+    }
+}
@@ -0,0 +1,81 @@
+package com.bingaso.bingo.gui;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.InventoryHolder;
+
+/**
+ * Single listener for every plugin GUI.
+ * Plugin inventories are recognised by their {@link BingoGuiHolder}, clicks
+ * on any other inventory return immediately.
+ */
+public class BingoGuiListener implements Listener {
+
+    /**
+     * Routes clicks inside a plugin GUI to the GUI that owns it.
+     *
+     * @param event The inventory click event
+     */
+    @EventHandler
+    public void onInventoryClick(InventoryClickEvent event) {
+        BingoGuiHolder holder = getHolder(event.getInventory().getHolder(false));
+        if (holder == null) return;
+
+        holder.getGui().handleClick(event, holder);
+    }
+
+    /**
+     * Prevents items from being dragged into a plugin GUI.
+     *
+     * @param event The inventory drag event
+     */
+    @EventHandler
+    public void onInventoryDrag(InventoryDragEvent event) {
+        if (getHolder(event.getInventory().getHolder(false)) == null) return;
+
+        int topSize = event.getView().getTopInventory().getSize();
+        for (int slot : event.getRawSlots()) {
+            if (slot < topSize) {
+                event.setCancelled(true);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Removes the player from the open players of the GUI being closed.
+     *
+     * @param event The inventory close event
+     */
+    @EventHandler
+    public void onInventoryClose(InventoryCloseEvent event) {
+        BingoGuiHolder holder = getHolder(event.getInventory().getHolder(false));
+        if (holder == null) return;
+
+        holder.getGui().removeOpenPlayer((Player) event.getPlayer());
+    }
+
+    /**
+     * Ends every GUI session of a player leaving the server.
+     *
+     * @param event The player quit event
+     */
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        BingoGuiSessionManager.getInstance().removePlayer(
+            event.getPlayer().getUniqueId()
+        );
+    }
+
+    private BingoGuiHolder getHolder(InventoryHolder holder) {
+        if (holder instanceof BingoGuiHolder) {
+            return (BingoGuiHolder) holder;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,338 @@
+package com.bingaso.bingo.gui;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import com.bingaso.bingo.gui.BingoGui.GuiContext;
+
+/**
+ * Keeps track of every open GUI and pending text capture by player UUID.
+ * <p>
+ * Sessions never hold a {@link Player}, so a player that leaves the server
+ * can always be garbage collected. Sessions are removed when the player
+ * closes the GUI or quits. Sessions idle for too long are found with a timer
+ * wheel that advances once per second, so checking them costs nothing for
+ * sessions that are still active.
+ * </p>
+ * <p>
+ * An idle GUI that the player still has open is left open, so a spectator
+ * can watch a GUI without clicking. Only a session whose GUI is no longer
+ * on top of the player's view, because a close event was missed, is dropped.
+ * </p>
+ * <p>
+ * Pending text captures that are abandoned are completed exceptionally with
+ * a {@link SessionExpiredException}, so nothing waits on them forever.
+ * </p>
+ */
+public class BingoGuiSessionManager {
+
+    /**
+     * Exception used to complete text captures that were abandoned, either
+     * because the player quit or because they took too long to answer.
+     */
+    public static class SessionExpiredException extends Exception {
+
+        /**
+         * @param reason Why the session ended
+         */
+        public SessionExpiredException(String reason) {
+            super("GUI session expired: " + reason);
+        }
+    }
+
+    /** Singleton instance */
+    public static final BingoGuiSessionManager INSTANCE =
+        new BingoGuiSessionManager();
+
+    /** Seconds without clicks after which a GUI session is checked */
+    public static final int GUI_IDLE_TIMEOUT_SECONDS = 300;
+    /** Seconds a player has to answer a text capture */
+    public static final int CAPTURE_TIMEOUT_SECONDS = 120;
+    /** Number of one second slots of the timer wheel */
+    private static final int WHEEL_SLOTS = 64;
+
+    /** Base of both kinds of sessions, scheduled on the timer wheel */
+    private abstract static class Session {
+
+        final UUID playerId;
+        /** Second at which the session expires if it is not touched */
+        long deadline;
+
+        Session(UUID playerId) {
+            this.playerId = playerId;
+        }
+    }
+
+    /** An inventory GUI opened by a player */
+    private static class GuiSession extends Session {
+
+        final BingoGui gui;
+        final GuiContext context;
+
+        GuiSession(UUID playerId, BingoGui gui, GuiContext context) {
+            super(playerId);
+            this.gui = gui;
+            this.context = context;
+        }
+    }
+
+    /** A text capture waiting for the player to answer */
+    private static class CaptureSession extends Session {
+
+        final BingoTextCaptureGui capture;
+
+        CaptureSession(UUID playerId, BingoTextCaptureGui capture) {
+            super(playerId);
+            this.capture = capture;
+        }
+    }
+
+    private final Map<UUID, GuiSession> guiSessions = new HashMap<>();
+    private final Map<UUID, CaptureSession> captureSessions = new HashMap<>();
+
+    /**
+     * Timer wheel, a session is stored in the slot of its deadline. Sessions
+     * removed or touched in the meantime are skipped or rescheduled when their
+     * slot is reached.
+     */
+    @SuppressWarnings("unchecked")
+    private final List<Session>[] wheel = new List[WHEEL_SLOTS];
+    /** Seconds elapsed since the wheel started */
+    private long currentSecond = 0;
+    private BukkitTask wheelTask;
+
+    private BingoGuiSessionManager() {
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Gets the singleton instance of BingoGuiSessionManager.
+     * @return The singleton BingoGuiSessionManager instance
+     */
+    public static BingoGuiSessionManager getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts advancing the timer wheel once per second.
+     *
+     * @param plugin The plugin that owns the task
+     */
+    public void start(Plugin plugin) {
+        if (wheelTask != null) return;
+        wheelTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 20L, 20L);
+    }
+
+    /**
+     * Stops the timer wheel and ends every session. Pending text captures are
+     * completed exceptionally.
+     */
+    public void stop() {
+        if (wheelTask != null) {
+            wheelTask.cancel();
+            wheelTask = null;
+        }
+        for (CaptureSession session : new ArrayList<>(captureSessions.values())) {
+            abandonCapture(session, "plugin disabled");
+        }
+        guiSessions.clear();
+        captureSessions.clear();
+        for (List<Session> slot : wheel) {
+            slot.clear();
+        }
+    }
+
+    /**
+     * Registers that a player opened a GUI. Any previous GUI session of the
+     * player is replaced.
+     *
+     * @param player The player who opened the GUI
+     * @param gui The GUI opened
+     * @param context The context the GUI was opened with
+     */
+    public void openGui(Player player, BingoGui gui, GuiContext context) {
+        GuiSession session = new GuiSession(player.getUniqueId(), gui, context);
+        guiSessions.put(session.playerId, session);
+        schedule(session, GUI_IDLE_TIMEOUT_SECONDS);
+    }
+
+    /**
+     * Removes the GUI session of a player if it belongs to the given GUI.
+     *
+     * @param playerId The UUID of the player
+     * @param gui The GUI being closed
+     */
+    public void closeGui(UUID playerId, BingoGui gui) {
+        GuiSession session = guiSessions.get(playerId);
+        if (session != null && session.gui == gui) {
+            guiSessions.remove(playerId);
+        }
+    }
+
+    /**
+     * Checks if a player has the given GUI open.
+     *
+     * @param playerId The UUID of the player
+     * @param gui The GUI to check
+     * @return True if the player's current GUI session belongs to the GUI
+     */
+    public boolean isViewing(UUID playerId, BingoGui gui) {
+        GuiSession session = guiSessions.get(playerId);
+        return session != null && session.gui == gui;
+    }
+
+    /**
+     * Gets the online players viewing a GUI along with the context each one
+     * opened it with.
+     *
+     * @param gui The GUI to look for
+     * @return New map of the viewers of the GUI to their contexts
+     */
+    public Map<Player, GuiContext> getViewers(BingoGui gui) {
+        Map<Player, GuiContext> viewers = new LinkedHashMap<>();
+        for (GuiSession session : guiSessions.values()) {
+            if (session.gui != gui) continue;
+            Player player = Bukkit.getPlayer(session.playerId);
+            if (player != null) {
+                viewers.put(player, session.context);
+            }
+        }
+        return viewers;
+    }
+
+    /**
+     * Marks the GUI session of a player as active, postponing its expiry.
+     *
+     * @param playerId The UUID of the player
+     */
+    public void touch(UUID playerId) {
+        GuiSession session = guiSessions.get(playerId);
+        if (session != null) {
+            session.deadline = currentSecond + GUI_IDLE_TIMEOUT_SECONDS;
+        }
+    }
+
+    /**
+     * Registers a pending text capture. A previous capture of the same player
+     * that is still pending is abandoned.
+     *
+     * @param playerId The UUID of the player answering
+     * @param capture The text capture
+     */
+    public void startCapture(UUID playerId, BingoTextCaptureGui capture) {
+        CaptureSession previous = captureSessions.get(playerId);
+        if (previous != null) {
+            abandonCapture(previous, "replaced by a new capture");
+        }
+        CaptureSession session = new CaptureSession(playerId, capture);
+        captureSessions.put(playerId, session);
+        schedule(session, CAPTURE_TIMEOUT_SECONDS);
+    }
+
+    /**
+     * Removes a text capture once it has been answered or has failed.
+     *
+     * @param playerId The UUID of the player
+     * @param capture The finished text capture
+     */
+    public void finishCapture(UUID playerId, BingoTextCaptureGui capture) {
+        CaptureSession session = captureSessions.get(playerId);
+        if (session != null && session.capture == capture) {
+            captureSessions.remove(playerId);
+        }
+    }
+
+    /**
+     * Ends every session of a player that left the server.
+     *
+     * @param playerId The UUID of the player
+     */
+    public void removePlayer(UUID playerId) {
+        guiSessions.remove(playerId);
+        CaptureSession capture = captureSessions.get(playerId);
+        if (capture != null) {
+            abandonCapture(capture, "player quit");
+        }
+    }
+
+    private void schedule(Session session, int timeoutSeconds) {
+        session.deadline = currentSecond + timeoutSeconds;
+        wheel[(int) (session.deadline % WHEEL_SLOTS)].add(session);
+    }
+
+    /**
+     * Advances the wheel one second and expires the sessions of the reached
+     * slot whose deadline has passed.
+     */
+    private void tick() {
+        currentSecond++;
+        List<Session> slot = wheel[(int) (currentSecond % WHEEL_SLOTS)];
+        if (slot.isEmpty()) return;
+
+        List<Session> due = new ArrayList<>(slot);
+        slot.clear();
+        for (Session session : due) {
+            if (!isRegistered(session)) continue;
+            if (session.deadline > currentSecond) {
+                wheel[(int) (session.deadline % WHEEL_SLOTS)].add(session);
+                continue;
+            }
+            expire(session);
+        }
+    }
+
+    private boolean isRegistered(Session session) {
+        if (session instanceof GuiSession) {
+            return guiSessions.get(session.playerId) == session;
+        }
+        return captureSessions.get(session.playerId) == session;
+    }
+
+    private void expire(Session session) {
+        if (session instanceof CaptureSession) {
+            abandonCapture((CaptureSession) session, "no answer in time");
+            return;
+        }
+
+        GuiSession guiSession = (GuiSession) session;
+        if (isOpen(guiSession)) {
+            // Still shown, a viewer who doesn't click is not kicked out
+            schedule(guiSession, GUI_IDLE_TIMEOUT_SECONDS);
+            return;
+        }
+        // The close event was missed, the GUI is no longer shown
+        guiSessions.remove(guiSession.playerId);
+    }
+
+    /** Whether the GUI of a session is on top of its player's view */
+    private boolean isOpen(GuiSession session) {
+        Player player = Bukkit.getPlayer(session.playerId);
+        if (player == null) return false;
+
+        InventoryHolder holder = player
+            .getOpenInventory()
+            .getTopInventory()
+            .getHolder(false);
+        return holder instanceof BingoGuiHolder &&
+            ((BingoGuiHolder) holder).getGui() == session.gui;
+    }
+
+    private void abandonCapture(CaptureSession session, String reason) {
+        captureSessions.remove(session.playerId);
+        session.capture
+            .getResultFuture()
+            .completeExceptionally(new SessionExpiredException(reason));
+    }
+}
@@ -1,12 +1,14 @@
 package com.bingaso.bingo.gui;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
+
+import com.bingaso.bingo.BingoPlugin;
+
 import de.rapha149.signgui.SignGUI;
 import de.rapha149.signgui.SignGUIAction;
 import de.rapha149.signgui.exception.SignGUIVersionException;
@@ -14,11 +16,20 @@ import de.rapha149.signgui.exception.SignGUIVersionException;
 public class BingoTextCaptureGui {
 
     private CompletableFuture<String> resultFuture;
-    public static HashMap<Player, BingoTextCaptureGui> activeCaptures = new HashMap<>();
 
+    /**
+     * Creates a text capture for a player. The capture is tracked by
+     * {@link BingoGuiSessionManager}, so its future is completed
+     * exceptionally if the player quits or does not answer in time.
+     *
+     * @param player The player who will answer.
+     */
     public BingoTextCaptureGui(Player player) {
-        activeCaptures.put(player, this);
         this.resultFuture = new CompletableFuture<>();
+        BingoGuiSessionManager.getInstance().startCapture(
+            player.getUniqueId(),
+            this
+        );
     }
     /**
      * Opens a sign GUI for a player with a pre-populated sign
@@ -32,6 +43,7 @@ public class BingoTextCaptureGui {
                 .setLine(1, "Enter above")
                 .setLine(2, initialText)
                 .setType(Material.OAK_SIGN)
+                .callHandlerSynchronously(BingoPlugin.getInstance())
                 .setHandler((p, result) -> {
                     String playerInput = result.getLineWithoutColor(0);
                     // The user has not entered anything on line 1, so we open
@@ -42,7 +54,10 @@ public class BingoTextCaptureGui {
                     // Store the result and complete the future
                     resultFuture.complete(playerInput);
                     // Clean up the active capture
-                    activeCaptures.remove(p);
+                    BingoGuiSessionManager.getInstance().finishCapture(
+                        p.getUniqueId(),
+                        this
+                    );
                     // Close the sign by not returning any actions
                     return Collections.emptyList();
             }).build();
@@ -50,10 +65,21 @@ public class BingoTextCaptureGui {
         } catch (SignGUIVersionException e) {
             // This error is thrown if SignGUI does not support this server version (yet).
             resultFuture.completeExceptionally(e);
-            activeCaptures.remove(player);
+            BingoGuiSessionManager.getInstance().finishCapture(
+                player.getUniqueId(),
+                this
+            );
         }
     }
     
+    /**
+     * Gets the future completed with the text entered by the player. Its
+     * callbacks should run on
+     * {@link com.bingaso.bingo.utils.BingoMainThreadExecutor}, since the
+     * future can be completed when the capture is abandoned.
+     *
+     * @return The future of the captured text.
+     */
     public CompletableFuture<String> getResultFuture() {
         return resultFuture;
     }
@@ -1,29 +1,42 @@
 package com.bingaso.bingo.match;
 
+import com.bingaso.bingo.BingoPlugin;
 import com.bingaso.bingo.card.BingoCard;
 import com.bingaso.bingo.card.BingoCardGenerator;
 import com.bingaso.bingo.card.BingoCardGui;
+import com.bingaso.bingo.card.BingoCardMapService;
+import com.bingaso.bingo.card.BingoCardOverviewGui;
+import com.bingaso.bingo.gui.BingoGuiItem;
 import com.bingaso.bingo.gui.BingoGuiItemFactory;
 import com.bingaso.bingo.match.managers.MatchLifecycleManager;
 import com.bingaso.bingo.match.managers.MatchLifecycleManager.State;
+import com.bingaso.bingo.match.managers.MatchTimerService;
 import com.bingaso.bingo.match.managers.PlayerManager;
 import com.bingaso.bingo.match.managers.RobbersModeService;
 import com.bingaso.bingo.match.managers.TeamManager;
 import com.bingaso.bingo.match.managers.TeamManager.MaxPlayersException;
 import com.bingaso.bingo.match.managers.WinConditionService;
+import com.bingaso.bingo.match.replay.BingoMatchEventLog;
 import com.bingaso.bingo.player.BingoPlayer;
 import com.bingaso.bingo.player.BingoPlayerRepository;
 import com.bingaso.bingo.quest.BingoQuest;
 import com.bingaso.bingo.scoreboard.BingoGlobalScoreboard;
+import com.bingaso.bingo.stats.BingoStatsStore;
 import com.bingaso.bingo.team.BingoTeam;
+import com.bingaso.bingo.team.BingoTeamNameColors;
 import com.bingaso.bingo.team.BingoTeamRepository;
+import com.bingaso.bingo.team.BingoTeamRepository.ColorAlreadyExistsException;
 import com.bingaso.bingo.team.BingoTeamRepository.TeamNameAlreadyExistsException;
 import com.bingaso.bingo.team.TeamQuestService;
 import com.bingaso.bingo.team.TeamQuestService.QuestAlreadyCompletedException;
+import com.bingaso.bingo.team.select.BingoTeamSelectGui;
 import com.bingaso.bingo.utils.Broadcaster;
+import com.bingaso.bingo.utils.ItemFoundAnnouncer;
+import java.io.File;
 import java.time.Instant;
 import java.util.List;
-import net.kyori.adventure.text.Component;
+import java.util.Map;
+import java.util.UUID;
 import org.bukkit.GameMode;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
@@ -51,11 +64,25 @@ public class BingoMatch {
     private final MatchLifecycleManager lifecycleManager;
     /** Service for checking win conditions. */
     private WinConditionService winConditionService;
+    /** Shows the remaining time of timed matches. */
+    private final MatchTimerService timerService;
     /** Service for managing robbers game mode */
     private final RobbersModeService robbersModeService;
 
     /** Utility for broadcasting messages to players. */
     private final Broadcaster broadcaster = new Broadcaster();
+    /** Announces found items, one by one or combined. */
+    private final ItemFoundAnnouncer itemFoundAnnouncer;
+    /** Maps drawing the card of every team. */
+    private final BingoCardMapService cardMapService = new BingoCardMapService();
+    /** Colors player names with the color of their team. */
+    private final BingoTeamNameColors teamNameColors = new BingoTeamNameColors();
+    /** Checkpoint of the running match, to resume it after a restart. */
+    private final BingoMatchCheckpoint checkpoint;
+    /** Records the events of the running match for replays. */
+    private final BingoMatchEventLog eventLog;
+    /** Statistics of players over every match */
+    private final BingoStatsStore statsStore;
     /** Global scoreboard for the match. */
     private BingoGlobalScoreboard globalScoreboard;
 
@@ -73,8 +100,40 @@ public class BingoMatch {
         this.matchSettings = new BingoMatchSettings();
         this.playerManager = new PlayerManager();
         this.teamManager = new TeamManager(matchSettings.getMaxTeamSize());
+        this.teamManager.addListener(teamNameColors);
+        this.teamManager.addListener(BingoTeamSelectGui.getInstance());
+        this.teamManager.addListener(BingoCardOverviewGui.getInstance());
+        this.teamManager
+            .getTeamQuestService()
+            .addListener(BingoCardOverviewGui.getInstance());
+        this.teamManager.getTeamQuestService().addListener(cardMapService);
+        this.teamNameColors.addScoreboard(
+            org.bukkit.Bukkit.getScoreboardManager().getMainScoreboard()
+        );
         this.lifecycleManager = new MatchLifecycleManager(matchSettings);
+        this.timerService = new MatchTimerService(matchSettings, lifecycleManager);
+        this.itemFoundAnnouncer = new ItemFoundAnnouncer(
+            matchSettings,
+            broadcaster
+        );
         this.robbersModeService = new RobbersModeService(this);
+        this.checkpoint = new BingoMatchCheckpoint(
+            new File(BingoPlugin.getInstance().getDataFolder(), "match.checkpoint")
+        );
+        this.teamManager.addListener(checkpoint);
+        this.teamManager.getTeamQuestService().addListener(checkpoint);
+        this.eventLog = new BingoMatchEventLog(
+            new File(BingoPlugin.getInstance().getDataFolder(), "replays")
+        );
+        this.teamManager.addListener(eventLog);
+        this.teamManager.getTeamQuestService().addListener(eventLog);
+        this.statsStore = new BingoStatsStore(
+            new File(BingoPlugin.getInstance().getDataFolder(), "stats.db")
+        );
+        // Cards are generated from the scores calibrated by past matches
+        this.statsStore.setFindTimesListener(
+            medianFindMillis -> matchSettings.getItemRepository().calibrate(medianFindMillis)
+        );
         generateNewBingoCard();
     }
 
@@ -118,7 +177,7 @@ public class BingoMatch {
      * Adds a player to the specified team.
      * <p>
      * If the player is already in a team, they will be removed from that team first.
-     * Updates the player's tab list name to reflect their team color.
+     * The player's name takes the team color through {@link BingoTeamNameColors}.
      * </p>
      *
      * @param player The player to add
@@ -132,15 +191,11 @@ public class BingoMatch {
         );
         if (bingoPlayer != null) {
             teamManager.addPlayerToBingoTeam(bingoPlayer, bingoTeam);
-            updatePlayerTabName(player);
         }
     }
 
     /**
      * Removes a player from their team.
-     * <p>
-     * Updates the player's tab list name to remove the team color.
-     * </p>
      *
      * @param player The player to remove from their team
      */
@@ -150,7 +205,6 @@ public class BingoMatch {
         );
         if (bingoPlayer != null) {
             teamManager.removePlayerFromBingoTeam(bingoPlayer);
-            updatePlayerTabName(player);
         }
     }
 
@@ -177,17 +231,10 @@ public class BingoMatch {
         BingoQuest quest = bingoCard.getItem(item);
         if (quest == null) return;
 
-        BingoPlayer bingoPlayer = playerManager.getBingoPlayer(
-            player.getUniqueId()
-        );
-        if (bingoPlayer == null) return;
-
-        BingoTeam team = teamManager.getTeamByPlayer(bingoPlayer);
+        BingoTeam team = teamManager.getTeamByPlayerId(player.getUniqueId());
         if (team == null || team.hasCompletedQuest(quest)) return;
 
-        TeamQuestService questService = new TeamQuestService(
-            teamManager.getTeamRepository()
-        );
+        TeamQuestService questService = teamManager.getTeamQuestService();
 
         boolean isLocked =
             matchSettings.getGameMode() == BingoMatchSettings.GameMode.LOCKED &&
@@ -196,7 +243,12 @@ public class BingoMatch {
         if (!isLocked) {
             try {
                 questService.completeQuest(team, quest);
-                broadcaster.announceItemFound(team, item);
+                statsStore.recordFind(
+                    player,
+                    quest.getQuestName(),
+                    getMatchDurationMilliseconds(Instant.now())
+                );
+                itemFoundAnnouncer.announce(team, item);
                 BingoCardGui.getInstance().updateInventories();
 
                 List<BingoTeam> winners =
@@ -222,8 +274,10 @@ public class BingoMatch {
      *   <li>Initialize win condition service and scoreboard</li>
      *   <li>Set players to survival mode</li>
      *   <li>Clear player inventories and give them a bingo card item</li>
-     *   <li>Start match timer (for timed matches)</li>
+     *   <li>Put the map of their team's card in their off-hand</li>
+     *   <li>Start match timer and its boss bar (for timed matches)</li>
      *   <li>Start the global scoreboard</li>
+     *   <li>Start writing the checkpoint and the replay of the match</li>
      * </ul>
      * The match won't start if there are no teams.
      * </p>
@@ -231,11 +285,7 @@ public class BingoMatch {
     public void start() {
         if (teamManager.getTeamRepository().isEmpty()) return;
 
-        this.winConditionService = new WinConditionService(
-            matchSettings,
-            bingoCard
-        );
-        this.globalScoreboard = new BingoMatchScoreboard(this);
+        startServices();
 
         for (BingoPlayer bingoPlayer : playerManager.getAllPlayers()) {
             Player player = bingoPlayer.getOnlinePlayer();
@@ -245,17 +295,146 @@ public class BingoMatch {
                 player
                     .getInventory()
                     .addItem(BingoGuiItemFactory.createBingoCardItem());
+                giveBingoCardMap(player);
             }
         }
 
-        lifecycleManager.start(() -> {
-            List<BingoTeam> winners = winConditionService.determineTimedWinners(
-                teamManager.getTeamRepository()
-            );
-            end(winners);
-        });
+        lifecycleManager.start(this::endTimedMatch);
+        timerService.start(org.bukkit.Bukkit.getOnlinePlayers());
 
         globalScoreboard.start(20);
+        checkpoint.begin(this, lifecycleManager.getStartInstant());
+        beginReplay(lifecycleManager.getStartInstant());
+        statsStore.beginMatch(lifecycleManager.getStartInstant());
+    }
+
+    /**
+     * Resumes the match interrupted by a crash or a restart, from its
+     * checkpoint.
+     * <p>
+     * The settings, card, teams, players and completed quests are restored,
+     * and the match continues with the time it had been running for. Players
+     * already online get the map of the card of their team.
+     * </p>
+     *
+     * @return true if a match was resumed, false if there was none
+     */
+    public boolean resumeFromCheckpoint() {
+        if (getState() != State.LOBBY) return false;
+
+        BingoMatchCheckpoint.Snapshot snapshot = checkpoint.load();
+        if (snapshot == null || snapshot.getTeams().isEmpty()) return false;
+
+        snapshot.applySettings(matchSettings);
+        List<BingoQuest> quests = snapshot.getQuests();
+        this.bingoCard = BingoCard.fromQuests(quests);
+        Instant startInstant = Instant.now().minusMillis(
+            snapshot.getElapsedMillis()
+        );
+
+        TeamQuestService questService = teamManager.getTeamQuestService();
+        for (BingoMatchCheckpoint.Snapshot.TeamState teamState : snapshot.getTeams()) {
+            BingoTeam team;
+            try {
+                team = teamManager.restoreBingoTeam(
+                    teamState.getName(),
+                    teamState.getColor()
+                );
+            } catch (
+                TeamNameAlreadyExistsException | ColorAlreadyExistsException e
+            ) {
+                continue;
+            }
+            for (Map.Entry<UUID, String> player : teamState.getPlayers().entrySet()) {
+                try {
+                    teamManager.addPlayerToBingoTeam(
+                        playerManager.restorePlayer(
+                            player.getKey(),
+                            player.getValue()
+                        ),
+                        team
+                    );
+                } catch (MaxPlayersException e) {
+                    // The team was full with the same players
+                }
+            }
+            for (Map.Entry<Integer, Long> completion : teamState.getCompletions().entrySet()) {
+                int index = completion.getKey();
+                BingoQuest quest = index < quests.size() ? quests.get(index) : null;
+                if (quest == null) continue;
+                try {
+                    questService.completeQuest(
+                        team,
+                        quest,
+                        startInstant.plusMillis(completion.getValue())
+                    );
+                } catch (QuestAlreadyCompletedException e) {
+                    // Restored once already
+                }
+            }
+        }
+
+        startServices();
+        for (BingoPlayer bingoPlayer : playerManager.getAllPlayers()) {
+            Player player = bingoPlayer.getOnlinePlayer();
+            if (player != null) giveBingoCardMap(player);
+        }
+
+        lifecycleManager.resume(startInstant, this::endTimedMatch);
+        timerService.start(org.bukkit.Bukkit.getOnlinePlayers());
+
+        globalScoreboard.start(20);
+        // The shifted start drives the timer, the first one is kept
+        checkpoint.begin(this, startInstant, snapshot.getOriginalStartInstant());
+        beginReplay(startInstant);
+        statsStore.beginMatch(snapshot.getOriginalStartInstant(), startInstant);
+        return true;
+    }
+
+    /**
+     * Writes what is left of the checkpoint, the replay and the statistics
+     * of the running match, so it is resumed on the next start. Called when
+     * the plugin is disabled.
+     */
+    public void close() {
+        checkpoint.close();
+        eventLog.close();
+        statsStore.close();
+    }
+
+    private void beginReplay(Instant startInstant) {
+        int replayId = eventLog.begin(this, startInstant);
+        BingoPlugin.getInstance()
+            .getLogger()
+            .info("Recording the match as replay #" + replayId);
+    }
+
+    /**
+     * Starts the services of a match that starts or is resumed: win
+     * conditions, scoreboard and card maps.
+     */
+    private void startServices() {
+        this.winConditionService = new WinConditionService(
+            matchSettings,
+            bingoCard
+        );
+        BingoMatchScoreboard matchScoreboard = new BingoMatchScoreboard(this);
+        teamManager.addListener(matchScoreboard);
+        teamManager.getTeamQuestService().addListener(matchScoreboard);
+        this.globalScoreboard = matchScoreboard;
+        cardMapService.start(
+            bingoCard,
+            teamManager.getTeamRepository().findAll(),
+            org.bukkit.Bukkit.getWorlds().get(0)
+        );
+    }
+
+    /** Ends a timed match whose time ran out. */
+    private void endTimedMatch() {
+        List<BingoTeam> winners = winConditionService.determineTimedWinners(
+            teamManager.getTeamQuestService().getLeaderboard()
+        );
+        end(winners);
     }
 
     /**
@@ -266,7 +445,6 @@ public class BingoMatch {
      *   <li>Notify the lifecycle manager of the winners</li>
      *   <li>Stop the scoreboard</li>
      *   <li>Clear team quests and player data</li>
-     *   <li>Update all player tab names</li>
      *   <li>Reset player game modes and give them team selection items</li>
      * </ul>
      * </p>
@@ -274,15 +452,32 @@ public class BingoMatch {
      * @param winners The list of winning teams
      */
     private void end(List<BingoTeam> winners) {
-        List<BingoPlayer> playersInMatch = playerManager.getAllPlayers();
-
+        // Pending finds are announced before the winners
+        itemFoundAnnouncer.clear();
         lifecycleManager.end(winners);
+        // The match is over, there is nothing left to resume
+        checkpoint.finish();
+        eventLog.finish(winners);
+        // Written in the background, before the teams are cleared
+        statsStore.endMatch(
+            Instant.now(),
+            teamManager.getTeamRepository().findAll(),
+            winners
+        );
 
-        if (globalScoreboard != null) globalScoreboard.stop();
+        if (globalScoreboard != null) {
+            globalScoreboard.stop();
+            if (globalScoreboard instanceof BingoMatchScoreboard) {
+                BingoMatchScoreboard matchScoreboard =
+                    (BingoMatchScoreboard) globalScoreboard;
+                teamManager.removeListener(matchScoreboard);
+                teamManager.getTeamQuestService().removeListener(matchScoreboard);
+            }
+        }
+        cardMapService.stop();
+        timerService.stop();
 
-        TeamQuestService questService = new TeamQuestService(
-            teamManager.getTeamRepository()
-        );
+        TeamQuestService questService = teamManager.getTeamQuestService();
         teamManager
             .getTeamRepository()
             .findAll()
@@ -291,13 +486,6 @@ public class BingoMatch {
         teamManager.clear();
         playerManager.clear();
 
-        for (BingoPlayer p : playersInMatch) {
-            Player onlinePlayer = p.getOnlinePlayer();
-            if (onlinePlayer != null && onlinePlayer.isOnline()) {
-                updatePlayerTabName(onlinePlayer);
-            }
-        }
-
         for (Player onlinePlayer : org.bukkit.Bukkit.getOnlinePlayers()) {
             GameMode gm = onlinePlayer.getGameMode();
             if (gm == GameMode.SURVIVAL || gm == GameMode.ADVENTURE) {
@@ -312,6 +500,45 @@ public class BingoMatch {
         }
     }
 
+    /**
+     * Shows the scoreboard of the running match to a player, for players
+     * joining after the match started.
+     *
+     * @param player The player to show the scoreboard to
+     */
+    public void showScoreboard(Player player) {
+        if (globalScoreboard != null && globalScoreboard.isActive()) {
+            globalScoreboard.show(player);
+        }
+    }
+
+    /**
+     * Puts the map of the card of a player's team in their off-hand.
+     * Anything already held in the off-hand is moved to the inventory, or
+     * dropped at the player's feet if it is full,
+     * except a card map of an earlier match, which is replaced.
+     *
+     * @param player The player to give the map to
+     */
+    public void giveBingoCardMap(Player player) {
+        ItemStack mapItem = cardMapService.createMapItem(
+            getBingoTeamFromPlayer(player)
+        );
+        if (mapItem == null) return;
+
+        ItemStack offHand = player.getInventory().getItemInOffHand();
+        player.getInventory().setItemInOffHand(mapItem);
+        if (
+            offHand.getType() != Material.AIR &&
+            !BingoGuiItem.isGuiItem(offHand, BingoGuiItemFactory.BINGO_CARD_MAP_ITEM_ID)
+        ) {
+            // A full inventory drops the rest instead of deleting it
+            for (ItemStack leftover : player.getInventory().addItem(offHand).values()) {
+                player.getWorld().dropItemNaturally(player.getLocation(), leftover);
+            }
+        }
+    }
+
     /**
      * Gets the current state of the match.
      *
@@ -375,6 +602,43 @@ public class BingoMatch {
         return playerManager.getPlayerRepository();
     }
 
+    /**
+     * Gets the event log recording matches for replays.
+     *
+     * @return The event log
+     */
+    public BingoMatchEventLog getEventLog() {
+        return eventLog;
+    }
+
+    /**
+     * Gets the store of the statistics of players.
+     *
+     * @return The statistics store
+     */
+    public BingoStatsStore getStatsStore() {
+        return statsStore;
+    }
+
+    /**
+     * Gets the team colors of player names, to be applied on every
+     * scoreboard shown to players.
+     *
+     * @return The team name colors
+     */
+    public BingoTeamNameColors getTeamNameColors() {
+        return teamNameColors;
+    }
+
+    /**
+     * Gets the service showing the remaining time of timed matches.
+     *
+     * @return The match timer service
+     */
+    public MatchTimerService getTimerService() {
+        return timerService;
+    }
+
     /**
      * Gets the Robbers GameMode Service
      *
@@ -391,12 +655,7 @@ public class BingoMatch {
      * @return The player's team, or null if not in a team
      */
     public BingoTeam getBingoTeamFromPlayer(Player player) {
-        BingoPlayer bingoPlayer = playerManager.getBingoPlayer(
-            player.getUniqueId()
-        );
-        return (bingoPlayer != null)
-            ? teamManager.getTeamByPlayer(bingoPlayer)
-            : null;
+        return teamManager.getTeamByPlayerId(player.getUniqueId());
     }
 
     /**
@@ -445,50 +704,6 @@ public class BingoMatch {
         this.bingoCard = cardGenerator.generateCard();
     }
 
-    /**
-     * Updates a player's tab list name to reflect their team color.
-     * <p>
-     * If the player is in a team, their name will be colored with the team color.
-     * Otherwise, their name will be displayed without color.
-     * </p>
-     *
-     * @param player The player whose tab name to update
-     */
-    public void updatePlayerTabName(Player player) {
-        BingoPlayer bingoPlayer = playerManager.getBingoPlayer(
-            player.getUniqueId()
-        );
-
-        BingoTeam team = (bingoPlayer != null)
-            ? teamManager.getTeamByPlayer(bingoPlayer)
-            : null;
-
-        if (team != null) {
-            player.playerListName(
-                Component.text(player.getName(), team.getColor())
-            );
-        } else {
-            player.playerListName(Component.text(player.getName()));
-        }
-    }
-
-    /**
-     * Updates tab list names for all players in the match.
-     * <p>
-     * This is useful when teams change or at the start/end of a match.
-     * </p>
-     */
-    public void updateAllPlayersTabNames() {
-        playerManager
-            .getAllPlayers()
-            .forEach(p -> {
-                Player onlinePlayer = p.getOnlinePlayer();
-                if (onlinePlayer != null) {
-                    updatePlayerTabName(onlinePlayer);
-                }
-            });
-    }
-
     /**
      * Scans a player's inventory to register any new bingo items they possess.
      * This is useful for cases where item acquisition isn't captured by other events,
@@ -0,0 +1,686 @@
+package com.bingaso.bingo.match;
+
+import com.bingaso.bingo.BingoPlugin;
+import com.bingaso.bingo.match.BingoMatchSettings.GameMode;
+import com.bingaso.bingo.player.BingoPlayer;
+import com.bingaso.bingo.quest.BingoQuest;
+import com.bingaso.bingo.quest.BingoQuestCodec;
+import com.bingaso.bingo.team.BingoTeam;
+import com.bingaso.bingo.team.BingoTeamListener;
+import com.bingaso.bingo.team.TeamQuestListener;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.logging.Level;
+import java.util.zip.CRC32;
+import net.kyori.adventure.text.format.TextColor;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Keeps a checkpoint of the running match on disk, so a match survives a
+ * crash or a restart.
+ * <p>
+ * The checkpoint is an append-only log of small binary records: the start
+ * of the match with its settings and card, the teams, and every quest
+ * completion change. Records are written on a background thread; every
+ * batch of records queued while the previous batch was written is flushed
+ * with a single fsync. Every record is framed with its length and a CRC, so
+ * a record torn by a crash is ignored when the log is read. After a number
+ * of records the log is compacted into a fresh file holding only the
+ * current state.
+ * </p>
+ * <p>
+ * Completion times are stored relative to the start of the match, and the
+ * elapsed time is recorded periodically. A resumed match keeps its elapsed
+ * time, so the timer continues where it stopped, and the instant it was
+ * first started, which identifies it in the statistics.
+ * </p>
+ *
+ * @since 1.0
+ */
+public class BingoMatchCheckpoint
+    implements TeamQuestListener, BingoTeamListener {
+
+    /** "BNGO", at the start of every checkpoint file */
+    private static final int MAGIC = 0x424E474F;
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final byte RECORD_START = 1;
+    private static final byte RECORD_TEAMS = 2;
+    private static final byte RECORD_QUEST_COMPLETED = 3;
+    private static final byte RECORD_QUEST_REMOVED = 4;
+    private static final byte RECORD_QUESTS_CLEARED = 5;
+    private static final byte RECORD_ELAPSED = 6;
+
+    /** Records appended before the log is compacted */
+    private static final int COMPACT_AFTER_RECORDS = 512;
+    /** Ticks between two records of the elapsed time */
+    private static final long ELAPSED_PERIOD_TICKS = 100L;
+
+    /**
+     * State of a match read back from a checkpoint.
+     *
+     * @since 1.0
+     */
+    public static class Snapshot {
+
+        /**
+         * A team and its players.
+         *
+         * @since 1.0
+         */
+        public static class TeamState {
+
+            private final String name;
+            private final TextColor color;
+            private final Map<UUID, String> players = new LinkedHashMap<>();
+            /** Elapsed milliseconds of every completion, by card index */
+            private final Map<Integer, Long> completions =
+                new LinkedHashMap<>();
+
+            private TeamState(String name, TextColor color) {
+                this.name = name;
+                this.color = color;
+            }
+
+            public String getName() {
+                return name;
+            }
+
+            public TextColor getColor() {
+                return color;
+            }
+
+            /**
+             * @return The names of the players of the team, by UUID.
+             */
+            public Map<UUID, String> getPlayers() {
+                return players;
+            }
+
+            /**
+             * @return The milliseconds between the start of the match and
+             * every completion of the team, by index of the quest on the
+             * card.
+             */
+            public Map<Integer, Long> getCompletions() {
+                return completions;
+            }
+        }
+
+        private GameMode gameMode;
+        private boolean timed;
+        private int gameDuration;
+        private boolean robbersMode;
+        private List<BingoQuest> quests = new ArrayList<>();
+        private final Map<String, TeamState> teams = new LinkedHashMap<>();
+        private long elapsedMillis;
+        private Instant originalStartInstant;
+
+        private Snapshot() {}
+
+        /**
+         * Applies the settings the match was started with.
+         *
+         * @param settings The settings of the resumed match
+         */
+        public void applySettings(BingoMatchSettings settings) {
+            settings.setGameMode(gameMode);
+            settings.setIsTimed(timed);
+            settings.setGameDuration(gameDuration);
+            settings.setRobbersMode(robbersMode);
+        }
+
+        /**
+         * @return The quests of the card, in card order.
+         */
+        public List<BingoQuest> getQuests() {
+            return quests;
+        }
+
+        /**
+         * @return The teams of the match, in creation order.
+         */
+        public List<TeamState> getTeams() {
+            return new ArrayList<>(teams.values());
+        }
+
+        /**
+         * @return The time the match had been running for when the
+         * checkpoint was last written.
+         */
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        /**
+         * @return The instant the match was first started, before any
+         * restart.
+         */
+        public Instant getOriginalStartInstant() {
+            return originalStartInstant;
+        }
+    }
+
+    /** Operation replacing the log with a compacted one */
+    private static final class Compaction {
+        private final byte[] content;
+
+        private Compaction(byte[] content) {
+            this.content = content;
+        }
+    }
+
+    /** Operation deleting the log */
+    private static final Object DELETE = new Object();
+    /** Operation stopping the writer */
+    private static final Object CLOSE = new Object();
+
+    private final Path file;
+    private final Path compactedFile;
+    /** Records, compactions and commands for the writer thread */
+    private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+    private Thread writer;
+    /** Log opened by the writer thread, only used by it */
+    private FileChannel channel;
+
+    private BingoMatch bingoMatch;
+    private Instant startInstant;
+    /** Instant the match was first started, kept by every resume */
+    private Instant originalStartInstant;
+    /** Index on the card of every quest */
+    private final Map<BingoQuest, Integer> questIndexes = new HashMap<>();
+    private int recordsSinceCompaction = 0;
+    private BukkitTask elapsedTask;
+
+    /**
+     * Creates the checkpoint of the matches of the plugin.
+     *
+     * @param file The file of the log
+     */
+    public BingoMatchCheckpoint(File file) {
+        this.file = file.toPath();
+        this.compactedFile = this.file.resolveSibling(file.getName() + ".tmp");
+    }
+
+    /**
+     * Starts recording a match that just started or was resumed. The log is
+     * replaced by the current state of the match.
+     *
+     * @param bingoMatch The running match
+     * @param startInstant The start of the match
+     */
+    public void begin(BingoMatch bingoMatch, Instant startInstant) {
+        begin(bingoMatch, startInstant, startInstant);
+    }
+
+    /**
+     * Starts recording a match that just started or was resumed. The log is
+     * replaced by the current state of the match.
+     *
+     * @param bingoMatch The running match
+     * @param startInstant The start of the match the timer counts from
+     * @param originalStartInstant The instant the match was first started,
+     * earlier than startInstant by the downtime of a resumed match
+     */
+    public void begin(
+        BingoMatch bingoMatch,
+        Instant startInstant,
+        Instant originalStartInstant
+    ) {
+        this.bingoMatch = bingoMatch;
+        this.startInstant = startInstant;
+        this.originalStartInstant = originalStartInstant;
+        questIndexes.clear();
+        List<BingoQuest> quests = bingoMatch.getBingoCard().getItems();
+        for (int i = 0; i < quests.size(); i++) {
+            if (quests.get(i) != null) questIndexes.put(quests.get(i), i);
+        }
+
+        startWriter();
+        compact();
+        elapsedTask = Bukkit.getScheduler().runTaskTimer(
+            BingoPlugin.getInstance(),
+            () -> append(RECORD_ELAPSED, out -> out.writeLong(getElapsedMillis())),
+            ELAPSED_PERIOD_TICKS,
+            ELAPSED_PERIOD_TICKS
+        );
+    }
+
+    /**
+     * Stops recording the match, which ended, and deletes the log.
+     */
+    public void finish() {
+        if (bingoMatch == null) return;
+        stopRecording();
+        queue.add(DELETE);
+    }
+
+    /**
+     * Records the elapsed time one last time, and waits for every record to
+     * be written. The log is kept, so the match is resumed on the next start.
+     */
+    public void close() {
+        if (bingoMatch != null) {
+            append(RECORD_ELAPSED, out -> out.writeLong(getElapsedMillis()));
+            stopRecording();
+        }
+        if (writer == null) return;
+        queue.add(CLOSE);
+        try {
+            writer.join(5000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    private void stopRecording() {
+        if (elapsedTask != null) {
+            elapsedTask.cancel();
+            elapsedTask = null;
+        }
+        bingoMatch = null;
+        startInstant = null;
+    }
+
+    private long getElapsedMillis() {
+        return Instant.now().toEpochMilli() - startInstant.toEpochMilli();
+    }
+
+    /**
+     * Reads the log of a match that did not end.
+     *
+     * @return The state of the match, or null if there is no match to resume
+     */
+    public Snapshot load() {
+        byte[] content;
+        try {
+            if (!Files.exists(file)) return null;
+            content = Files.readAllBytes(file);
+        } catch (IOException e) {
+            Bukkit.getLogger().log(Level.WARNING, "Couldn't read the match checkpoint", e);
+            return null;
+        }
+
+        Snapshot snapshot = null;
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(content));
+        try {
+            if (in.readInt() != MAGIC || in.readByte() != FORMAT_VERSION) {
+                return null;
+            }
+            while (true) {
+                int length = in.readInt();
+                if (length <= 0 || length > in.available() - 4) break;
+                byte[] record = new byte[length];
+                in.readFully(record);
+                if (in.readInt() != crc(record, 0, length)) break;
+                snapshot = apply(snapshot, record);
+            }
+        } catch (EOFException e) {
+            // Torn last record, everything before it is kept
+        } catch (IOException | RuntimeException e) {
+            Bukkit.getLogger().log(Level.WARNING, "Match checkpoint is damaged", e);
+        }
+        return snapshot;
+    }
+
+    private static Snapshot apply(Snapshot snapshot, byte[] record)
+        throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+        byte type = in.readByte();
+        if (type == RECORD_START) {
+            snapshot = new Snapshot();
+            snapshot.originalStartInstant = Instant.ofEpochMilli(in.readLong());
+            snapshot.gameMode = GameMode.valueOf(in.readUTF());
+            snapshot.timed = in.readBoolean();
+            snapshot.gameDuration = in.readInt();
+            snapshot.robbersMode = in.readBoolean();
+            int questCount = in.readInt();
+            for (int i = 0; i < questCount; i++) {
+                snapshot.quests.add(BingoQuestCodec.read(in));
+            }
+            return snapshot;
+        }
+        // Records before the start of a match cannot be applied
+        if (snapshot == null) return null;
+
+        switch (type) {
+            case RECORD_TEAMS: {
+                Map<String, Snapshot.TeamState> teams = new LinkedHashMap<>();
+                int teamCount = in.readInt();
+                for (int i = 0; i < teamCount; i++) {
+                    String name = in.readUTF();
+                    Snapshot.TeamState team = new Snapshot.TeamState(
+                        name,
+                        TextColor.color(in.readInt())
+                    );
+                    Snapshot.TeamState previous = snapshot.teams.get(name);
+                    if (previous != null) {
+                        team.completions.putAll(previous.completions);
+                    }
+                    int playerCount = in.readInt();
+                    for (int j = 0; j < playerCount; j++) {
+                        UUID uuid = new UUID(in.readLong(), in.readLong());
+                        team.players.put(uuid, in.readUTF());
+                    }
+                    teams.put(name, team);
+                }
+                snapshot.teams.clear();
+                snapshot.teams.putAll(teams);
+                break;
+            }
+            case RECORD_QUEST_COMPLETED: {
+                Snapshot.TeamState team = snapshot.teams.get(in.readUTF());
+                int index = in.readInt();
+                long elapsed = in.readLong();
+                if (team != null) team.completions.put(index, elapsed);
+                snapshot.elapsedMillis = Math.max(snapshot.elapsedMillis, elapsed);
+                break;
+            }
+            case RECORD_QUEST_REMOVED: {
+                Snapshot.TeamState team = snapshot.teams.get(in.readUTF());
+                int index = in.readInt();
+                if (team != null) team.completions.remove(index);
+                break;
+            }
+            case RECORD_QUESTS_CLEARED: {
+                Snapshot.TeamState team = snapshot.teams.get(in.readUTF());
+                if (team != null) team.completions.clear();
+                break;
+            }
+            case RECORD_ELAPSED:
+                snapshot.elapsedMillis = Math.max(
+                    snapshot.elapsedMillis,
+                    in.readLong()
+                );
+                break;
+            default:
+                break;
+        }
+        return snapshot;
+    }
+
+    /** Writes the payload of a record */
+    private interface RecordWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static byte[] encode(byte type, RecordWriter payload) {
+        try {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            DataOutputStream bodyOut = new DataOutputStream(body);
+            bodyOut.writeByte(type);
+            payload.write(bodyOut);
+            byte[] bytes = body.toByteArray();
+
+            ByteArrayOutputStream framed = new ByteArrayOutputStream(bytes.length + 8);
+            DataOutputStream out = new DataOutputStream(framed);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+            out.writeInt(crc(bytes, 0, bytes.length));
+            return framed.toByteArray();
+        } catch (IOException e) {
+            // Writing to memory does not fail
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int crc(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    private void append(byte type, RecordWriter payload) {
+        if (bingoMatch == null) return;
+        append(encode(type, payload));
+    }
+
+    /** Queues a record, or a compaction once the log holds enough records */
+    private void append(byte[] record) {
+        if (++recordsSinceCompaction >= COMPACT_AFTER_RECORDS) {
+            compact();
+            return;
+        }
+        queue.add(record);
+    }
+
+    /** Queues a fresh log holding only the current state of the match */
+    private void compact() {
+        recordsSinceCompaction = 0;
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        try {
+            DataOutputStream out = new DataOutputStream(content);
+            out.writeInt(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            out.write(startRecord());
+            out.write(teamsRecord());
+            for (BingoTeam team : bingoMatch.getBingoTeamRepository().findAll()) {
+                for (Map.Entry<BingoQuest, Instant> completion : team.getCompletedQuests().entrySet()) {
+                    byte[] record = completedRecord(
+                        team,
+                        completion.getKey(),
+                        completion.getValue()
+                    );
+                    if (record != null) out.write(record);
+                }
+            }
+            long elapsed = getElapsedMillis();
+            out.write(encode(RECORD_ELAPSED, o -> o.writeLong(elapsed)));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        queue.add(new Compaction(content.toByteArray()));
+    }
+
+    private byte[] startRecord() {
+        BingoMatchSettings settings = bingoMatch.getMatchSettings();
+        List<BingoQuest> quests = bingoMatch.getBingoCard().getItems();
+        return encode(RECORD_START, out -> {
+            out.writeLong(originalStartInstant.toEpochMilli());
+            out.writeUTF(settings.getGameMode().name());
+            out.writeBoolean(settings.matchIsTimed());
+            out.writeInt(settings.getGameDuration());
+            out.writeBoolean(settings.isRobbersModeEnabled());
+            out.writeInt(quests.size());
+            for (BingoQuest quest : quests) {
+                BingoQuestCodec.write(out, quest);
+            }
+        });
+    }
+
+    private byte[] teamsRecord() {
+        List<BingoTeam> teams = bingoMatch.getBingoTeamRepository().findAll();
+        return encode(RECORD_TEAMS, out -> {
+            out.writeInt(teams.size());
+            for (BingoTeam team : teams) {
+                out.writeUTF(team.getName());
+                out.writeInt(team.getColor().value());
+                List<BingoPlayer> players = team.getPlayers();
+                out.writeInt(players.size());
+                for (BingoPlayer player : players) {
+                    out.writeLong(player.getUniqueId().getMostSignificantBits());
+                    out.writeLong(player.getUniqueId().getLeastSignificantBits());
+                    out.writeUTF(player.getName());
+                }
+            }
+        });
+    }
+
+    private byte[] completedRecord(BingoTeam team, BingoQuest quest, Instant time) {
+        Integer index = questIndexes.get(quest);
+        if (index == null) return null;
+        long elapsed = time.toEpochMilli() - startInstant.toEpochMilli();
+        return encode(RECORD_QUEST_COMPLETED, out -> {
+            out.writeUTF(team.getName());
+            out.writeInt(index);
+            out.writeLong(elapsed);
+        });
+    }
+
+    private void startWriter() {
+        if (writer != null) return;
+        writer = new Thread(this::runWriter, "Bingo checkpoint writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Writes everything queued, then syncs the log once for the whole batch.
+     */
+    private void runWriter() {
+        List<Object> batch = new ArrayList<>();
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            queue.drainTo(batch);
+            boolean close = false;
+            try {
+                for (Object operation : batch) {
+                    if (operation == CLOSE) {
+                        close = true;
+                        break;
+                    }
+                    write(operation);
+                }
+                if (channel != null) channel.force(false);
+            } catch (IOException e) {
+                Bukkit.getLogger().log(Level.WARNING, "Couldn't write the match checkpoint", e);
+                closeChannel();
+            }
+            batch.clear();
+            if (close) {
+                closeChannel();
+                return;
+            }
+        }
+    }
+
+    private void write(Object operation) throws IOException {
+        if (operation == DELETE) {
+            closeChannel();
+            Files.deleteIfExists(file);
+        } else if (operation instanceof Compaction) {
+            closeChannel();
+            Files.createDirectories(file.getParent());
+            try (FileChannel compacted = FileChannel.open(
+                compactedFile,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+            )) {
+                writeFully(compacted, ((Compaction) operation).content);
+                compacted.force(true);
+            }
+            Files.move(
+                compactedFile,
+                file,
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE
+            );
+        } else if (operation instanceof byte[]) {
+            if (channel == null) {
+                // Appending to a deleted log would leave records without a start
+                if (!Files.exists(file)) return;
+                channel = FileChannel.open(
+                    file,
+                    StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND
+                );
+            }
+            writeFully(channel, (byte[]) operation);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, byte[] bytes)
+        throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void closeChannel() {
+        if (channel == null) return;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Nothing left to write to it
+        }
+        channel = null;
+    }
+
+    @Override
+    public void onQuestCompleted(
+        BingoTeam team,
+        BingoQuest quest,
+        Instant completionTime
+    ) {
+        if (bingoMatch == null) return;
+        byte[] record = completedRecord(team, quest, completionTime);
+        if (record != null) append(record);
+    }
+
+    @Override
+    public void onQuestCompletionRemoved(BingoTeam team, BingoQuest quest) {
+        Integer index = questIndexes.get(quest);
+        if (index == null) return;
+        append(RECORD_QUEST_REMOVED, out -> {
+            out.writeUTF(team.getName());
+            out.writeInt(index);
+        });
+    }
+
+    @Override
+    public void onQuestsCleared(BingoTeam team) {
+        append(RECORD_QUESTS_CLEARED, out -> out.writeUTF(team.getName()));
+    }
+
+    private void teamsChanged() {
+        if (bingoMatch != null) append(teamsRecord());
+    }
+
+    @Override
+    public void onTeamCreated(BingoTeam bingoTeam) {
+        teamsChanged();
+    }
+
+    @Override
+    public void onTeamRemoved(BingoTeam bingoTeam) {
+        teamsChanged();
+    }
+
+    @Override
+    public void onTeamPlayersChanged(BingoTeam bingoTeam) {
+        teamsChanged();
+    }
+
+    @Override
+    public void onTeamsCleared() {
+        teamsChanged();
+    }
+}
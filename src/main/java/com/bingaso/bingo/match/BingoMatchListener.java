@@ -3,9 +3,11 @@ package com.bingaso.bingo.match;
 import com.bingaso.bingo.BingoPlugin;
 import com.bingaso.bingo.card.BingoCardGui;
 import com.bingaso.bingo.card.BingoCardGui.BingoCardGuiContext;
+import com.bingaso.bingo.gui.BingoGuiHolder;
 import com.bingaso.bingo.gui.BingoGuiItem;
 import com.bingaso.bingo.gui.BingoGuiItemFactory;
 import com.bingaso.bingo.match.managers.MatchLifecycleManager.State;
+import com.bingaso.bingo.match.replay.BingoMatchReplaySession;
 import com.bingaso.bingo.player.BingoPlayer;
 import com.bingaso.bingo.team.BingoTeam;
 import com.bingaso.bingo.team.select.BingoTeamSelectGui;
@@ -58,9 +60,8 @@ public class BingoMatchListener implements Listener {
         BingoPlayer bingoPlayer = gameManager
             .getBingoPlayerRepository()
             .findByUUID(player.getUniqueId());
-        BingoPlugin.getInstance()
-            .getBingoMatch()
-            .onPlayerFindsItem(bingoPlayer, material);
+        if (bingoPlayer == null) return;
+        gameManager.onPlayerFindsItem(bingoPlayer, material);
     }
 
     /**
@@ -122,7 +123,14 @@ public class BingoMatchListener implements Listener {
         Player player = (Player) event.getWhoClicked();
         BingoMatch gameManager = BingoPlugin.getInstance().getBingoMatch();
 
-        if (BingoGuiItem.getCustomString(clickedItem, "custom_id") != null) {
+        // Clicks inside plugin GUIs are handled by BingoGuiListener
+        if (event.getInventory().getHolder(false) instanceof BingoGuiHolder) {
+            return;
+        }
+
+        // Outside plugin GUIs, only the card and its map are plugin items;
+        // checking their materials first leaves the meta of other items alone
+        if (isBingoCardItem(clickedItem)) {
             return;
         }
 
@@ -210,6 +218,25 @@ public class BingoMatchListener implements Listener {
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
+        BingoPlayer bingoPlayer = BingoPlugin.getInstance()
+            .getBingoMatch()
+            .getBingoPlayerRepository()
+            .findByUUID(player.getUniqueId());
+        if (bingoPlayer != null) bingoPlayer.setOnlinePlayer(player);
+        BingoTeam team = BingoPlugin.getInstance()
+            .getBingoMatch()
+            .getBingoTeamFromPlayer(player);
+        if (team != null) team.memberJoined(player);
+        BingoPlugin.getInstance()
+            .getBingoMatch()
+            .getTeamNameColors()
+            .showTeamColor(player, team);
+        BingoPlugin.getInstance().getBingoMatch().showScoreboard(player);
+        BingoPlugin.getInstance()
+            .getBingoMatch()
+            .getTimerService()
+            .addViewer(player);
+
         // Only add players in survival or adventure into the bingo game
         if (
             player.getGameMode() != GameMode.SURVIVAL &&
@@ -217,7 +244,6 @@ public class BingoMatchListener implements Listener {
         ) return;
 
         BingoMatch gameManager = BingoPlugin.getInstance().getBingoMatch();
-        gameManager.updatePlayerTabName(player);
 
         // Only add players if the bingo game is in lobby state
         if (gameManager.getState() != State.LOBBY) {
@@ -242,6 +268,21 @@ public class BingoMatchListener implements Listener {
     @EventHandler
     public void onPlayerQuit(PlayerQuitEvent event) {
         Player player = event.getPlayer();
+        BingoPlugin.getInstance()
+            .getBingoMatch()
+            .getTimerService()
+            .removeViewer(player);
+        BingoMatchReplaySession.stop(player);
+        BingoPlayer bingoPlayer = BingoPlugin.getInstance()
+            .getBingoMatch()
+            .getBingoPlayerRepository()
+            .findByUUID(player.getUniqueId());
+        if (bingoPlayer != null) bingoPlayer.clearOnlinePlayer();
+        BingoTeam team = BingoPlugin.getInstance()
+            .getBingoMatch()
+            .getBingoTeamFromPlayer(player);
+        if (team != null) team.memberQuit(player);
+
         // Only remove players in adventure or survival from the bingo game
         if (
             player.getGameMode() != GameMode.ADVENTURE &&
@@ -295,34 +336,38 @@ public class BingoMatchListener implements Listener {
             event.getAction() == Action.RIGHT_CLICK_BLOCK
         ) {
             ItemStack itemInHand = player.getInventory().getItemInMainHand();
-            String customId = BingoGuiItem.getCustomString(
-                itemInHand,
-                "custom_id"
-            );
-            if (customId != null) {
-                switch (customId) {
-                    case "bingo_match_bingo_card_item":
-                        BingoTeam bingoTeamFromPlayer =
-                            gameManager.getBingoTeamFromPlayer(player);
-                        BingoTeam bingoTeamToShow = bingoTeamFromPlayer;
-                        BingoCardGui.getInstance().openForPlayer(
-                            player,
-                            new BingoCardGuiContext(
-                                bingoTeamFromPlayer,
-                                bingoTeamToShow,
-                                gameManager.getBingoCard()
-                            )
-                        );
-                        event.setCancelled(true);
-                        return;
-                    case "bingo_lobby_team_selection_item":
-                        BingoTeamSelectGui.getInstance().openForPlayer(
-                            player,
-                            new BingoTeamSelectGuiContext()
-                        );
-                        event.setCancelled(true);
-                        return;
-                }
+            if (
+                BingoGuiItem.isGuiItem(
+                    itemInHand,
+                    BingoGuiItemFactory.BINGO_CARD_ITEM_ID
+                )
+            ) {
+                BingoTeam bingoTeamFromPlayer =
+                    gameManager.getBingoTeamFromPlayer(player);
+                BingoTeam bingoTeamToShow = bingoTeamFromPlayer;
+                BingoCardGui.getInstance().openForPlayer(
+                    player,
+                    new BingoCardGuiContext(
+                        bingoTeamFromPlayer,
+                        bingoTeamToShow,
+                        gameManager.getBingoCard()
+                    )
+                );
+                event.setCancelled(true);
+                return;
+            }
+            if (
+                BingoGuiItem.isGuiItem(
+                    itemInHand,
+                    BingoGuiItemFactory.TEAM_SELECTION_ITEM_ID
+                )
+            ) {
+                BingoTeamSelectGui.getInstance().openForPlayer(
+                    player,
+                    new BingoTeamSelectGuiContext()
+                );
+                event.setCancelled(true);
+                return;
             }
         }
 
@@ -379,14 +424,7 @@ public class BingoMatchListener implements Listener {
                     event.getPlayer(),
                     event.getItemDrop().getItemStack().getType()
                 );
-            if (
-                "bingo_match_bingo_card_item".equals(
-                    BingoGuiItem.getCustomString(
-                        event.getItemDrop().getItemStack(),
-                        "custom_id"
-                    )
-                )
-            ) {
+            if (isBingoCardItem(event.getItemDrop().getItemStack())) {
                 event.setCancelled(true);
             }
         } else if (gameManager.getState() == State.LOBBY) {
@@ -405,13 +443,7 @@ public class BingoMatchListener implements Listener {
                 .getRobbersModeService()
                 .handleItemLoss(player, itemStack.getType());
         }
-        event
-            .getDrops()
-            .removeIf(item ->
-                "bingo_match_bingo_card_item".equals(
-                    BingoGuiItem.getCustomString(item, "custom_id")
-                )
-            );
+        event.getDrops().removeIf(this::isBingoCardItem);
     }
 
     @EventHandler
@@ -436,6 +468,24 @@ public class BingoMatchListener implements Listener {
             player
                 .getInventory()
                 .addItem(BingoGuiItemFactory.createBingoCardItem());
+            gameManager.giveBingoCardMap(player);
         }
     }
+
+    /**
+     * Checks if an item is one of the bingo card items players keep for the
+     * whole match, the card itself or the map of the card.
+     *
+     * @param item The item to check
+     * @return true if the item must never leave the player
+     */
+    private boolean isBingoCardItem(ItemStack item) {
+        return (
+            BingoGuiItem.isGuiItem(item, BingoGuiItemFactory.BINGO_CARD_ITEM_ID) ||
+            BingoGuiItem.isGuiItem(
+                item,
+                BingoGuiItemFactory.BINGO_CARD_MAP_ITEM_ID
+            )
+        );
+    }
 }
@@ -1,26 +1,93 @@
 package com.bingaso.bingo.match;
 
+import com.bingaso.bingo.card.BingoCard;
+import com.bingaso.bingo.quest.BingoQuest;
 import com.bingaso.bingo.scoreboard.BingoGlobalScoreboard;
+import com.bingaso.bingo.scoreboard.BingoSidebar;
 import com.bingaso.bingo.team.BingoTeam;
-import java.time.Duration;
+import com.bingaso.bingo.team.BingoTeamListener;
+import com.bingaso.bingo.team.TeamQuestListener;
+import com.bingaso.bingo.utils.TimeFormatter;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
-import org.bukkit.scoreboard.Criteria;
-import org.bukkit.scoreboard.DisplaySlot;
-import org.bukkit.scoreboard.Objective;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.Scoreboard;
 
 /**
  * Manages the in-game scoreboard display for Bingo matches.
  * This class handles creating, updating, and removing scoreboards that show
  * game information such as elapsed time and team scores to all players.
+ * <p>
+ * Players in a team see a scoreboard of their own team with the time, the
+ * top three teams and their team's progress. Players without a team see the
+ * global scoreboard listing every team. Lines shared by every scoreboard are
+ * built once per update, the progress lines of a team are built again only
+ * after that team changed, and lines showing the same text as before are not
+ * sent again.
+ * </p>
  */
-public class BingoMatchScoreboard extends BingoGlobalScoreboard {
+public class BingoMatchScoreboard
+    extends BingoGlobalScoreboard
+    implements TeamQuestListener, BingoTeamListener {
+
+    /** Line showing the elapsed time */
+    private static final int TIME_LINE = 0;
+    /** First line listing the teams on the global scoreboard */
+    private static final int FIRST_TEAM_LINE = 2;
+    /** First line of the top teams on team scoreboards */
+    private static final int FIRST_TOP_LINE = 2;
+    /** Number of top teams shown on team scoreboards */
+    private static final int TOP_TEAMS = 3;
+    private static final int TEAM_NAME_LINE = 6;
+    private static final int RANK_LINE = 7;
+    private static final int FOUND_LINE = 8;
+    private static final int CLOSEST_LINE_LINE = 9;
+
+    private static final Component TITLE = Component.text(
+        "BINGO",
+        NamedTextColor.AQUA,
+        TextDecoration.BOLD
+    );
+    private static final Component TIME_LABEL = Component.text(
+        "Time: ",
+        NamedTextColor.YELLOW
+    );
+
+    /** Scoreboard shown to the players of one team */
+    private static class TeamScoreboard {
+
+        private final Scoreboard scoreboard;
+        private final BingoSidebar sidebar;
+
+        private TeamScoreboard(BingoTeam team) {
+            this.scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
+            this.sidebar = new BingoSidebar(scoreboard, TITLE);
+            sidebar.setLine(1, Component.empty());
+            sidebar.setLine(FIRST_TOP_LINE + TOP_TEAMS, Component.empty());
+            sidebar.setLine(
+                TEAM_NAME_LINE,
+                Component.text(team.getName(), team.getColor(), TextDecoration.BOLD)
+            );
+        }
+    }
 
     private final BingoMatch bingoMatch;
+    private final BingoSidebar sidebar;
+    private final Map<BingoTeam, TeamScoreboard> teamScoreboards =
+        new HashMap<>();
+    /** Elapsed seconds shown by the time lines */
+    private long shownSeconds = -1;
+    /** Whether the ranking of the teams must be computed again */
+    private boolean teamsDirty = true;
+    /** Slots of the teams whose progress lines must be computed again */
+    private final BitSet dirtyTeams = new BitSet();
 
     /**
      * Creates a new BingoScoreboard with the specified game manager.
@@ -30,76 +97,236 @@ public class BingoMatchScoreboard extends BingoGlobalScoreboard {
     public BingoMatchScoreboard(BingoMatch gameManager) {
         super();
         this.bingoMatch = gameManager;
+        this.sidebar = new BingoSidebar(scoreboard, TITLE);
+        sidebar.setLine(1, Component.empty());
+        bingoMatch.getTeamNameColors().addScoreboard(scoreboard);
     }
 
     /**
-     * Shows game time and team scores sorted by number of found items.
+     * Stops the scoreboard and stops coloring player names on the
+     * scoreboards that are no longer shown.
+     */
+    @Override
+    public void stop() {
+        super.stop();
+        bingoMatch.getTeamNameColors().removeScoreboard(scoreboard);
+        for (TeamScoreboard teamScoreboard : teamScoreboards.values()) {
+            bingoMatch
+                .getTeamNameColors()
+                .removeScoreboard(teamScoreboard.scoreboard);
+        }
+    }
+
+    /**
+     * Shows a player the scoreboard of their team, or the global scoreboard
+     * if they are not in a team.
      *
-     * @param player The player whose scoreboard should be updated
+     * @param player The player to show the scoreboard to
+     */
+    @Override
+    public void show(Player player) {
+        BingoTeam team = bingoMatch.getBingoTeamFromPlayer(player);
+        if (team == null) {
+            super.show(player);
+            return;
+        }
+        player.setScoreboard(getTeamScoreboard(team).scoreboard);
+    }
+
+    @Override
+    protected boolean isOwnScoreboard(Scoreboard playerScoreboard) {
+        if (super.isOwnScoreboard(playerScoreboard)) return true;
+        for (TeamScoreboard teamScoreboard : teamScoreboards.values()) {
+            if (teamScoreboard.scoreboard == playerScoreboard) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Shows game time and team scores sorted by number of found items.
      */
     @Override
     public void updateScoreboard() {
-        Objective objective = scoreboard.getObjective("bingo");
-        if (objective == null) {
-            objective = scoreboard.registerNewObjective(
-                "bingo",
-                Criteria.DUMMY,
+        // Lines shared by every scoreboard, built once
+        Component timeLine = null;
+        long elapsedSeconds = bingoMatch.getMatchDurationSeconds(Instant.now());
+        if (elapsedSeconds != shownSeconds) {
+            shownSeconds = elapsedSeconds;
+            timeLine = TIME_LABEL.append(
                 Component.text(
-                    "BINGO",
-                    NamedTextColor.AQUA,
-                    TextDecoration.BOLD
+                    TimeFormatter.formatSeconds(elapsedSeconds),
+                    NamedTextColor.WHITE
                 )
             );
-            objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+            sidebar.setLine(TIME_LINE, timeLine);
         }
 
-        for (String entry : scoreboard.getEntries()) {
-            scoreboard.resetScores(entry);
+        List<BingoTeam> ranking = null;
+        Component[] topLines = null;
+        if (teamsDirty) {
+            teamsDirty = false;
+            ranking = getRanking();
+            topLines = new Component[Math.min(TOP_TEAMS, ranking.size())];
+            for (int i = 0; i < topLines.length; i++) {
+                topLines[i] = getTeamLine(ranking.get(i), i + 1);
+            }
+            updateTeamLines(ranking);
+            teamScoreboards.keySet().retainAll(ranking);
         }
 
-        long elapsedSeconds = bingoMatch.getMatchDurationSeconds(Instant.now());
-        Duration duration = Duration.ofSeconds(elapsedSeconds);
-        String timeFormatted = String.format(
-            "%02d:%02d:%02d",
-            duration.toHoursPart(),
-            duration.toMinutesPart(),
-            duration.toSecondsPart()
-        );
+        if (ranking != null) {
+            for (int i = 0; i < ranking.size(); i++) {
+                BingoTeam team = ranking.get(i);
+                int rank = i + 1;
+                TeamScoreboard teamScoreboard = getTeamScoreboard(team);
+                for (int j = 0; j < TOP_TEAMS; j++) {
+                    if (j < topLines.length) {
+                        teamScoreboard.sidebar.setLine(FIRST_TOP_LINE + j, topLines[j]);
+                    } else {
+                        teamScoreboard.sidebar.clearLine(FIRST_TOP_LINE + j);
+                    }
+                }
+                teamScoreboard.sidebar.setLine(
+                    RANK_LINE,
+                    Component.text("Rank: ", NamedTextColor.YELLOW).append(
+                        Component.text(
+                            "#" + rank + " / " + ranking.size(),
+                            NamedTextColor.WHITE
+                        )
+                    )
+                );
+            }
+        }
+
+        for (Map.Entry<BingoTeam, TeamScoreboard> entry : teamScoreboards.entrySet()) {
+            if (timeLine != null) {
+                entry.getValue().sidebar.setLine(TIME_LINE, timeLine);
+            }
+            if (dirtyTeams.get(entry.getKey().getSlot())) {
+                updateProgressLines(entry.getKey(), entry.getValue());
+            }
+        }
+        dirtyTeams.clear();
+    }
+
+    /**
+     * Lists every team on the global scoreboard.
+     */
+    private void updateTeamLines(List<BingoTeam> ranking) {
+        int line = FIRST_TEAM_LINE;
+        for (BingoTeam team : ranking) {
+            if (line >= BingoSidebar.MAX_LINES) break;
+            sidebar.setLine(line++, getTeamLine(team, 0));
+        }
+        sidebar.clearLinesFrom(line);
+    }
 
-        objective.getScore("§eTime: §f" + timeFormatted).setScore(15);
-        objective.getScore("§r").setScore(14);
+    /**
+     * Shows the found and missing items of a team on its scoreboard.
+     */
+    private void updateProgressLines(BingoTeam team, TeamScoreboard teamScoreboard) {
+        BingoCard bingoCard = bingoMatch.getBingoCard();
+        int total = bingoCard.getItems().size();
+        int found = getScore(team);
 
-        ArrayList<BingoTeam> sortedTeams = new ArrayList<>(
-            bingoMatch.getBingoTeamRepository().findAll()
+        teamScoreboard.sidebar.setLine(
+            FOUND_LINE,
+            Component.text("Found: ", NamedTextColor.YELLOW).append(
+                Component.text(
+                    found + " / " + total + " (" + (total - found) + " left)",
+                    NamedTextColor.WHITE
+                )
+            )
         );
-        sortedTeams.sort(
-            Comparator.comparingInt((BingoTeam team) ->
-                team.getCompletedQuests().size()
+        teamScoreboard.sidebar.setLine(
+            CLOSEST_LINE_LINE,
+            Component.text("Closest line: ", NamedTextColor.YELLOW).append(
+                Component.text(
+                    bingoCard.getFewestMissingInLine(team) + " left",
+                    NamedTextColor.WHITE
+                )
             )
-                .reversed()
-                .thenComparing(BingoTeam::getName)
         );
+    }
 
-        int scoreIndex = 13;
-        for (BingoTeam team : sortedTeams) {
-            Component teamLine = Component.text(
-                team.getName() + ": " + team.getCompletedQuests().size(),
-                team.getColor()
-            );
-            objective.getScore(legacy(teamLine)).setScore(scoreIndex);
-            scoreIndex--;
-        }
+    private TeamScoreboard getTeamScoreboard(BingoTeam team) {
+        return teamScoreboards.computeIfAbsent(team, t -> {
+            dirtyTeams.set(t.getSlot());
+            teamsDirty = true;
+            TeamScoreboard teamScoreboard = new TeamScoreboard(t);
+            bingoMatch.getTeamNameColors().addScoreboard(teamScoreboard.scoreboard);
+            return teamScoreboard;
+        });
     }
 
     /**
-     * Converts an Adventure Component to a legacy string format for use with the scoreboard API.
+     * Gets the teams sorted by number of found items, then by the time they
+     * reached it.
+     */
+    private List<BingoTeam> getRanking() {
+        return bingoMatch
+            .getTeamManager()
+            .getTeamQuestService()
+            .getLeaderboard()
+            .getRanking();
+    }
+
+    /**
+     * Gets the line showing the score of a team.
      *
-     * @param component The component to convert
-     * @return A legacy string representation of the component
+     * @param team The team to show
+     * @param position The position shown before the team, 0 for none
      */
-    private String legacy(Component component) {
-        return net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer.legacySection().serialize(
-            component
-        );
+    private static Component getTeamLine(BingoTeam team, int position) {
+        String text = team.getName() + ": " + getScore(team);
+        if (position > 0) text = "#" + position + " " + text;
+        return Component.text(text, team.getColor());
+    }
+
+    private static int getScore(BingoTeam team) {
+        return team.getCompletedQuests().size();
+    }
+
+    @Override
+    public void onQuestCompleted(
+        BingoTeam team,
+        BingoQuest quest,
+        Instant completionTime
+    ) {
+        teamsDirty = true;
+        dirtyTeams.set(team.getSlot());
+    }
+
+    @Override
+    public void onQuestCompletionRemoved(BingoTeam team, BingoQuest quest) {
+        teamsDirty = true;
+        dirtyTeams.set(team.getSlot());
+    }
+
+    @Override
+    public void onQuestsCleared(BingoTeam team) {
+        teamsDirty = true;
+        dirtyTeams.set(team.getSlot());
+    }
+
+    @Override
+    public void onTeamPlayersChanged(BingoTeam bingoTeam) {
+        if (!isActive()) return;
+        bingoTeam.getOnlinePlayers().forEach(this::show);
+    }
+
+    @Override
+    public void onTeamCreated(BingoTeam bingoTeam) {
+        teamsDirty = true;
+    }
+
+    @Override
+    public void onTeamRemoved(BingoTeam bingoTeam) {
+        teamsDirty = true;
+    }
+
+    @Override
+    public void onTeamsCleared() {
+        teamsDirty = true;
     }
 }
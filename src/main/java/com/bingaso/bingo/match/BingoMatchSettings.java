@@ -26,6 +26,10 @@ public class BingoMatchSettings {
     private boolean isTimed = true;
     /* Enable robbers mode */
     private boolean robbersMode = false;
+    /* Minimum ticks between two refreshes of the card overview */
+    private int overviewRefreshTicks = 20;
+    /* How found items are announced in chat */
+    private AnnouncementMode announcementMode = AnnouncementMode.COMBINED;
 
     /**
      * Creates a new MatchSettings instance with default values.
@@ -158,6 +162,49 @@ public class BingoMatchSettings {
         this.itemRepository = itemRepository;
     }
 
+    /**
+     * Gets the minimum number of ticks between two refreshes of the card
+     * overview, however many quests are completed in between.
+     *
+     * @return The refresh interval of the card overview in ticks
+     */
+    public int getOverviewRefreshTicks() {
+        return overviewRefreshTicks;
+    }
+
+    /**
+     * Sets the minimum number of ticks between two refreshes of the card
+     * overview.
+     *
+     * @param overviewRefreshTicks The refresh interval in ticks
+     */
+    protected void setOverviewRefreshTicks(int overviewRefreshTicks) {
+        if (overviewRefreshTicks < 1) {
+            throw new IllegalArgumentException(
+                "Overview refresh interval must be at least 1 tick."
+            );
+        }
+        this.overviewRefreshTicks = overviewRefreshTicks;
+    }
+
+    /**
+     * Gets how found items are announced in chat.
+     *
+     * @return The announcement mode of found items
+     */
+    public AnnouncementMode getAnnouncementMode() {
+        return announcementMode;
+    }
+
+    /**
+     * Sets how found items are announced in chat.
+     *
+     * @param announcementMode The announcement mode of found items
+     */
+    protected void setAnnouncementMode(AnnouncementMode announcementMode) {
+        this.announcementMode = announcementMode;
+    }
+
     public int getMaxTeamSize() {
         return maxTeamSize;
     }
@@ -214,4 +261,20 @@ public class BingoMatchSettings {
          */
         LOCKED,
     }
+
+    /**
+     * Represents how the items found by teams are announced in chat.
+     */
+    public static enum AnnouncementMode {
+        /**
+         * Every found item is announced on its own, as soon as it is found.
+         */
+        INDIVIDUAL,
+
+        /**
+         * Items found within a short window are announced together, one
+         * message per team.
+         */
+        COMBINED,
+    }
 }
@@ -1,10 +1,17 @@
 package com.bingaso.bingo.match;
 
+import com.bingaso.bingo.BingoPlugin;
+import com.bingaso.bingo.card.BingoCardGenerator.DifficultyLevel;
 import com.bingaso.bingo.gui.BingoGui;
 import com.bingaso.bingo.gui.BingoGuiItemFactory;
+import com.bingaso.bingo.match.BingoMatchSettings.AnnouncementMode;
+import com.bingaso.bingo.match.BingoMatchSettings.GameMode;
+import com.bingaso.bingo.match.BingoMatchSettings.TeamMode;
 import net.kyori.adventure.text.Component;
-import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
 
 /**
  * GUI for configuring Bingo game settings.
@@ -14,6 +21,9 @@ import org.bukkit.inventory.Inventory;
  */
 public class BingoMatchSettingsGui extends BingoGui {
 
+    /** Refresh intervals of the card overview the settings cycle through */
+    private static final int[] OVERVIEW_REFRESH_TICKS = { 5, 10, 20, 40, 100 };
+
     /** Singleton instance of the ConfigGui */
     public static final BingoMatchSettingsGui INSTANCE =
         new BingoMatchSettingsGui();
@@ -21,7 +31,40 @@ public class BingoMatchSettingsGui extends BingoGui {
     /**
      * Private constructor to enforce singleton pattern.
      */
-    private BingoMatchSettingsGui() {}
+    private BingoMatchSettingsGui() {
+        registerClickHandler(
+            "bingo_config_gamemode_gui_item",
+            this::onGameModeClick
+        );
+        registerClickHandler(
+            "bingo_config_team_mode_gui_item",
+            this::onTeamModeClick
+        );
+        registerClickHandler(
+            "bingo_config_difficulty_gui_item",
+            this::onDifficultyClick
+        );
+        registerClickHandler(
+            "bingo_config_robbers_mode_gui_item",
+            this::onRobbersModeClick
+        );
+        registerClickHandler(
+            "bingo_config_duration_gui_item",
+            this::onDurationClick
+        );
+        registerClickHandler(
+            "bingo_config_is_timed_gui_item",
+            this::onIsTimedClick
+        );
+        registerClickHandler(
+            "bingo_config_overview_refresh_gui_item",
+            this::onOverviewRefreshClick
+        );
+        registerClickHandler(
+            "bingo_config_announcement_mode_gui_item",
+            this::onAnnouncementModeClick
+        );
+    }
 
     /**
      * Gets the singleton instance of ConfigGui.
@@ -70,8 +113,8 @@ public class BingoMatchSettingsGui extends BingoGui {
      */
     public Inventory getInventory(ConfigGuiContext context) {
         BingoMatchSettings matchSettings = context.matchSettings;
-        Inventory inventory = Bukkit.createInventory(
-            null,
+        Inventory inventory = createInventory(
+            context,
             27,
             Component.text("Bingo Configuration")
         );
@@ -112,7 +155,177 @@ public class BingoMatchSettingsGui extends BingoGui {
                 matchSettings.getGameDuration()
             )
         );
+        inventory.setItem(
+            22,
+            BingoGuiItemFactory.createOverviewRefreshGuiItem(
+                matchSettings.getOverviewRefreshTicks()
+            )
+        );
+        inventory.setItem(
+            23,
+            BingoGuiItemFactory.createAnnouncementModeGuiItem(
+                matchSettings.getAnnouncementMode()
+            )
+        );
 
         return inventory;
     }
+
+    /**
+     * Cycles through the available game modes.
+     */
+    private void onGameModeClick(
+        InventoryClickEvent event,
+        Player player,
+        ItemStack clickedItem,
+        GuiContext context
+    ) {
+        BingoMatchSettings settings = getMatchSettings();
+        GameMode[] gameModes = GameMode.values();
+        GameMode nextGameMode = gameModes[(settings
+                .getGameMode()
+                .ordinal() +
+            1) %
+        gameModes.length];
+        settings.setGameMode(nextGameMode);
+        reopen(player, settings);
+    }
+
+    /**
+     * Cycles through the available team modes.
+     */
+    private void onTeamModeClick(
+        InventoryClickEvent event,
+        Player player,
+        ItemStack clickedItem,
+        GuiContext context
+    ) {
+        BingoMatchSettings settings = getMatchSettings();
+        TeamMode[] teamModes = TeamMode.values();
+        TeamMode nextTeamMode = teamModes[(settings
+                .getTeamMode()
+                .ordinal() +
+            1) %
+        teamModes.length];
+        settings.setTeamMode(nextTeamMode);
+        reopen(player, settings);
+    }
+
+    /**
+     * Cycles through the difficulty levels and generates a new bingo card
+     * with the selected one.
+     */
+    private void onDifficultyClick(
+        InventoryClickEvent event,
+        Player player,
+        ItemStack clickedItem,
+        GuiContext context
+    ) {
+        BingoMatchSettings settings = getMatchSettings();
+        DifficultyLevel[] difficulties = DifficultyLevel.values();
+        DifficultyLevel nextDifficulty = difficulties[(settings
+                .getDifficultyLevel()
+                .ordinal() +
+            1) %
+        difficulties.length];
+        settings.setDifficultyLevel(nextDifficulty);
+        BingoPlugin.getInstance()
+            .getBingoMatch()
+            .generateNewBingoCard();
+        reopen(player, settings);
+    }
+
+    /**
+     * Toggles robbers mode.
+     */
+    private void onRobbersModeClick(
+        InventoryClickEvent event,
+        Player player,
+        ItemStack clickedItem,
+        GuiContext context
+    ) {
+        BingoMatchSettings settings = getMatchSettings();
+        settings.setRobbersMode(!settings.isRobbersModeEnabled());
+        reopen(player, settings);
+    }
+
+    /**
+     * Increases the game duration on left click and decreases it on right
+     * click.
+     */
+    private void onDurationClick(
+        InventoryClickEvent event,
+        Player player,
+        ItemStack clickedItem,
+        GuiContext context
+    ) {
+        BingoMatchSettings settings = getMatchSettings();
+        int currentDuration = settings.getGameDuration();
+        if (event.isLeftClick()) {
+            settings.setGameDuration(currentDuration + 5);
+        } else if (event.isRightClick()) {
+            settings.setGameDuration(Math.max(1, currentDuration - 5));
+        }
+        reopen(player, settings);
+    }
+
+    /**
+     * Toggles whether the match is timed.
+     */
+    private void onIsTimedClick(
+        InventoryClickEvent event,
+        Player player,
+        ItemStack clickedItem,
+        GuiContext context
+    ) {
+        BingoMatchSettings settings = getMatchSettings();
+        settings.setIsTimed(!settings.matchIsTimed());
+        reopen(player, settings);
+    }
+
+    /**
+     * Cycles through the available refresh intervals of the card overview.
+     */
+    private void onOverviewRefreshClick(
+        InventoryClickEvent event,
+        Player player,
+        ItemStack clickedItem,
+        GuiContext context
+    ) {
+        BingoMatchSettings settings = getMatchSettings();
+        int next = OVERVIEW_REFRESH_TICKS[0];
+        for (int ticks : OVERVIEW_REFRESH_TICKS) {
+            if (ticks > settings.getOverviewRefreshTicks()) {
+                next = ticks;
+                break;
+            }
+        }
+        settings.setOverviewRefreshTicks(next);
+        reopen(player, settings);
+    }
+
+    /**
+     * Cycles through the announcement modes of found items.
+     */
+    private void onAnnouncementModeClick(
+        InventoryClickEvent event,
+        Player player,
+        ItemStack clickedItem,
+        GuiContext context
+    ) {
+        BingoMatchSettings settings = getMatchSettings();
+        AnnouncementMode[] modes = AnnouncementMode.values();
+        settings.setAnnouncementMode(
+            modes[(settings.getAnnouncementMode().ordinal() + 1) % modes.length]
+        );
+        reopen(player, settings);
+    }
+
+    private BingoMatchSettings getMatchSettings() {
+        return BingoPlugin.getInstance().getBingoMatch().getMatchSettings();
+    }
+
+    private void reopen(Player player, BingoMatchSettings settings) {
+        openForPlayer(player, new ConfigGuiContext(settings));
+    }
 }
@@ -75,11 +75,34 @@ public class MatchLifecycleManager {
      * @param onTimedEnd Callback to execute when a timed match ends naturally
      */
     public void start(Runnable onTimedEnd) {
+        begin(Instant.now(), onTimedEnd);
+        broadcaster.announceStart();
+    }
+
+    /**
+     * Resumes a match that was interrupted, keeping the time it had been
+     * running for. A timed match ends when its remaining time runs out.
+     *
+     * @param startInstant The start of the match, moved so the time it had
+     * been running for ends now
+     * @param onTimedEnd Callback to execute when a timed match ends naturally
+     */
+    public void resume(Instant startInstant, Runnable onTimedEnd) {
+        begin(startInstant, onTimedEnd);
+        broadcaster.announceResume();
+    }
+
+    private void begin(Instant startInstant, Runnable onTimedEnd) {
         state = State.IN_PROGRESS;
-        startInstant = Instant.now();
+        this.startInstant = startInstant;
 
         if (settings.matchIsTimed()) {
-            long durationInTicks = settings.getGameDuration() * 60 * 20L;
+            long elapsedTicks =
+                (Instant.now().toEpochMilli() - startInstant.toEpochMilli()) / 50L;
+            long durationInTicks = Math.max(
+                1L,
+                settings.getGameDuration() * 60 * 20L - elapsedTicks
+            );
             endGameTask = BingoPlugin.getInstance()
                 .getServer()
                 .getScheduler()
@@ -89,8 +112,6 @@ public class MatchLifecycleManager {
                     durationInTicks
                 );
         }
-
-        broadcaster.announceStart();
     }
 
     /**
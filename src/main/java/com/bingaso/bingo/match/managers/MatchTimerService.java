@@ -0,0 +1,204 @@
+package com.bingaso.bingo.match.managers;
+
+import com.bingaso.bingo.BingoPlugin;
+import com.bingaso.bingo.match.BingoMatchSettings;
+import com.bingaso.bingo.utils.TimeFormatter;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Shows the remaining time of a timed match.
+ * <p>
+ * A boss bar shows the remaining time and its progress, and the action bar
+ * warns players when milestones such as five or one minute left are reached.
+ * A single ticker per match drives both, and the boss bar is only changed
+ * when the shown text, progress step or color changes. Viewers are added and
+ * removed as players join and quit instead of looking at every online player
+ * on each tick.
+ * </p>
+ *
+ * @since 1.0
+ */
+public class MatchTimerService {
+
+    /** Remaining seconds at which the action bar warns players, descending */
+    private static final int[] WARNING_SECONDS = {
+        600, 300, 60, 30, 10, 5, 4, 3, 2, 1,
+    };
+    /** Number of distinct progress values shown by the boss bar */
+    private static final int PROGRESS_STEPS = 100;
+    /** Ticks between two updates of the shown time */
+    private static final long TICK_PERIOD = 20L;
+
+    /** Match settings configuration */
+    private final BingoMatchSettings settings;
+    /** Lifecycle of the match, which knows when the match started */
+    private final MatchLifecycleManager lifecycleManager;
+
+    /** Players seeing the boss bar and warnings */
+    private final Set<Player> viewers = new LinkedHashSet<>();
+    /** Audience forwarding to the viewers */
+    private final Audience audience = Audience.audience(viewers);
+    private BossBar bossBar;
+    private BukkitTask ticker;
+    private long totalSeconds;
+    private long shownSeconds = -1;
+    private int shownProgressStep = -1;
+    /** Index of the next warning to send */
+    private int nextWarning = 0;
+
+    /**
+     * Creates a new match timer service.
+     *
+     * @param settings The match settings, used to get the match duration
+     * @param lifecycleManager The lifecycle of the match, used to get the start time
+     */
+    public MatchTimerService(
+        BingoMatchSettings settings,
+        MatchLifecycleManager lifecycleManager
+    ) {
+        this.settings = settings;
+        this.lifecycleManager = lifecycleManager;
+    }
+
+    /**
+     * Starts showing the remaining time, if the match is timed.
+     *
+     * @param players The players watching the match when it starts
+     */
+    public void start(Collection<? extends Player> players) {
+        stop();
+        if (!settings.matchIsTimed()) return;
+
+        totalSeconds = settings.getGameDuration() * 60L;
+        shownSeconds = -1;
+        shownProgressStep = -1;
+        nextWarning = 0;
+        while (
+            nextWarning < WARNING_SECONDS.length &&
+            WARNING_SECONDS[nextWarning] >= totalSeconds
+        ) {
+            nextWarning++;
+        }
+
+        bossBar = BossBar.bossBar(
+            Component.empty(),
+            1f,
+            BossBar.Color.GREEN,
+            BossBar.Overlay.PROGRESS
+        );
+        players.forEach(this::addViewer);
+        tick();
+        ticker = BingoPlugin.getInstance()
+            .getServer()
+            .getScheduler()
+            .runTaskTimer(
+                BingoPlugin.getInstance(),
+                this::tick,
+                TICK_PERIOD,
+                TICK_PERIOD
+            );
+    }
+
+    /**
+     * Stops showing the remaining time and hides the boss bar from everyone.
+     */
+    public void stop() {
+        if (ticker != null) {
+            ticker.cancel();
+            ticker = null;
+        }
+        if (bossBar != null) {
+            for (Player player : viewers) {
+                player.hideBossBar(bossBar);
+            }
+            bossBar = null;
+        }
+        viewers.clear();
+    }
+
+    /**
+     * Shows the remaining time to a player, for example when joining.
+     *
+     * @param player The player to show the timer to
+     */
+    public void addViewer(Player player) {
+        if (bossBar == null) return;
+        if (viewers.add(player)) {
+            player.showBossBar(bossBar);
+        }
+    }
+
+    /**
+     * Stops showing the remaining time to a player, for example when quitting.
+     *
+     * @param player The player to hide the timer from
+     */
+    public void removeViewer(Player player) {
+        if (viewers.remove(player) && bossBar != null) {
+            player.hideBossBar(bossBar);
+        }
+    }
+
+    private void tick() {
+        Instant startInstant = lifecycleManager.getStartInstant();
+        if (startInstant == null) return;
+
+        long elapsed =
+            Instant.now().getEpochSecond() - startInstant.getEpochSecond();
+        long remaining = Math.max(0, totalSeconds - elapsed);
+        if (remaining == shownSeconds) return;
+        shownSeconds = remaining;
+
+        bossBar.name(
+            Component.text("Time left: ", NamedTextColor.YELLOW).append(
+                Component.text(
+                    TimeFormatter.formatCompactSeconds(remaining),
+                    NamedTextColor.WHITE
+                )
+            )
+        );
+
+        int progressStep = (int) Math.ceil(
+            (double) remaining * PROGRESS_STEPS / totalSeconds
+        );
+        if (progressStep != shownProgressStep) {
+            shownProgressStep = progressStep;
+            bossBar.progress((float) progressStep / PROGRESS_STEPS);
+
+            BossBar.Color color = getColor(progressStep);
+            if (color != bossBar.color()) bossBar.color(color);
+        }
+
+        boolean warn = false;
+        while (
+            nextWarning < WARNING_SECONDS.length &&
+            remaining <= WARNING_SECONDS[nextWarning]
+        ) {
+            nextWarning++;
+            warn = true;
+        }
+        if (warn && remaining > 0) {
+            audience.sendActionBar(
+                Component.text(
+                    TimeFormatter.formatCompactSeconds(remaining) + " left!",
+                    remaining <= 60 ? NamedTextColor.RED : NamedTextColor.GOLD
+                )
+            );
+        }
+    }
+
+    private static BossBar.Color getColor(int progressStep) {
+        if (progressStep <= PROGRESS_STEPS / 10) return BossBar.Color.RED;
+        if (progressStep <= PROGRESS_STEPS / 4) return BossBar.Color.YELLOW;
+        return BossBar.Color.GREEN;
+    }
+}
@@ -6,6 +6,7 @@ import com.bingaso.bingo.player.BingoPlayerRepository.PlayerAlreadyExistsExcepti
 import com.bingaso.bingo.player.BingoPlayerRepositoryInMemory;
 import java.util.List;
 import java.util.UUID;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
 /**
@@ -41,6 +42,28 @@ public class PlayerManager {
         }
     }
 
+    /**
+     * Adds a player of a match that is resumed, who may be offline.
+     *
+     * @param uuid The UUID of the player
+     * @param name The name the player had
+     * @return The player of the match
+     */
+    public BingoPlayer restorePlayer(UUID uuid, String name) {
+        BingoPlayer bingoPlayer = playerRepository.findByUUID(uuid);
+        if (bingoPlayer != null) return bingoPlayer;
+
+        bingoPlayer = new BingoPlayer(uuid, name);
+        Player player = Bukkit.getPlayer(uuid);
+        if (player != null) bingoPlayer.setOnlinePlayer(player);
+        try {
+            playerRepository.save(bingoPlayer);
+        } catch (PlayerAlreadyExistsException e) {
+            return playerRepository.findByUUID(uuid);
+        }
+        return bingoPlayer;
+    }
+
     /**
      * Removes a player from the match.
      * <p>
@@ -2,13 +2,14 @@ package com.bingaso.bingo.match.managers;
 
 import com.bingaso.bingo.BingoPlugin;
 import com.bingaso.bingo.match.BingoMatch;
-import com.bingaso.bingo.player.BingoPlayer;
 import com.bingaso.bingo.quest.BingoQuest;
 import com.bingaso.bingo.quest.BingoQuestItem;
 import com.bingaso.bingo.team.BingoTeam;
 import com.bingaso.bingo.team.TeamQuestService;
 import java.util.HashSet;
 import java.util.Set;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
@@ -21,9 +22,9 @@ public class RobbersModeService {
 
     public RobbersModeService(BingoMatch bingoMatch) {
         this.bingoMatch = bingoMatch;
-        this.teamQuestService = new TeamQuestService(
-            bingoMatch.getBingoTeamRepository()
-        );
+        this.teamQuestService = bingoMatch
+            .getTeamManager()
+            .getTeamQuestService();
     }
 
     public void handleItemLoss(Player player, Material material) {
@@ -31,16 +32,9 @@ public class RobbersModeService {
             return;
         }
 
-        BingoPlayer bingoPlayer = bingoMatch
-            .getBingoPlayerRepository()
-            .findByUUID(player.getUniqueId());
-        if (bingoPlayer == null) {
-            return;
-        }
-
         BingoTeam team = bingoMatch
             .getBingoTeamRepository()
-            .findTeamByPlayer(bingoPlayer);
+            .findTeamByPlayerId(player.getUniqueId());
         if (team == null) {
             return;
         }
@@ -73,14 +67,9 @@ public class RobbersModeService {
             return;
         }
 
-        BingoPlayer bingoPlayer = bingoMatch
-            .getBingoPlayerRepository()
-            .findByUUID(player.getUniqueId());
-        if (bingoPlayer == null) return;
-
         BingoTeam team = bingoMatch
             .getBingoTeamRepository()
-            .findTeamByPlayer(bingoPlayer);
+            .findTeamByPlayerId(player.getUniqueId());
         if (team == null) return;
 
         BingoPlugin.getInstance()
@@ -106,12 +95,13 @@ public class RobbersModeService {
                 if (!teamHasItem(team, itemMaterial)) {
                     teamQuestService.removeQuestCompletion(team, quest);
                     team
-                        .getOnlinePlayers()
-                        .forEach(p ->
-                            p.sendMessage(
-                                "§cYour team has lost the: " +
+                        .audience()
+                        .sendMessage(
+                            Component.text(
+                                "Your team has lost the: " +
                                     itemMaterial.name() +
-                                    "!"
+                                    "!",
+                                NamedTextColor.RED
                             )
                         );
                 }
@@ -120,12 +110,9 @@ public class RobbersModeService {
     }
 
     private boolean teamHasItem(BingoTeam team, Material material) {
-        for (BingoPlayer teamMember : team.getPlayers()) {
-            Player onlinePlayer = teamMember.getOnlinePlayer();
-            if (onlinePlayer != null && onlinePlayer.isOnline()) {
-                if (playerHasItem(onlinePlayer, material)) {
-                    return true;
-                }
+        for (Player onlinePlayer : team.getOnlinePlayers()) {
+            if (playerHasItem(onlinePlayer, material)) {
+                return true;
             }
         }
         return false;
@@ -3,10 +3,15 @@ package com.bingaso.bingo.match.managers;
 import com.bingaso.bingo.player.BingoPlayer;
 import com.bingaso.bingo.team.BingoTeam;
 import com.bingaso.bingo.team.BingoTeamColorGenerator;
+import com.bingaso.bingo.team.BingoTeamListener;
 import com.bingaso.bingo.team.BingoTeamRepository;
 import com.bingaso.bingo.team.BingoTeamRepository.ColorAlreadyExistsException;
 import com.bingaso.bingo.team.BingoTeamRepository.TeamNameAlreadyExistsException;
 import com.bingaso.bingo.team.BingoTeamRepositoryInMemory;
+import com.bingaso.bingo.team.TeamQuestService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
 import net.kyori.adventure.text.format.TextColor;
 
 /**
@@ -40,8 +45,14 @@ public class TeamManager {
     /** Repository for storing and retrieving team data */
     private final BingoTeamRepository teamRepository =
         new BingoTeamRepositoryInMemory();
+    /** Single quest service of the match, so its listeners see every change */
+    private final TeamQuestService teamQuestService = new TeamQuestService(
+        teamRepository
+    );
     /** Maximum number of players allowed per team */
     private final int maxTeamSize;
+    /** Listeners notified of every team change */
+    private final List<BingoTeamListener> listeners = new ArrayList<>();
 
     /**
      * Creates a new team manager with the specified maximum team size.
@@ -50,6 +61,8 @@ public class TeamManager {
      */
     public TeamManager(int maxTeamSize) {
         this.maxTeamSize = maxTeamSize;
+        this.listeners.add(teamQuestService.getLeaderboard());
+        this.listeners.add(teamQuestService.getClaims());
     }
 
     /**
@@ -73,6 +86,7 @@ public class TeamManager {
 
         try {
             teamRepository.save(bingoTeam);
+            listeners.forEach(l -> l.onTeamCreated(bingoTeam));
             return bingoTeam;
         } catch (ColorAlreadyExistsException e) {
             throw new IllegalStateException(
@@ -82,6 +96,24 @@ public class TeamManager {
         }
     }
 
+    /**
+     * Creates a bingo team with a known color, for teams of a match that is
+     * resumed.
+     *
+     * @param name The name of the team
+     * @param color The color the team had
+     * @return The restored team
+     * @throws TeamNameAlreadyExistsException If a team with the same name already exists
+     * @throws ColorAlreadyExistsException If a team with the same color already exists
+     */
+    public BingoTeam restoreBingoTeam(String name, TextColor color)
+        throws TeamNameAlreadyExistsException, ColorAlreadyExistsException {
+        BingoTeam bingoTeam = new BingoTeam(name, color);
+        teamRepository.save(bingoTeam);
+        listeners.forEach(l -> l.onTeamCreated(bingoTeam));
+        return bingoTeam;
+    }
+
     /**
      * Adds a player to a bingo team.
      * <p>
@@ -105,6 +137,7 @@ public class TeamManager {
         }
 
         teamRepository.assignPlayerToTeam(bingoPlayer, team);
+        listeners.forEach(l -> l.onTeamPlayersChanged(team));
     }
 
     /**
@@ -117,8 +150,13 @@ public class TeamManager {
      */
     public void removePlayerFromBingoTeam(BingoPlayer bingoPlayer) {
         BingoTeam team = teamRepository.removePlayerFromTeam(bingoPlayer);
-        if (team != null && team.getSize() == 0) {
+        if (team == null) return;
+
+        if (team.getSize() == 0) {
             teamRepository.remove(team);
+            listeners.forEach(l -> l.onTeamRemoved(team));
+        } else {
+            listeners.forEach(l -> l.onTeamPlayersChanged(team));
         }
     }
 
@@ -132,6 +170,17 @@ public class TeamManager {
         return teamRepository.findTeamByPlayer(bingoPlayer);
     }
 
+    /**
+     * Gets the team that the player with the given UUID belongs to, without
+     * looking the player up first.
+     *
+     * @param uuid The UUID of the player to look up
+     * @return The player's team, or null if they are not in a team
+     */
+    public BingoTeam getTeamByPlayerId(UUID uuid) {
+        return teamRepository.findTeamByPlayerId(uuid);
+    }
+
     /**
      * Gets the team repository used by this manager.
      *
@@ -141,6 +190,15 @@ public class TeamManager {
         return teamRepository;
     }
 
+    /**
+     * Gets the quest service shared by the whole match.
+     *
+     * @return The team quest service
+     */
+    public TeamQuestService getTeamQuestService() {
+        return teamQuestService;
+    }
+
     /**
      * Clears all teams from the repository.
      * <p>
@@ -149,5 +207,24 @@ public class TeamManager {
      */
     public void clear() {
         teamRepository.clear();
+        listeners.forEach(BingoTeamListener::onTeamsCleared);
+    }
+
+    /**
+     * Registers a listener notified of every team change.
+     *
+     * @param listener The listener to add
+     */
+    public void addListener(BingoTeamListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param listener The listener to remove
+     */
+    public void removeListener(BingoTeamListener listener) {
+        listeners.remove(listener);
     }
 }
@@ -3,8 +3,8 @@ package com.bingaso.bingo.match.managers;
 import com.bingaso.bingo.card.BingoCard;
 import com.bingaso.bingo.match.BingoMatchSettings;
 import com.bingaso.bingo.team.BingoTeam;
+import com.bingaso.bingo.team.BingoTeamLeaderboard;
 import com.bingaso.bingo.team.BingoTeamRepositoryReadOnly;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -97,32 +97,17 @@ public class WinConditionService {
     /**
      * Determines winners for a timed match.
      * <p>
-     * When time expires in a timed match, this method:
-     * <ol>
-     *   <li>Finds all teams with the highest number of completed quests</li>
-     *   <li>If multiple teams have the same score, they all win (tie)</li>
-     * </ol>
+     * When time expires in a timed match, every team sharing the highest
+     * number of completed quests wins, so several teams may win in case of a
+     * tie. The leaders are read from the leaderboard without scanning teams.
      * </p>
      *
-     * @param teamRepository The repository containing all teams in the match
+     * @param leaderboard The ranking of the teams in the match
      * @return A list of winning teams (may be multiple in case of tie)
      */
     public List<BingoTeam> determineTimedWinners(
-        BingoTeamRepositoryReadOnly teamRepository
+        BingoTeamLeaderboard leaderboard
     ) {
-        List<BingoTeam> potentialWinners = new ArrayList<>();
-        int highestScore = -1;
-
-        for (BingoTeam team : teamRepository.findAll()) {
-            int currentScore = team.getCompletedQuests().size();
-            if (currentScore > highestScore) {
-                highestScore = currentScore;
-                potentialWinners.clear();
-                potentialWinners.add(team);
-            } else if (currentScore == highestScore) {
-                potentialWinners.add(team);
-            }
-        }
-        return potentialWinners;
+        return leaderboard.getLeaders();
     }
 }
@@ -0,0 +1,385 @@
+package com.bingaso.bingo.match.replay;
+
+import com.bingaso.bingo.match.BingoMatch;
+import com.bingaso.bingo.player.BingoPlayer;
+import com.bingaso.bingo.quest.BingoQuest;
+import com.bingaso.bingo.quest.BingoQuestCodec;
+import com.bingaso.bingo.team.BingoTeam;
+import com.bingaso.bingo.team.BingoTeamListener;
+import com.bingaso.bingo.team.TeamQuestListener;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import org.bukkit.Bukkit;
+
+/**
+ * Records the events of a match to a replay file, so finishes can be
+ * reviewed later with {@link BingoMatchReplaySession}.
+ * <p>
+ * A replay starts with the start of the match and its card, followed by
+ * events stamped with the milliseconds since the start: team changes, quest
+ * completions and losses, and the winners. Teams are referred to by their
+ * {@link BingoTeam#getSlot() slot} and quests by their index on the card,
+ * so recording a quest event writes a few bytes into a buffer and allocates
+ * nothing. A background thread swaps the buffer and writes it to the file
+ * every second.
+ * </p>
+ *
+ * @since 1.0
+ */
+public class BingoMatchEventLog
+    implements TeamQuestListener, BingoTeamListener {
+
+    /** "BNGR", at the start of every replay file */
+    static final int MAGIC = 0x424E4752;
+    static final byte FORMAT_VERSION = 1;
+    /** Highest team slot a replay can hold, slots are unsigned shorts */
+    static final int MAX_SLOT = 0xFFFF;
+    /** Extension of replay files, named after their id */
+    static final String EXTENSION = ".bingoreplay";
+
+    static final byte EVENT_TEAM = 1;
+    static final byte EVENT_TEAM_REMOVED = 2;
+    static final byte EVENT_QUEST_COMPLETED = 3;
+    static final byte EVENT_QUEST_LOST = 4;
+    static final byte EVENT_WIN = 5;
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final long FLUSH_INTERVAL_MILLIS = 1000L;
+
+    /**
+     * Buffers events and writes them to a replay file on its own thread.
+     * Events are added to the active buffer under the lock; the thread swaps
+     * the buffers and writes the full one outside the lock.
+     */
+    private static final class Writer implements Runnable {
+
+        private final File file;
+        private final Object lock = new Object();
+        private ByteBuffer active = ByteBuffer.allocate(BUFFER_SIZE);
+        private ByteBuffer spare = ByteBuffer.allocate(BUFFER_SIZE);
+        private boolean closing = false;
+        private final Thread thread;
+
+        private Writer(File file) {
+            this.file = file;
+            this.thread = new Thread(this, "Bingo replay writer");
+            this.thread.setDaemon(true);
+        }
+
+        /** Gets the active buffer with room for the given number of bytes */
+        private ByteBuffer reserve(int bytes) {
+            if (active.remaining() < bytes) {
+                ByteBuffer larger = ByteBuffer.allocate(
+                    Math.max(active.capacity() * 2, active.position() + bytes)
+                );
+                active.flip();
+                larger.put(active);
+                active = larger;
+            }
+            return active;
+        }
+
+        private void close() {
+            synchronized (lock) {
+                closing = true;
+                lock.notifyAll();
+            }
+        }
+
+        @Override
+        public void run() {
+            try (FileChannel channel = FileChannel.open(
+                file.toPath(),
+                StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+            )) {
+                while (true) {
+                    ByteBuffer full;
+                    boolean last;
+                    synchronized (lock) {
+                        if (!closing) lock.wait(FLUSH_INTERVAL_MILLIS);
+                        full = active;
+                        active = spare;
+                        spare = full;
+                        last = closing;
+                    }
+                    full.flip();
+                    while (full.hasRemaining()) {
+                        channel.write(full);
+                    }
+                    full.clear();
+                    if (last) return;
+                }
+            } catch (IOException e) {
+                Bukkit.getLogger().log(Level.WARNING, "Couldn't write the replay " + file.getName(), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private final File directory;
+    private Writer writer;
+    private long startMillis;
+    /** Index on the card of every quest */
+    private final Map<BingoQuest, Integer> questIndexes = new HashMap<>();
+
+    /**
+     * Creates the event log of the matches of the plugin.
+     *
+     * @param directory The directory of the replay files
+     */
+    public BingoMatchEventLog(File directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @return The directory of the replay files.
+     */
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Starts recording a match that just started or was resumed. The teams
+     * and the quests they completed so far are recorded first, so every
+     * replay can be played on its own.
+     *
+     * @param bingoMatch The running match
+     * @param startInstant The start of the match
+     * @return The id of the replay
+     */
+    public int begin(BingoMatch bingoMatch, Instant startInstant) {
+        closeWriter();
+        this.startMillis = startInstant.toEpochMilli();
+        List<BingoQuest> quests = bingoMatch.getBingoCard().getItems();
+        questIndexes.clear();
+        for (int i = 0; i < quests.size(); i++) {
+            if (quests.get(i) != null) questIndexes.put(quests.get(i), i);
+        }
+
+        directory.mkdirs();
+        int id = nextId(directory);
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        try {
+            DataOutputStream out = new DataOutputStream(header);
+            out.writeInt(MAGIC);
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(startMillis);
+            out.writeInt(quests.size());
+            for (BingoQuest quest : quests) {
+                BingoQuestCodec.write(out, quest);
+            }
+        } catch (IOException e) {
+            // Writing to memory does not fail
+            throw new IllegalStateException(e);
+        }
+
+        writer = new Writer(new File(directory, id + EXTENSION));
+        synchronized (writer.lock) {
+            byte[] bytes = header.toByteArray();
+            writer.reserve(bytes.length).put(bytes);
+        }
+        writer.thread.start();
+
+        for (BingoTeam team : bingoMatch.getBingoTeamRepository().findAll()) {
+            // Teams are recorded at the start, before what they completed
+            putTeam(team, startMillis);
+            team.getCompletedQuests()
+                .entrySet()
+                .stream()
+                .sorted(Map.Entry.comparingByValue())
+                .forEach(completion ->
+                    onQuestCompleted(team, completion.getKey(), completion.getValue())
+                );
+        }
+        return id;
+    }
+
+    /**
+     * Records the winners and stops recording the match.
+     *
+     * @param winners The teams that won the match
+     */
+    public void finish(List<BingoTeam> winners) {
+        if (writer == null) return;
+        synchronized (writer.lock) {
+            List<BingoTeam> recorded = new ArrayList<>(winners.size());
+            for (BingoTeam team : winners) {
+                if (isRecorded(team)) recorded.add(team);
+            }
+            ByteBuffer buffer = writer.reserve(9 + 2 * recorded.size());
+            putEventHeader(buffer, EVENT_WIN, System.currentTimeMillis());
+            buffer.putInt(recorded.size());
+            for (BingoTeam team : recorded) {
+                buffer.putShort((short) team.getSlot());
+            }
+        }
+        closeWriter();
+    }
+
+    /**
+     * Stops recording and waits for the recorded events to be written, for
+     * when the plugin is disabled.
+     */
+    public void close() {
+        Writer closed = writer;
+        closeWriter();
+        if (closed == null) return;
+        try {
+            closed.thread.join(5000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void closeWriter() {
+        if (writer == null) return;
+        writer.close();
+        writer = null;
+    }
+
+    /**
+     * Gets the ids of the replays in a directory.
+     *
+     * @param directory The directory of the replay files
+     * @return The ids, in increasing order
+     */
+    public static List<Integer> listIds(File directory) {
+        List<Integer> ids = new ArrayList<>();
+        String[] names = directory.list();
+        if (names == null) return ids;
+        for (String name : names) {
+            if (!name.endsWith(EXTENSION)) continue;
+            try {
+                ids.add(Integer.parseInt(name.substring(0, name.length() - EXTENSION.length())));
+            } catch (NumberFormatException e) {
+                // Not a replay written by the plugin
+            }
+        }
+        ids.sort(null);
+        return ids;
+    }
+
+    private static int nextId(File directory) {
+        List<Integer> ids = listIds(directory);
+        return ids.isEmpty() ? 1 : ids.get(ids.size() - 1) + 1;
+    }
+
+    /** Whether the slot of a team fits in a replay */
+    private static boolean isRecorded(BingoTeam team) {
+        return team.getSlot() >= 0 && team.getSlot() <= MAX_SLOT;
+    }
+
+    /** Writes the type and time of an event, 5 bytes */
+    private void putEventHeader(ByteBuffer buffer, byte type, long epochMillis) {
+        buffer.put(type);
+        buffer.putInt((int) Math.max(0L, epochMillis - startMillis));
+    }
+
+    private void putQuestEvent(
+        byte type,
+        BingoTeam team,
+        BingoQuest quest,
+        long epochMillis
+    ) {
+        if (writer == null || !isRecorded(team)) return;
+        Integer index = questIndexes.get(quest);
+        if (index == null) return;
+        synchronized (writer.lock) {
+            ByteBuffer buffer = writer.reserve(8);
+            putEventHeader(buffer, type, epochMillis);
+            buffer.putShort((short) team.getSlot());
+            buffer.put(index.byteValue());
+        }
+    }
+
+    @Override
+    public void onQuestCompleted(
+        BingoTeam team,
+        BingoQuest quest,
+        Instant completionTime
+    ) {
+        putQuestEvent(
+            EVENT_QUEST_COMPLETED,
+            team,
+            quest,
+            completionTime.toEpochMilli()
+        );
+    }
+
+    @Override
+    public void onQuestCompletionRemoved(BingoTeam team, BingoQuest quest) {
+        putQuestEvent(EVENT_QUEST_LOST, team, quest, System.currentTimeMillis());
+    }
+
+    @Override
+    public void onQuestsCleared(BingoTeam team) {
+        for (BingoQuest quest : questIndexes.keySet()) {
+            putQuestEvent(EVENT_QUEST_LOST, team, quest, System.currentTimeMillis());
+        }
+    }
+
+    /** Records the name, color and players of a team */
+    private void putTeam(BingoTeam team, long epochMillis) {
+        if (writer == null || !isRecorded(team)) return;
+        byte[] name = team.getName().getBytes(StandardCharsets.UTF_8);
+        List<BingoPlayer> players = team.getPlayers();
+        List<byte[]> playerNames = new ArrayList<>(players.size());
+        int size = 5 + 2 + 2 + name.length + 4 + 4;
+        for (BingoPlayer player : players) {
+            byte[] playerName = player.getName().getBytes(StandardCharsets.UTF_8);
+            playerNames.add(playerName);
+            size += 16 + 2 + playerName.length;
+        }
+
+        synchronized (writer.lock) {
+            ByteBuffer buffer = writer.reserve(size);
+            putEventHeader(buffer, EVENT_TEAM, epochMillis);
+            buffer.putShort((short) team.getSlot());
+            buffer.putShort((short) name.length);
+            buffer.put(name);
+            buffer.putInt(team.getColor().value());
+            buffer.putInt(players.size());
+            for (int i = 0; i < players.size(); i++) {
+                buffer.putLong(players.get(i).getUniqueId().getMostSignificantBits());
+                buffer.putLong(players.get(i).getUniqueId().getLeastSignificantBits());
+                buffer.putShort((short) playerNames.get(i).length);
+                buffer.put(playerNames.get(i));
+            }
+        }
+    }
+
+    @Override
+    public void onTeamCreated(BingoTeam bingoTeam) {
+        putTeam(bingoTeam, System.currentTimeMillis());
+    }
+
+    @Override
+    public void onTeamPlayersChanged(BingoTeam bingoTeam) {
+        putTeam(bingoTeam, System.currentTimeMillis());
+    }
+
+    @Override
+    public void onTeamRemoved(BingoTeam bingoTeam) {
+        if (writer == null || !isRecorded(bingoTeam)) return;
+        synchronized (writer.lock) {
+            ByteBuffer buffer = writer.reserve(7);
+            putEventHeader(buffer, EVENT_TEAM_REMOVED, System.currentTimeMillis());
+            buffer.putShort((short) bingoTeam.getSlot());
+        }
+    }
+}
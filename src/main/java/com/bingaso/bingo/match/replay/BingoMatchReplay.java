@@ -0,0 +1,244 @@
+package com.bingaso.bingo.match.replay;
+
+import com.bingaso.bingo.quest.BingoQuest;
+import com.bingaso.bingo.quest.BingoQuestCodec;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.kyori.adventure.text.format.TextColor;
+
+/**
+ * Match read back from a replay file written by {@link BingoMatchEventLog}.
+ *
+ * @since 1.0
+ */
+public class BingoMatchReplay {
+
+    /**
+     * Event of a replayed match.
+     *
+     * @since 1.0
+     */
+    public static class Event {
+
+        private final byte type;
+        private final int offsetMillis;
+        private final int teamSlot;
+        private final int questIndex;
+        private final String teamName;
+        private final TextColor teamColor;
+        private final Map<UUID, String> players;
+        private final int[] winnerSlots;
+
+        private Event(
+            byte type,
+            int offsetMillis,
+            int teamSlot,
+            int questIndex,
+            String teamName,
+            TextColor teamColor,
+            Map<UUID, String> players,
+            int[] winnerSlots
+        ) {
+            this.type = type;
+            this.offsetMillis = offsetMillis;
+            this.teamSlot = teamSlot;
+            this.questIndex = questIndex;
+            this.teamName = teamName;
+            this.teamColor = teamColor;
+            this.players = players;
+            this.winnerSlots = winnerSlots;
+        }
+
+        /**
+         * @return The type of the event, one of the event constants of
+         * {@link BingoMatchEventLog}.
+         */
+        public byte getType() {
+            return type;
+        }
+
+        /**
+         * @return The milliseconds between the start of the match and the
+         * event.
+         */
+        public int getOffsetMillis() {
+            return offsetMillis;
+        }
+
+        /**
+         * @return The slot the team of the event had during the match, or
+         * -1 for the winners.
+         */
+        public int getTeamSlot() {
+            return teamSlot;
+        }
+
+        /**
+         * @return The index on the card of the quest of a quest event.
+         */
+        public int getQuestIndex() {
+            return questIndex;
+        }
+
+        /**
+         * @return The name of the team of a team event.
+         */
+        public String getTeamName() {
+            return teamName;
+        }
+
+        /**
+         * @return The color of the team of a team event.
+         */
+        public TextColor getTeamColor() {
+            return teamColor;
+        }
+
+        /**
+         * @return The names of the players of the team of a team event, by
+         * UUID.
+         */
+        public Map<UUID, String> getPlayers() {
+            return players;
+        }
+
+        /**
+         * @return The slots of the winners of a win event.
+         */
+        public int[] getWinnerSlots() {
+            return winnerSlots;
+        }
+    }
+
+    private final Instant startInstant;
+    private final List<BingoQuest> quests;
+    private final List<Event> events;
+
+    private BingoMatchReplay(
+        Instant startInstant,
+        List<BingoQuest> quests,
+        List<Event> events
+    ) {
+        this.startInstant = startInstant;
+        this.quests = Collections.unmodifiableList(quests);
+        this.events = Collections.unmodifiableList(events);
+    }
+
+    /**
+     * Reads a replay. A replay cut by a crash is read up to its last whole
+     * event.
+     *
+     * @param file The replay file
+     * @return The replay
+     * @throws IOException If the file cannot be read or is not a replay
+     */
+    public static BingoMatchReplay load(File file) throws IOException {
+        DataInputStream in = new DataInputStream(
+            new ByteArrayInputStream(Files.readAllBytes(file.toPath()))
+        );
+        if (
+            in.readInt() != BingoMatchEventLog.MAGIC ||
+            in.readByte() != BingoMatchEventLog.FORMAT_VERSION
+        ) {
+            throw new IOException(file.getName() + " is not a replay");
+        }
+
+        Instant startInstant = Instant.ofEpochMilli(in.readLong());
+        List<BingoQuest> quests = new ArrayList<>();
+        int questCount = in.readInt();
+        for (int i = 0; i < questCount; i++) {
+            quests.add(BingoQuestCodec.read(in));
+        }
+
+        List<Event> events = new ArrayList<>();
+        try {
+            Event event;
+            while ((event = readEvent(in)) != null) {
+                events.add(event);
+            }
+        } catch (EOFException e) {
+            // End of the replay, or an event cut by a crash
+        }
+        return new BingoMatchReplay(startInstant, quests, events);
+    }
+
+    /** Reads an event, or returns null if the rest of the file is damaged */
+    private static Event readEvent(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        int offset = in.readInt();
+        switch (type) {
+            case BingoMatchEventLog.EVENT_TEAM: {
+                int slot = in.readUnsignedShort();
+                String name = readString(in);
+                TextColor color = TextColor.color(in.readInt());
+                Map<UUID, String> players = new LinkedHashMap<>();
+                int playerCount = in.readInt();
+                if (playerCount < 0 || playerCount > in.available()) return null;
+                for (int i = 0; i < playerCount; i++) {
+                    UUID uuid = new UUID(in.readLong(), in.readLong());
+                    players.put(uuid, readString(in));
+                }
+                return new Event(type, offset, slot, -1, name, color, players, null);
+            }
+            case BingoMatchEventLog.EVENT_TEAM_REMOVED:
+                return new Event(type, offset, in.readUnsignedShort(), -1, null, null, null, null);
+            case BingoMatchEventLog.EVENT_QUEST_COMPLETED:
+            case BingoMatchEventLog.EVENT_QUEST_LOST: {
+                int slot = in.readUnsignedShort();
+                int index = in.readUnsignedByte();
+                return new Event(type, offset, slot, index, null, null, null, null);
+            }
+            case BingoMatchEventLog.EVENT_WIN: {
+                int winnerCount = in.readInt();
+                if (winnerCount < 0 || winnerCount > in.available()) return null;
+                int[] winners = new int[winnerCount];
+                for (int i = 0; i < winners.length; i++) {
+                    winners[i] = in.readUnsignedShort();
+                }
+                return new Event(type, offset, -1, -1, null, null, null, winners);
+            }
+            default:
+                // Damaged end of the replay
+                return null;
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readUnsignedShort()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return The instant the recorded match started.
+     */
+    public Instant getStartInstant() {
+        return startInstant;
+    }
+
+    /**
+     * @return The quests of the card, in card order.
+     */
+    public List<BingoQuest> getQuests() {
+        return quests;
+    }
+
+    /**
+     * @return The events of the match, in the order they happened.
+     */
+    public List<Event> getEvents() {
+        return events;
+    }
+}
@@ -0,0 +1,391 @@
+package com.bingaso.bingo.match.replay;
+
+import com.bingaso.bingo.BingoPlugin;
+import com.bingaso.bingo.card.BingoCard;
+import com.bingaso.bingo.card.BingoCardGui;
+import com.bingaso.bingo.card.BingoCardGui.BingoCardGuiContext;
+import com.bingaso.bingo.gui.BingoGui.GuiContext;
+import com.bingaso.bingo.gui.BingoGuiSessionManager;
+import com.bingaso.bingo.match.managers.TeamManager;
+import com.bingaso.bingo.match.managers.TeamManager.MaxPlayersException;
+import com.bingaso.bingo.player.BingoPlayer;
+import com.bingaso.bingo.quest.BingoQuest;
+import com.bingaso.bingo.scoreboard.BingoSidebar;
+import com.bingaso.bingo.team.BingoTeam;
+import com.bingaso.bingo.team.BingoTeamLeaderboard;
+import com.bingaso.bingo.team.BingoTeamRepository.ColorAlreadyExistsException;
+import com.bingaso.bingo.team.BingoTeamRepository.TeamNameAlreadyExistsException;
+import com.bingaso.bingo.team.TeamQuestService;
+import com.bingaso.bingo.team.TeamQuestService.QuestAlreadyCompletedException;
+import com.bingaso.bingo.utils.TimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.scoreboard.Scoreboard;
+
+/**
+ * Plays a replay to one player.
+ * <p>
+ * The replayed match gets teams and quests of its own, apart from the
+ * running match, and its events are applied as the replay clock reaches
+ * them. The replay clock runs at a chosen speed. The player sees the card
+ * of the replayed match and a sidebar with the time and the ranking of the
+ * teams, both updated after every event.
+ * </p>
+ *
+ * @since 1.0
+ */
+public class BingoMatchReplaySession {
+
+    /** Replays being played, by viewer */
+    private static final Map<UUID, BingoMatchReplaySession> SESSIONS =
+        new HashMap<>();
+
+    /** Line showing the replay and its speed */
+    private static final int REPLAY_LINE = 0;
+    /** Line showing the time of the replay */
+    private static final int TIME_LINE = 1;
+    /** First line listing the teams */
+    private static final int FIRST_TEAM_LINE = 3;
+
+    private static final Component TITLE = Component.text(
+        "REPLAY",
+        NamedTextColor.AQUA,
+        TextDecoration.BOLD
+    );
+
+    private final Player viewer;
+    private final int id;
+    private final BingoMatchReplay replay;
+    private final double speed;
+    private final BingoCard bingoCard;
+    /** Teams and quests of the replayed match */
+    private final TeamManager teamManager = new TeamManager(Integer.MAX_VALUE);
+    /** Teams of the replayed match, by slot during the match */
+    private final Map<Integer, BingoTeam> teams = new HashMap<>();
+    private final Scoreboard scoreboard;
+    private final BingoSidebar sidebar;
+    private final Scoreboard previousScoreboard;
+    private BukkitTask task;
+    /** Milliseconds of the match replayed so far */
+    private double clockMillis = 0;
+    /** Index of the next event to apply */
+    private int nextEvent = 0;
+    private long shownSeconds = -1;
+
+    private BingoMatchReplaySession(
+        Player viewer,
+        int id,
+        BingoMatchReplay replay,
+        double speed
+    ) {
+        this.viewer = viewer;
+        this.id = id;
+        this.replay = replay;
+        this.speed = speed;
+        this.bingoCard = BingoCard.fromQuests(replay.getQuests());
+        this.previousScoreboard = viewer.getScoreboard();
+        this.scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
+        this.sidebar = new BingoSidebar(scoreboard, TITLE);
+        sidebar.setLine(
+            REPLAY_LINE,
+            Component.text("Replay #" + id + " ", NamedTextColor.YELLOW).append(
+                Component.text("x" + speed, NamedTextColor.WHITE)
+            )
+        );
+        sidebar.setLine(TIME_LINE + 1, Component.empty());
+    }
+
+    /**
+     * Plays a replay to a player, replacing the replay they are watching.
+     *
+     * @param viewer The player watching the replay
+     * @param id The id of the replay
+     * @param replay The replay to play
+     * @param speed How many times faster than the match the replay runs
+     */
+    public static void start(
+        Player viewer,
+        int id,
+        BingoMatchReplay replay,
+        double speed
+    ) {
+        stop(viewer);
+        BingoMatchReplaySession session = new BingoMatchReplaySession(
+            viewer,
+            id,
+            replay,
+            speed
+        );
+        SESSIONS.put(viewer.getUniqueId(), session);
+        session.begin();
+    }
+
+    /**
+     * Stops the replay a player is watching.
+     *
+     * @param viewer The player watching a replay
+     * @return true if the player was watching a replay
+     */
+    public static boolean stop(Player viewer) {
+        BingoMatchReplaySession session = SESSIONS.remove(viewer.getUniqueId());
+        if (session == null) return false;
+        session.end();
+        return true;
+    }
+
+    /**
+     * Stops every replay, when the plugin is disabled.
+     */
+    public static void stopAll() {
+        List<BingoMatchReplaySession> sessions = new ArrayList<>(SESSIONS.values());
+        SESSIONS.clear();
+        sessions.forEach(BingoMatchReplaySession::end);
+    }
+
+    private void begin() {
+        viewer.setScoreboard(scoreboard);
+        applyDueEvents();
+        updateSidebar(true);
+        BingoCardGui.getInstance().openForPlayer(viewer, createContext(null));
+        task = Bukkit.getScheduler().runTaskTimer(
+            BingoPlugin.getInstance(),
+            this::tick,
+            1L,
+            1L
+        );
+    }
+
+    private void end() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        if (!viewer.isOnline()) return;
+        if (viewer.getScoreboard() == scoreboard) {
+            viewer.setScoreboard(previousScoreboard);
+        }
+        if (getOpenContext() != null) viewer.closeInventory();
+    }
+
+    private void tick() {
+        if (!viewer.isOnline()) {
+            SESSIONS.remove(viewer.getUniqueId(), this);
+            end();
+            return;
+        }
+
+        clockMillis += 50 * speed;
+        boolean changed = applyDueEvents();
+        if (changed) {
+            BingoCardGuiContext context = getOpenContext();
+            if (context != null) {
+                BingoTeam shown = context.bingoTeamToShow;
+                if (shown == null || teamManager.getTeamRepository().findByName(shown.getName()) != shown) {
+                    shown = null;
+                }
+                BingoCardGui.getInstance().openForPlayer(viewer, createContext(shown));
+            }
+        }
+        updateSidebar(changed);
+
+        if (nextEvent >= replay.getEvents().size()) {
+            // The card and sidebar stay until the replay is stopped
+            viewer.sendMessage(
+                Component.text("Replay #" + id + " finished.", NamedTextColor.GOLD)
+            );
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Applies the events the replay clock reached.
+     *
+     * @return true if an event was applied
+     */
+    private boolean applyDueEvents() {
+        List<BingoMatchReplay.Event> events = replay.getEvents();
+        boolean applied = false;
+        while (
+            nextEvent < events.size() &&
+            events.get(nextEvent).getOffsetMillis() <= clockMillis
+        ) {
+            apply(events.get(nextEvent++));
+            applied = true;
+        }
+        return applied;
+    }
+
+    private void apply(BingoMatchReplay.Event event) {
+        TeamQuestService questService = teamManager.getTeamQuestService();
+        switch (event.getType()) {
+            case BingoMatchEventLog.EVENT_TEAM:
+                applyTeam(event);
+                break;
+            case BingoMatchEventLog.EVENT_TEAM_REMOVED: {
+                BingoTeam team = teams.remove(event.getTeamSlot());
+                if (team == null) break;
+                for (BingoPlayer player : team.getPlayers()) {
+                    teamManager.removePlayerFromBingoTeam(player);
+                }
+                break;
+            }
+            case BingoMatchEventLog.EVENT_QUEST_COMPLETED: {
+                BingoTeam team = teams.get(event.getTeamSlot());
+                BingoQuest quest = getQuest(event.getQuestIndex());
+                if (team == null || quest == null) break;
+                try {
+                    questService.completeQuest(
+                        team,
+                        quest,
+                        replay.getStartInstant().plusMillis(event.getOffsetMillis())
+                    );
+                } catch (QuestAlreadyCompletedException e) {
+                    // Recorded twice, such as when a match was resumed
+                }
+                break;
+            }
+            case BingoMatchEventLog.EVENT_QUEST_LOST: {
+                BingoTeam team = teams.get(event.getTeamSlot());
+                BingoQuest quest = getQuest(event.getQuestIndex());
+                if (team != null && quest != null) {
+                    questService.removeQuestCompletion(team, quest);
+                }
+                break;
+            }
+            case BingoMatchEventLog.EVENT_WIN: {
+                Component message = Component.text("Winners: ", NamedTextColor.GOLD);
+                for (int slot : event.getWinnerSlots()) {
+                    BingoTeam team = teams.get(slot);
+                    if (team != null) {
+                        message = message.append(
+                            Component.text(team.getName() + " ", team.getColor())
+                        );
+                    }
+                }
+                viewer.sendMessage(message);
+                break;
+            }
+            default:
+                break;
+        }
+    }
+
+    /** Creates or updates a team to have the recorded players */
+    private void applyTeam(BingoMatchReplay.Event event) {
+        BingoTeam team = teams.get(event.getTeamSlot());
+        if (team == null || !team.getName().equals(event.getTeamName())) {
+            try {
+                team = teamManager.restoreBingoTeam(
+                    event.getTeamName(),
+                    event.getTeamColor()
+                );
+            } catch (
+                TeamNameAlreadyExistsException | ColorAlreadyExistsException e
+            ) {
+                return;
+            }
+            teams.put(event.getTeamSlot(), team);
+        }
+
+        // Players join before the others leave, so the team is not removed
+        for (Map.Entry<UUID, String> player : event.getPlayers().entrySet()) {
+            BingoPlayer bingoPlayer = new BingoPlayer(
+                player.getKey(),
+                player.getValue()
+            );
+            if (team.hasPlayer(bingoPlayer)) continue;
+            try {
+                teamManager.addPlayerToBingoTeam(bingoPlayer, team);
+            } catch (MaxPlayersException e) {
+                // Teams of a replay have no size limit
+            }
+        }
+        for (BingoPlayer bingoPlayer : team.getPlayers()) {
+            if (!event.getPlayers().containsKey(bingoPlayer.getUniqueId())) {
+                teamManager.removePlayerFromBingoTeam(bingoPlayer);
+            }
+        }
+    }
+
+    private BingoQuest getQuest(int index) {
+        List<BingoQuest> quests = replay.getQuests();
+        return index < quests.size() ? quests.get(index) : null;
+    }
+
+    private BingoCardGuiContext createContext(BingoTeam teamToShow) {
+        if (teamToShow == null && !teamManager.getTeamRepository().isEmpty()) {
+            teamToShow = teamManager.getTeamRepository().findAll().getFirst();
+        }
+        return new BingoCardGuiContext(
+            teamToShow,
+            bingoCard,
+            teamManager.getTeamRepository(),
+            teamManager.getTeamQuestService().getClaims(),
+            replay.getStartInstant()
+        );
+    }
+
+    /** Gets the card of this replay the viewer is looking at, if any */
+    private BingoCardGuiContext getOpenContext() {
+        GuiContext context = BingoGuiSessionManager.getInstance()
+            .getViewers(BingoCardGui.getInstance())
+            .get(viewer);
+        if (
+            context instanceof BingoCardGuiContext &&
+            ((BingoCardGuiContext) context).teamRepository == teamManager.getTeamRepository()
+        ) {
+            return (BingoCardGuiContext) context;
+        }
+        return null;
+    }
+
+    /**
+     * Updates the time line, and the ranking if the teams changed.
+     */
+    private void updateSidebar(boolean teamsChanged) {
+        long seconds = (long) clockMillis / 1000;
+        if (seconds != shownSeconds) {
+            shownSeconds = seconds;
+            sidebar.setLine(
+                TIME_LINE,
+                Component.text("Time: ", NamedTextColor.YELLOW).append(
+                    Component.text(
+                        TimeFormatter.formatSeconds(seconds),
+                        NamedTextColor.WHITE
+                    )
+                )
+            );
+        }
+
+        if (!teamsChanged) return;
+        BingoTeamLeaderboard leaderboard = teamManager
+            .getTeamQuestService()
+            .getLeaderboard();
+        List<BingoTeam> ranking = leaderboard.getTopTeams(
+            BingoSidebar.MAX_LINES - FIRST_TEAM_LINE
+        );
+        for (int i = 0; i < ranking.size(); i++) {
+            BingoTeam team = ranking.get(i);
+            sidebar.setLine(
+                FIRST_TEAM_LINE + i,
+                Component.text(team.getName(), team.getColor()).append(
+                    Component.text(
+                        ": " + leaderboard.getScore(team),
+                        NamedTextColor.WHITE
+                    )
+                )
+            );
+        }
+        sidebar.clearLinesFrom(FIRST_TEAM_LINE + ranking.size());
+    }
+}
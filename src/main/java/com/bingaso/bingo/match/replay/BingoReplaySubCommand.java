@@ -0,0 +1,164 @@
+package com.bingaso.bingo.match.replay;
+
+import com.bingaso.bingo.BingoPlugin;
+import com.bingaso.bingo.command.BingoSubCommand;
+import com.bingaso.bingo.utils.BingoMainThreadExecutor;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Command executor for match replays.
+ * Handles: /bingo replay &lt;id&gt; [speed], /bingo replay stop
+ */
+public class BingoReplaySubCommand implements BingoSubCommand {
+
+    private static final double DEFAULT_SPEED = 1.0;
+    private static final double MAX_SPEED = 100.0;
+
+    @Override
+    public boolean execute(
+        @NotNull CommandSender sender,
+        @NotNull String[] args
+    ) {
+        if (!(sender instanceof Player)) {
+            sender.sendMessage(
+                Component.text(
+                    "This command can only be used by players.",
+                    NamedTextColor.RED
+                )
+            );
+            return true;
+        }
+
+        Player player = (Player) sender;
+        if (!player.isOp()) {
+            player.sendMessage(
+                Component.text("No permissions.", NamedTextColor.RED)
+            );
+            return true;
+        }
+
+        if (args.length == 1 && args[0].equalsIgnoreCase("stop")) {
+            if (!BingoMatchReplaySession.stop(player)) {
+                player.sendMessage(
+                    Component.text("You are not watching a replay.", NamedTextColor.RED)
+                );
+            }
+            return true;
+        }
+
+        if (args.length == 0 || args.length > 2) {
+            sendHelpMessage(player);
+            return true;
+        }
+
+        int id;
+        double speed = DEFAULT_SPEED;
+        try {
+            id = Integer.parseInt(args[0]);
+            if (args.length == 2) speed = Double.parseDouble(args[1]);
+        } catch (NumberFormatException e) {
+            sendHelpMessage(player);
+            return true;
+        }
+        if (!(speed > 0 && speed <= MAX_SPEED)) {
+            player.sendMessage(
+                Component.text(
+                    "The speed must be between 0 and " + MAX_SPEED + ".",
+                    NamedTextColor.RED
+                )
+            );
+            return true;
+        }
+
+        File file = new File(getReplayDirectory(), id + BingoMatchEventLog.EXTENSION);
+        if (!file.isFile()) {
+            player.sendMessage(
+                Component.text("There is no replay #" + id + ".", NamedTextColor.RED)
+            );
+            return true;
+        }
+
+        // Replays are read off the main thread, and played on it
+        double replaySpeed = speed;
+        CompletableFuture.supplyAsync(
+            () -> {
+                try {
+                    return BingoMatchReplay.load(file);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            },
+            task -> Bukkit.getScheduler().runTaskAsynchronously(
+                BingoPlugin.getInstance(),
+                task
+            )
+        ).whenCompleteAsync(
+            (replay, error) -> {
+                if (!player.isOnline()) return;
+                if (error != null) {
+                    player.sendMessage(
+                        Component.text(
+                            "Couldn't read replay #" + id + ".",
+                            NamedTextColor.RED
+                        )
+                    );
+                    return;
+                }
+                BingoMatchReplaySession.start(player, id, replay, replaySpeed);
+            },
+            BingoMainThreadExecutor.getInstance()
+        );
+        return true;
+    }
+
+    private static File getReplayDirectory() {
+        return BingoPlugin.getInstance()
+            .getBingoMatch()
+            .getEventLog()
+            .getDirectory();
+    }
+
+    @Override
+    public @Nullable List<String> getTabCompletions(
+        @NotNull CommandSender sender,
+        @NotNull String[] args
+    ) {
+        if (args.length == 1 && sender.isOp()) {
+            List<String> completions = new ArrayList<>();
+            completions.add("stop");
+            for (int id : BingoMatchEventLog.listIds(getReplayDirectory())) {
+                completions.add(String.valueOf(id));
+            }
+            return completions;
+        }
+        return null;
+    }
+
+    private void sendHelpMessage(Player player) {
+        player.sendMessage(
+            Component.text("=== Bingo Replay Commands ===", NamedTextColor.GOLD)
+        );
+        player.sendMessage(
+            Component.text("/bingo replay <id> [speed]", NamedTextColor.AQUA).append(
+                Component.text(" - Replays a recorded match.")
+            )
+        );
+        player.sendMessage(
+            Component.text("/bingo replay stop", NamedTextColor.AQUA).append(
+                Component.text(" - Stops watching the replay.")
+            )
+        );
+    }
+}
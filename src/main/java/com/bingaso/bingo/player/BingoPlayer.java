@@ -1,9 +1,10 @@
 package com.bingaso.bingo.player;
 
+import java.lang.ref.WeakReference;
 import java.util.UUID;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Represents a player in the Bingo game with team management capabilities.
@@ -11,11 +12,17 @@ import org.jetbrains.annotations.NotNull;
  * This class wraps a Bukkit Player and provides persistent storage of player
  * information such as UUID and name, even when the player goes offline.
  * It serves as a bridge between the Bukkit Player API and the Bingo game logic.
+ *
+ * The online {@link Player} is kept as a weak reference, set when the player
+ * joins and cleared when they quit, so looking it up never goes through the
+ * server and a stale instance is never returned. Two BingoPlayers are equal
+ * when they have the same UUID.
  * @since 1.0
  */
 public class BingoPlayer {
     private final UUID uuid;
     private final String name;
+    private WeakReference<Player> onlinePlayer;
 
     /**
      * Constructs a new {@link BingoPlayer} from a {@link Player}.
@@ -26,6 +33,20 @@ public class BingoPlayer {
     public BingoPlayer(@NotNull Player player) {
         this.uuid = player.getUniqueId();
         this.name = player.getName();
+        this.onlinePlayer = new WeakReference<>(player);
+    }
+
+    /**
+     * Constructs a new offline {@link BingoPlayer}, for players of a resumed
+     * match. The online {@link Player} is set when the player joins.
+     *
+     * @param uuid The UUID of the player.
+     * @param name The name of the player.
+     * @since 1.0
+     */
+    public BingoPlayer(@NotNull UUID uuid, @NotNull String name) {
+        this.uuid = uuid;
+        this.name = name;
     }
 
     /**
@@ -53,29 +74,62 @@ public class BingoPlayer {
 
     /**
      * Checks if this player is currently online on the server.
-     * 
-     * This method queries the Bukkit server to determine if the player
-     * is currently connected and available.
      *
      * @return true if the player is online, false otherwise
      * @since 1.0
      */
     public boolean isOnline() {
-        Player player = Bukkit.getPlayer(uuid);
-        return player != null;
+        return getOnlinePlayer() != null;
     }
 
     /**
      * Gets the online Player instance for this BingoPlayer.
-     * 
-     * This method attempts to retrieve the current Bukkit Player instance
-     * from the server. The returned Player can be used to interact with
-     * the player if they are online.
+     *
+     * The instance is the one given on the last join, and is forgotten when
+     * the player quits, so it can be used to interact with the player.
      *
      * @return The online Player instance, or null if the player is offline
      * @since 1.0
      */
-    public Player getOnlinePlayer() {
-        return Bukkit.getPlayer(uuid);
+    public @Nullable Player getOnlinePlayer() {
+        WeakReference<Player> reference = onlinePlayer;
+        return reference == null ? null : reference.get();
+    }
+
+    /**
+     * Sets the Player instance of this BingoPlayer when the player joins.
+     *
+     * @param player The {@link Player} that joined, with the same UUID
+     * @throws IllegalArgumentException If the player has another UUID
+     * @since 1.0
+     */
+    public void setOnlinePlayer(@NotNull Player player) {
+        if (!uuid.equals(player.getUniqueId())) {
+            throw new IllegalArgumentException(
+                "Player " + player.getName() + " is not " + name
+            );
+        }
+        this.onlinePlayer = new WeakReference<>(player);
+    }
+
+    /**
+     * Forgets the Player instance of this BingoPlayer when the player quits.
+     *
+     * @since 1.0
+     */
+    public void clearOnlinePlayer() {
+        this.onlinePlayer = null;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof BingoPlayer)) return false;
+        return uuid.equals(((BingoPlayer) obj).uuid);
+    }
+
+    @Override
+    public int hashCode() {
+        return uuid.hashCode();
     }
 }
@@ -1,8 +1,8 @@
 package com.bingaso.bingo.player;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jetbrains.annotations.NotNull;
 
@@ -13,11 +13,20 @@ import org.jetbrains.annotations.NotNull;
  * This class maintains a mapping between player UUIDs and their corresponding 
  * BingoPlayer instances to ensure consistent player data management throughout
  * the bingo game.
+ * 
+ * The repository can be read from any thread without locking: lookups go
+ * to a concurrent map and {@link #findAll()} returns a snapshot published
+ * by the last write. Writes are serialized, so the snapshot and the version
+ * always match the map.
  * @since 1.0
  */
 public class BingoPlayerRepositoryInMemory implements BingoPlayerRepository {
 
-    private final HashMap<UUID, BingoPlayer> uuidPlayers = new HashMap<>();
+    private final ConcurrentHashMap<UUID, BingoPlayer> uuidPlayers =
+        new ConcurrentHashMap<>();
+    /** Immutable list of the players, rebuilt on every change */
+    private volatile List<BingoPlayer> snapshot = List.of();
+    private volatile long version = 0;
     
     /**
      * Constructs a new BingoPlayerManager with an empty player registry.
@@ -33,12 +42,18 @@ public class BingoPlayerRepositoryInMemory implements BingoPlayerRepository {
      * @since 1.0
      */
     @Override
-    public void save(@NotNull BingoPlayer bingoPlayer)
+    public synchronized void save(@NotNull BingoPlayer bingoPlayer)
         throws PlayerAlreadyExistsException {
         if(existsByUUID(bingoPlayer.getUniqueId())) {
             throw new PlayerAlreadyExistsException(bingoPlayer.getUniqueId());
         }
         uuidPlayers.put(bingoPlayer.getUniqueId(), bingoPlayer);
+        changed();
+    }
+
+    private void changed() {
+        snapshot = List.copyOf(uuidPlayers.values());
+        version++;
     }
 
     /**
@@ -50,19 +65,36 @@ public class BingoPlayerRepositoryInMemory implements BingoPlayerRepository {
      * @since 1.0
      */
     @Override
-    public boolean remove(@NotNull BingoPlayer bingoPlayer) {
-        return uuidPlayers.remove(bingoPlayer.getUniqueId()) != null;
+    public synchronized boolean remove(@NotNull BingoPlayer bingoPlayer) {
+        if (uuidPlayers.remove(bingoPlayer.getUniqueId()) == null) {
+            return false;
+        }
+        changed();
+        return true;
     }
 
     /**
      * Find all {@link BingoPlayer}s in the hashmap.
      * 
-     * @return An immutable list of all {@link BingoPlayer}s.
+     * @return An immutable list of all {@link BingoPlayer}s, the same
+     * instance until the hashmap changes.
      * @since 1.0
      */
     @Override
     public List<BingoPlayer> findAll() {
-        return List.copyOf(uuidPlayers.values());
+        return snapshot;
+    }
+
+    /**
+     * Gets the version of the hashmap, increased on every change of its
+     * players.
+     * 
+     * @return The current version.
+     * @since 1.0
+     */
+    @Override
+    public long getVersion() {
+        return version;
     }
 
     /**
@@ -97,7 +129,8 @@ public class BingoPlayerRepositoryInMemory implements BingoPlayerRepository {
      * @since 1.0
      */
     @Override
-    public void clear() {
+    public synchronized void clear() {
         uuidPlayers.clear();
+        changed();
     }
 }
@@ -7,11 +7,22 @@ public interface BingoPlayerRepositoryReadOnly {
     /**
      * Find all {@link BingoPlayer}s in the repository.
      * 
-     * @return An immutable list of all {@link BingoPlayer}s.
+     * @return An immutable list of all {@link BingoPlayer}s, the same
+     * instance until the repository changes.
      * @since 1.0
      */
     public List<BingoPlayer> findAll();
 
+    /**
+     * Gets the version of the repository, increased on every change of its players.
+     * Callers can keep values derived from {@link #findAll()} until the
+     * version changes.
+     * 
+     * @return The current version.
+     * @since 1.0
+     */
+    public long getVersion();
+
     /**
      * Finds a {@link BingoPlayer} by its uuid.
      * 
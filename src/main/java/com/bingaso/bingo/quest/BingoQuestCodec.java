@@ -0,0 +1,105 @@
+package com.bingaso.bingo.quest;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.bukkit.enchantments.Enchantment;
+import org.bukkit.potion.PotionEffectType;
+
+/**
+ * Compact binary form of quests, for the files written while a match runs.
+ * <p>
+ * Materials are stored by name and enchantments and potion effects by key,
+ * so the form does not depend on Java serialization of Bukkit types. An
+ * empty spot of a card is written as a quest of its own and read back as
+ * null.
+ * </p>
+ *
+ * @since 1.0
+ */
+public final class BingoQuestCodec {
+
+    private static final byte QUEST_NONE = 0;
+    private static final byte QUEST_ITEM = 1;
+    private static final byte QUEST_POTION = 2;
+    private static final byte QUEST_ADVANCEMENT = 3;
+
+    private BingoQuestCodec() {}
+
+    /**
+     * Writes a quest.
+     *
+     * @param out The output to write to
+     * @param quest The quest to write, may be null
+     * @throws IOException If the output cannot be written
+     * @since 1.0
+     */
+    public static void write(DataOutput out, BingoQuest quest)
+        throws IOException {
+        if (quest instanceof BingoQuestItem) {
+            BingoQuestItem item = (BingoQuestItem) quest;
+            out.writeByte(QUEST_ITEM);
+            out.writeUTF(item.getMaterial().name());
+            Map<Enchantment, Integer> enchantments = item.getEnchantments();
+            out.writeInt(enchantments.size());
+            for (Map.Entry<Enchantment, Integer> entry : enchantments.entrySet()) {
+                out.writeUTF(entry.getKey().getKey().toString());
+                out.writeInt(entry.getValue());
+            }
+        } else if (quest instanceof BingoQuestPotion) {
+            BingoQuestPotion potion = (BingoQuestPotion) quest;
+            out.writeByte(QUEST_POTION);
+            out.writeUTF(potion.getMaterial().name());
+            out.writeUTF(potion.getPotionEffect().getKey().toString());
+        } else if (quest instanceof BingoQuestAdvancement) {
+            out.writeByte(QUEST_ADVANCEMENT);
+            out.writeUTF(((BingoQuestAdvancement) quest).getAchievementKey());
+        } else {
+            out.writeByte(QUEST_NONE);
+        }
+    }
+
+    /**
+     * Reads a quest written by {@link #write(DataOutput, BingoQuest)}.
+     *
+     * @param in The input to read from
+     * @return The quest, or null for an empty spot
+     * @throws IOException If the input cannot be read
+     * @throws IllegalArgumentException If the material does not exist
+     * @since 1.0
+     */
+    public static BingoQuest read(DataInput in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case QUEST_ITEM: {
+                Material material = Material.valueOf(in.readUTF());
+                Map<Enchantment, Integer> enchantments = new HashMap<>();
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    Enchantment enchantment = Registry.ENCHANTMENT.get(
+                        NamespacedKey.fromString(in.readUTF())
+                    );
+                    int level = in.readInt();
+                    if (enchantment != null) enchantments.put(enchantment, level);
+                }
+                return new BingoQuestItem(material, enchantments);
+            }
+            case QUEST_POTION: {
+                Material material = Material.valueOf(in.readUTF());
+                PotionEffectType effect = Registry.EFFECT.get(
+                    NamespacedKey.fromString(in.readUTF())
+                );
+                return new BingoQuestPotion(material, effect);
+            }
+            case QUEST_ADVANCEMENT:
+                return new BingoQuestAdvancement(in.readUTF());
+            default:
+                return null;
+        }
+    }
+}
@@ -9,16 +9,28 @@ import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Repository for accessing and managing Bingo item data.
  * This class is responsible for loading item definitions from a JSON resource file
  * and providing access to these items for card generation and other game functions.
+ * <p>
+ * The scores of scores.json can be calibrated with the time players actually
+ * take to find the items, see {@link #calibrate(Map)}. The calibrated items
+ * replace the published list as a whole, so a card being generated keeps
+ * the list it started with.
+ * </p>
  */
 public class BingoQuestRepository {
 
-    private final List<ItemData> allItems;
+    /** The items with the scores of scores.json */
+    private final List<ItemData> assignedItems;
+    /** The items handed out for card generation */
+    private volatile List<ItemData> allItems;
 
     /**
      * Represents an item that can appear on a Bingo card.
@@ -37,7 +49,8 @@ public class BingoQuestRepository {
      * Loads all available items from the scores.json resource file during initialization.
      */
     public BingoQuestRepository() {
-        this.allItems = loadItems();
+        this.assignedItems = Collections.unmodifiableList(loadItems());
+        this.allItems = assignedItems;
     }
 
     /**
@@ -80,10 +93,65 @@ public class BingoQuestRepository {
         return loadedItems;
     }
 
+    /**
+     * Scores the items again from the median time it takes to find them.
+     * <p>
+     * The items with a find time are ranked from the fastest to the slowest
+     * and scored so that each score keeps as many of them as scores.json
+     * gives it: the ranking comes from the players, the share of each
+     * difficulty from the hand-assigned scores. Items that were not found
+     * often enough keep their hand-assigned score.
+     * </p>
+     *
+     * @param medianFindMillis The median find time of the items, in
+     * milliseconds, by material name
+     */
+    public void calibrate(Map<String, Long> medianFindMillis) {
+        List<ItemData> measured = new ArrayList<>();
+        int[] scoreCounts = new int[6];
+        for (ItemData item : assignedItems) {
+            if (!medianFindMillis.containsKey(item.name)) continue;
+            measured.add(item);
+            scoreCounts[Math.max(0, Math.min(5, item.score))]++;
+        }
+        measured.sort(
+            Comparator.comparingLong(item -> medianFindMillis.get(item.name))
+        );
+
+        Map<String, Integer> calibratedScores = new HashMap<>();
+        int score = 0;
+        int left = scoreCounts[0];
+        for (ItemData item : measured) {
+            while (left == 0) left = scoreCounts[++score];
+            calibratedScores.put(item.name, score);
+            left--;
+        }
+
+        List<ItemData> items = new ArrayList<>(assignedItems.size());
+        for (ItemData item : assignedItems) {
+            ItemData calibrated = new ItemData();
+            calibrated.name = item.name;
+            calibrated.score = calibratedScores.getOrDefault(item.name, item.score);
+            items.add(calibrated);
+        }
+        this.allItems = Collections.unmodifiableList(items);
+
+        if (!measured.isEmpty()) {
+            BingoPlugin.getInstance()
+                .getLogger()
+                .info(
+                    "Calibrated the scores of " +
+                    measured.size() +
+                    " items from their find times."
+                );
+        }
+    }
+
     /**
      * Gets all available items loaded from the repository.
      *
-     * @return A list of all available ItemData objects
+     * @return A list of all available ItemData objects, with calibrated
+     * scores once {@link #calibrate(Map)} was called
      */
     public List<ItemData> getAllItems() {
         return allItems;
@@ -9,7 +9,7 @@ import org.bukkit.scoreboard.ScoreboardManager;
 import com.bingaso.bingo.BingoPlugin;
 
 public abstract class BingoGlobalScoreboard {
-    
+
     protected BukkitRunnable updateTask;
     protected final Scoreboard scoreboard;
 
@@ -18,15 +18,24 @@ public abstract class BingoGlobalScoreboard {
         scoreboard = manager.getNewScoreboard();
     }
 
+    /**
+     * Shows the scoreboard to every online player and updates it
+     * periodically. Players joining later are shown the scoreboard with
+     * {@link #show(Player)}.
+     *
+     * @param period The number of ticks between updates
+     */
     public void start(long period) {
         updateTask = new BukkitRunnable() {
             @Override
             public void run() {
-                updateScoreboardForAllPlayers();
+                updateScoreboard();
             }
         };
 
-        updateTask.runTaskTimer(BingoPlugin.getInstance(), 0L, period);
+        updateScoreboard();
+        Bukkit.getOnlinePlayers().forEach(this::show);
+        updateTask.runTaskTimer(BingoPlugin.getInstance(), period, period);
     }
 
     public void stop() {
@@ -35,25 +44,37 @@ public abstract class BingoGlobalScoreboard {
             updateTask = null;
         }
 
-        Bukkit.getOnlinePlayers().forEach(player ->
-            player.setScoreboard(
-                Bukkit.getScoreboardManager().getMainScoreboard()
-            )
-        );
+        Bukkit.getOnlinePlayers().forEach(player -> {
+            if (isOwnScoreboard(player.getScoreboard())) {
+                player.setScoreboard(
+                    Bukkit.getScoreboardManager().getMainScoreboard()
+                );
+            }
+        });
     }
 
     public boolean isActive() {
         return updateTask != null && !updateTask.isCancelled();
     }
 
-    protected void updateScoreboardForAllPlayers() {
-        updateScoreboard();
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.getScoreboard()
-                == Bukkit.getScoreboardManager().getMainScoreboard()) {
-                player.setScoreboard(scoreboard);
-            }
-        }
+    /**
+     * Shows the scoreboard to a player.
+     *
+     * @param player The player to show the scoreboard to
+     */
+    public void show(Player player) {
+        player.setScoreboard(scoreboard);
+    }
+
+    /**
+     * Checks if a scoreboard is shown by this class, so it is replaced when
+     * the scoreboard stops.
+     *
+     * @param playerScoreboard The scoreboard a player is looking at
+     * @return true if the scoreboard belongs to this class
+     */
+    protected boolean isOwnScoreboard(Scoreboard playerScoreboard) {
+        return playerScoreboard == scoreboard;
     }
 
     public abstract void updateScoreboard();
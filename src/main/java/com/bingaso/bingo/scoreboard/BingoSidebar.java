@@ -0,0 +1,107 @@
+package com.bingaso.bingo.scoreboard;
+
+import org.bukkit.scoreboard.Criteria;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+import net.kyori.adventure.text.Component;
+
+/**
+ * Sidebar of a scoreboard made of fixed lines.
+ * <p>
+ * Every line has a fixed invisible entry, and its text is the prefix of a
+ * scoreboard team holding that entry. Setting a line to the text it already
+ * shows does nothing, so only lines that really changed are sent to clients,
+ * and lines never disappear and reappear while they change.
+ * </p>
+ *
+ * @since 1.0
+ */
+public class BingoSidebar {
+
+    /** Maximum number of lines shown by the client */
+    public static final int MAX_LINES = 15;
+
+    private static final String OBJECTIVE_NAME = "bingo";
+    private static final String LINE_TEAM_PREFIX = "bingo_line_";
+    private static final String LINE_CODES = "0123456789abcdef";
+
+    private final Scoreboard scoreboard;
+    private final Objective objective;
+    /** Text shown by every line, null if the line is hidden */
+    private final Component[] lines = new Component[MAX_LINES];
+
+    /**
+     * Creates the sidebar of a scoreboard.
+     *
+     * @param scoreboard The scoreboard to show the sidebar on
+     * @param title The title of the sidebar
+     */
+    public BingoSidebar(Scoreboard scoreboard, Component title) {
+        this.scoreboard = scoreboard;
+        Objective existing = scoreboard.getObjective(OBJECTIVE_NAME);
+        this.objective = existing != null
+            ? existing
+            : scoreboard.registerNewObjective(OBJECTIVE_NAME, Criteria.DUMMY, title);
+        this.objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+    }
+
+    /**
+     * Sets the text of a line, the first line being at the top.
+     * Nothing is sent if the line already shows that text.
+     *
+     * @param index The index of the line
+     * @param text The text of the line
+     */
+    public void setLine(int index, Component text) {
+        if (index < 0 || index >= MAX_LINES) return;
+        if (text.equals(lines[index])) return;
+
+        getLineTeam(index).prefix(text);
+        if (lines[index] == null) {
+            objective.getScore(getEntry(index)).setScore(MAX_LINES - index);
+        }
+        lines[index] = text;
+    }
+
+    /**
+     * Hides a line.
+     *
+     * @param index The index of the line
+     */
+    public void clearLine(int index) {
+        if (index < 0 || index >= MAX_LINES || lines[index] == null) return;
+        scoreboard.resetScores(getEntry(index));
+        lines[index] = null;
+    }
+
+    /**
+     * Hides every line from the given index to the bottom.
+     *
+     * @param index The index of the first line to hide
+     */
+    public void clearLinesFrom(int index) {
+        for (int i = Math.max(0, index); i < MAX_LINES; i++) {
+            clearLine(i);
+        }
+    }
+
+    private Team getLineTeam(int index) {
+        String name = LINE_TEAM_PREFIX + index;
+        Team team = scoreboard.getTeam(name);
+        if (team == null) {
+            team = scoreboard.registerNewTeam(name);
+            team.addEntry(getEntry(index));
+        }
+        return team;
+    }
+
+    /**
+     * Gets the invisible entry of a line, a color code followed by a reset.
+     */
+    private static String getEntry(int index) {
+        return "§" + LINE_CODES.charAt(index) + "§r";
+    }
+}
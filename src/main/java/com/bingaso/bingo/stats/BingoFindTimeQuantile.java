@@ -0,0 +1,128 @@
+package com.bingaso.bingo.stats;
+
+import java.util.Arrays;
+
+/**
+ * Streaming estimate of the median time it takes to find an item.
+ * <p>
+ * Uses the P&sup2; algorithm of Jain and Chlamtac: five markers track the
+ * minimum, the maximum, the median and the quartiles between them, and are
+ * moved along a parabola as samples arrive. The state is a fixed handful of
+ * numbers whatever the number of samples, so it is stored as is and updated
+ * one match at a time.
+ * </p>
+ *
+ * @since 1.0
+ */
+class BingoFindTimeQuantile {
+
+    /** The quantile being estimated */
+    private static final double P = 0.5;
+    /** Increments of the desired marker positions per sample */
+    private static final double[] DESIRED_INCREMENTS = { 0, P / 2, P, (1 + P) / 2, 1 };
+
+    /** Heights of the markers, or the first samples while there are fewer than 5 */
+    private final double[] heights;
+    /** Positions of the markers, 1-based */
+    private final int[] positions;
+    private long count;
+
+    BingoFindTimeQuantile() {
+        this(0, new double[5], new int[] { 1, 2, 3, 4, 5 });
+    }
+
+    /**
+     * Restores an estimate saved with {@link #getCount()},
+     * {@link #getHeights()} and {@link #getPositions()}.
+     */
+    BingoFindTimeQuantile(long count, double[] heights, int[] positions) {
+        this.count = count;
+        this.heights = heights;
+        this.positions = positions;
+    }
+
+    /**
+     * Adds a sample to the estimate.
+     *
+     * @param value The milliseconds it took to find the item
+     */
+    void add(double value) {
+        if (count < 5) {
+            heights[(int) count++] = value;
+            if (count == 5) Arrays.sort(heights);
+            return;
+        }
+        count++;
+
+        int cell;
+        if (value < heights[0]) {
+            heights[0] = value;
+            cell = 0;
+        } else if (value >= heights[4]) {
+            heights[4] = value;
+            cell = 3;
+        } else {
+            cell = 0;
+            while (value >= heights[cell + 1]) cell++;
+        }
+        for (int i = cell + 1; i < 5; i++) {
+            positions[i]++;
+        }
+
+        for (int i = 1; i < 4; i++) {
+            double desired = 1 + (count - 1) * DESIRED_INCREMENTS[i];
+            double offset = desired - positions[i];
+            if (
+                (offset >= 1 && positions[i + 1] - positions[i] > 1) ||
+                (offset <= -1 && positions[i - 1] - positions[i] < -1)
+            ) {
+                int step = offset > 0 ? 1 : -1;
+                double height = parabolic(i, step);
+                if (heights[i - 1] < height && height < heights[i + 1]) {
+                    heights[i] = height;
+                } else {
+                    heights[i] = linear(i, step);
+                }
+                positions[i] += step;
+            }
+        }
+    }
+
+    private double parabolic(int i, int step) {
+        double below = positions[i] - positions[i - 1];
+        double above = positions[i + 1] - positions[i];
+        return heights[i] + step / (double) (positions[i + 1] - positions[i - 1]) *
+            ((below + step) * (heights[i + 1] - heights[i]) / above +
+             (above - step) * (heights[i] - heights[i - 1]) / below);
+    }
+
+    private double linear(int i, int step) {
+        return heights[i] + step * (heights[i + step] - heights[i]) /
+            (positions[i + step] - positions[i]);
+    }
+
+    /**
+     * @return The estimated median, or 0 if there are no samples.
+     */
+    double getEstimate() {
+        if (count >= 5) return heights[2];
+        if (count == 0) return 0;
+        double[] samples = Arrays.copyOf(heights, (int) count);
+        Arrays.sort(samples);
+        return samples.length % 2 == 1
+            ? samples[samples.length / 2]
+            : (samples[samples.length / 2 - 1] + samples[samples.length / 2]) / 2;
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    double[] getHeights() {
+        return heights;
+    }
+
+    int[] getPositions() {
+        return positions;
+    }
+}
@@ -0,0 +1,32 @@
+package com.bingaso.bingo.stats;
+
+/**
+ * Player on a leaderboard of {@link BingoStatsStore}.
+ *
+ * @since 1.0
+ */
+public class BingoLeaderboardEntry {
+
+    private final String name;
+    private final long value;
+
+    BingoLeaderboardEntry(String name, long value) {
+        this.name = name;
+        this.value = value;
+    }
+
+    /**
+     * @return The name the player had in their last recorded match.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The value the player is ranked by: wins, items found, or the
+     * milliseconds of their fastest find of an item.
+     */
+    public long getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,96 @@
+package com.bingaso.bingo.stats;
+
+import java.util.UUID;
+
+/**
+ * Statistics of a player over every recorded match.
+ *
+ * @since 1.0
+ */
+public class BingoPlayerStats {
+
+    private final UUID uuid;
+    private final String name;
+    private final int matches;
+    private final int wins;
+    private final int itemsFound;
+    private final String fastestItem;
+    private final long fastestFindMillis;
+    private final long averageFindMillis;
+
+    BingoPlayerStats(
+        UUID uuid,
+        String name,
+        int matches,
+        int wins,
+        int itemsFound,
+        String fastestItem,
+        long fastestFindMillis,
+        long averageFindMillis
+    ) {
+        this.uuid = uuid;
+        this.name = name;
+        this.matches = matches;
+        this.wins = wins;
+        this.itemsFound = itemsFound;
+        this.fastestItem = fastestItem;
+        this.fastestFindMillis = fastestFindMillis;
+        this.averageFindMillis = averageFindMillis;
+    }
+
+    public UUID getUniqueId() {
+        return uuid;
+    }
+
+    /**
+     * @return The name the player had in their last recorded match.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return The number of finished matches the player played.
+     */
+    public int getMatches() {
+        return matches;
+    }
+
+    /**
+     * @return The number of matches won by the team of the player.
+     */
+    public int getWins() {
+        return wins;
+    }
+
+    /**
+     * @return The number of quests completed by the player.
+     */
+    public int getItemsFound() {
+        return itemsFound;
+    }
+
+    /**
+     * @return The quest the player completed the soonest after the start of
+     * a match, or null if they never completed one.
+     */
+    public String getFastestItem() {
+        return fastestItem;
+    }
+
+    /**
+     * @return The milliseconds between the start of the match and the
+     * fastest completion of the player.
+     */
+    public long getFastestFindMillis() {
+        return fastestFindMillis;
+    }
+
+    /**
+     * @return The average milliseconds between the start of the match and
+     * the completions of the player.
+     */
+    public long getAverageFindMillis() {
+        return averageFindMillis;
+    }
+}
@@ -0,0 +1,794 @@
+package com.bingaso.bingo.stats;
+
+import com.bingaso.bingo.BingoPlugin;
+import com.bingaso.bingo.player.BingoPlayer;
+import com.bingaso.bingo.quest.BingoQuest;
+import com.bingaso.bingo.quest.BingoQuestItem;
+import com.bingaso.bingo.team.BingoTeam;
+import com.bingaso.bingo.utils.BingoMainThreadExecutor;
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Keeps the statistics of players and matches in an SQLite file, so they
+ * survive the end of a match.
+ * <p>
+ * The database is only used from a single background thread. Finds are
+ * collected on the main thread and written in one transaction every
+ * {@value #FLUSH_PERIOD_TICKS} ticks, and the end of a match is written
+ * with the finds still pending, so the main thread never waits for the
+ * disk. Statistics read for players are cached until a write changes them,
+ * for the {@value #MAX_CACHED_STATS} players looked up last. Players not
+ * found are not cached.
+ * The SQLite driver is the one shipped with the server.
+ * </p>
+ * <p>
+ * Leaderboards are read from indexes kept up to date by the writes: the
+ * totals of the players table, and the best time of each player for each
+ * item. A leaderboard is a top-{@value #LEADERBOARD_SIZE} index walk, never
+ * a pass over the history of matches, and is cached until a match ends.
+ * Only the {@value #MAX_CACHED_LEADERBOARDS} leaderboards used last are
+ * kept.
+ * </p>
+ * <p>
+ * The time teams take to find each item is folded into a streaming median
+ * per item at the end of every match, see {@link BingoFindTimeQuantile}.
+ * Only the estimates of the items of that match are written, and the
+ * medians are then handed to the listener set with
+ * {@link #setFindTimesListener(Consumer)} on the main thread.
+ * </p>
+ *
+ * @since 1.0
+ */
+public class BingoStatsStore {
+
+    /** Ticks between two writes of the pending finds */
+    private static final long FLUSH_PERIOD_TICKS = 600L;
+    /** Players shown on a leaderboard */
+    public static final int LEADERBOARD_SIZE = 10;
+    /** Player statistics kept in memory, the least recently used is dropped */
+    private static final int MAX_CACHED_STATS = 256;
+    /** Leaderboards kept in memory, the least recently used is dropped */
+    private static final int MAX_CACHED_LEADERBOARDS = 64;
+    /** Version of the tables, kept in the user_version of the database */
+    private static final int SCHEMA_VERSION = 1;
+    /** Finds of an item needed before its median find time is published */
+    public static final int MIN_FIND_TIME_SAMPLES = 5;
+
+    /**
+     * What players are ranked by on a leaderboard.
+     *
+     * @since 1.0
+     */
+    public enum Ranking {
+        /** Most matches won */
+        WINS,
+        /** Most items found */
+        ITEMS_FOUND,
+        /** Fastest find of an item */
+        FASTEST
+    }
+
+    /** A quest completed by a player, waiting to be written */
+    private static final class Find {
+        private final UUID uuid;
+        private final String name;
+        private final String item;
+        private final long elapsedMillis;
+
+        private Find(UUID uuid, String name, String item, long elapsedMillis) {
+            this.uuid = uuid;
+            this.name = name;
+            this.item = item;
+            this.elapsedMillis = elapsedMillis;
+        }
+    }
+
+    /** A player of a finished match, waiting to be written */
+    private static final class Participant {
+        private final UUID uuid;
+        private final String name;
+        private final String team;
+        private final boolean winner;
+
+        private Participant(UUID uuid, String name, String team, boolean winner) {
+            this.uuid = uuid;
+            this.name = name;
+            this.team = team;
+            this.winner = winner;
+        }
+    }
+
+    private final File file;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+        task -> {
+            Thread thread = new Thread(task, "Bingo stats store");
+            thread.setDaemon(true);
+            return thread;
+        }
+    );
+    /** Connection of the background thread, null if the file can't be opened */
+    private Connection connection;
+    /** Set once the database couldn't be opened, read from any thread */
+    private volatile boolean disabled = false;
+    /** Finds of the running match not written yet, only used on the main thread */
+    private List<Find> pendingFinds = new ArrayList<>();
+    /** Start of the running match, the key of its finds */
+    private long matchStartMillis;
+    /** Start the elapsed times of the running match are counted from */
+    private long clockStartMillis;
+    /** Statistics read last, by lower-case player name */
+    private final Map<String, CompletableFuture<Optional<BingoPlayerStats>>> cache =
+        boundedCache(MAX_CACHED_STATS);
+    /** Leaderboards read last, by ranking and item */
+    private final Map<String, CompletableFuture<List<BingoLeaderboardEntry>>> leaderboards =
+        boundedCache(MAX_CACHED_LEADERBOARDS);
+    /** Median find time estimates by item, only used on the background thread */
+    private final Map<String, BingoFindTimeQuantile> findTimes = new HashMap<>();
+    private volatile Consumer<Map<String, Long>> findTimesListener;
+    private BukkitTask flushTask;
+
+    /**
+     * Creates the store of the statistics of the plugin, and opens its file
+     * in the background.
+     *
+     * @param file The database file
+     */
+    public BingoStatsStore(File file) {
+        this.file = file;
+        executor.execute(this::open);
+    }
+
+    private void open() {
+        try {
+            // Loaded by name, the service lookup of DriverManager doesn't
+            // always see the driver from this thread
+            Class.forName("org.sqlite.JDBC");
+        } catch (ClassNotFoundException e) {
+            Bukkit.getLogger().severe(
+                "The SQLite driver is missing, player stats and leaderboards are disabled"
+            );
+            disabled = true;
+            return;
+        }
+        try {
+            file.getParentFile().mkdirs();
+            connection = DriverManager.getConnection(
+                "jdbc:sqlite:" + file.getAbsolutePath()
+            );
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PRAGMA journal_mode=WAL");
+                int version;
+                try (ResultSet row = statement.executeQuery("PRAGMA user_version")) {
+                    version = row.next() ? row.getInt(1) : 0;
+                }
+                statement.execute(
+                    "CREATE TABLE IF NOT EXISTS players (" +
+                    "uuid TEXT PRIMARY KEY, name TEXT NOT NULL, " +
+                    "matches INTEGER NOT NULL DEFAULT 0, " +
+                    "wins INTEGER NOT NULL DEFAULT 0, " +
+                    "items_found INTEGER NOT NULL DEFAULT 0)"
+                );
+                statement.execute(
+                    "CREATE INDEX IF NOT EXISTS players_name ON players (name COLLATE NOCASE)"
+                );
+                statement.execute(
+                    "CREATE TABLE IF NOT EXISTS matches (" +
+                    "started_at INTEGER PRIMARY KEY, ended_at INTEGER NOT NULL, " +
+                    "winners TEXT NOT NULL)"
+                );
+                statement.execute(
+                    "CREATE TABLE IF NOT EXISTS match_players (" +
+                    "started_at INTEGER NOT NULL, uuid TEXT NOT NULL, " +
+                    "team TEXT NOT NULL, winner INTEGER NOT NULL, " +
+                    "PRIMARY KEY (started_at, uuid))"
+                );
+                statement.execute(
+                    "CREATE TABLE IF NOT EXISTS finds (" +
+                    "started_at INTEGER NOT NULL, uuid TEXT NOT NULL, " +
+                    "item TEXT NOT NULL, elapsed_ms INTEGER NOT NULL)"
+                );
+                statement.execute(
+                    "CREATE INDEX IF NOT EXISTS finds_uuid ON finds (uuid, elapsed_ms)"
+                );
+                statement.execute(
+                    "CREATE INDEX IF NOT EXISTS players_wins ON players (wins DESC)"
+                );
+                statement.execute(
+                    "CREATE INDEX IF NOT EXISTS players_items ON players (items_found DESC)"
+                );
+                statement.execute(
+                    "CREATE TABLE IF NOT EXISTS best_finds (" +
+                    "item TEXT NOT NULL, uuid TEXT NOT NULL, " +
+                    "elapsed_ms INTEGER NOT NULL, " +
+                    "PRIMARY KEY (item, uuid)) WITHOUT ROWID"
+                );
+                statement.execute(
+                    "CREATE INDEX IF NOT EXISTS best_finds_item ON best_finds (item, elapsed_ms)"
+                );
+                statement.execute(
+                    "CREATE TABLE IF NOT EXISTS item_find_times (" +
+                    "item TEXT PRIMARY KEY, samples INTEGER NOT NULL, " +
+                    "q0 REAL NOT NULL, q1 REAL NOT NULL, q2 REAL NOT NULL, " +
+                    "q3 REAL NOT NULL, q4 REAL NOT NULL, " +
+                    "n0 INTEGER NOT NULL, n1 INTEGER NOT NULL, n2 INTEGER NOT NULL, " +
+                    "n3 INTEGER NOT NULL, n4 INTEGER NOT NULL)"
+                );
+                if (version < SCHEMA_VERSION) {
+                    // Finds written before the best times were kept
+                    statement.execute(
+                        "INSERT OR IGNORE INTO best_finds (item, uuid, elapsed_ms) " +
+                        "SELECT item, uuid, MIN(elapsed_ms) FROM finds GROUP BY item, uuid"
+                    );
+                    statement.execute("PRAGMA user_version = " + SCHEMA_VERSION);
+                }
+            }
+            loadFindTimes();
+        } catch (SQLException e) {
+            Bukkit.getLogger().log(
+                Level.SEVERE,
+                "Couldn't open the stats database, player stats and leaderboards are disabled",
+                e
+            );
+            connection = null;
+            disabled = true;
+        }
+    }
+
+    /** Reads the find time estimates, on the background thread */
+    private void loadFindTimes() throws SQLException {
+        findTimes.clear();
+        try (
+            Statement statement = connection.createStatement();
+            ResultSet row = statement.executeQuery(
+                "SELECT item, samples, q0, q1, q2, q3, q4, n0, n1, n2, n3, n4 " +
+                "FROM item_find_times"
+            )
+        ) {
+            while (row.next()) {
+                double[] heights = new double[5];
+                int[] positions = new int[5];
+                for (int i = 0; i < 5; i++) {
+                    heights[i] = row.getDouble(3 + i);
+                    positions[i] = row.getInt(8 + i);
+                }
+                findTimes.put(
+                    row.getString(1),
+                    new BingoFindTimeQuantile(row.getLong(2), heights, positions)
+                );
+            }
+        }
+    }
+
+    /** Folds the find times of a match into the estimates, on the background thread */
+    private void writeFindTimes(Map<String, List<Long>> samples)
+        throws SQLException {
+        if (samples.isEmpty()) return;
+        try (
+            PreparedStatement statement = connection.prepareStatement(
+                "INSERT OR REPLACE INTO item_find_times " +
+                "(item, samples, q0, q1, q2, q3, q4, n0, n1, n2, n3, n4) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"
+            )
+        ) {
+            for (Map.Entry<String, List<Long>> entry : samples.entrySet()) {
+                BingoFindTimeQuantile estimate = findTimes.computeIfAbsent(
+                    entry.getKey(),
+                    item -> new BingoFindTimeQuantile()
+                );
+                entry.getValue().forEach(estimate::add);
+                statement.setString(1, entry.getKey());
+                statement.setLong(2, estimate.getCount());
+                for (int i = 0; i < 5; i++) {
+                    statement.setDouble(3 + i, estimate.getHeights()[i]);
+                    statement.setInt(8 + i, estimate.getPositions()[i]);
+                }
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * Sets who is given the median find time of the items, in
+     * milliseconds, of every item found at least
+     * {@value #MIN_FIND_TIME_SAMPLES} times. It is called on the main
+     * thread once the database is open and after every match.
+     *
+     * @param listener The listener of the find times
+     */
+    public void setFindTimesListener(Consumer<Map<String, Long>> listener) {
+        this.findTimesListener = listener;
+        executor.execute(this::publishFindTimes);
+    }
+
+    private void publishFindTimes() {
+        Consumer<Map<String, Long>> listener = findTimesListener;
+        if (listener == null) return;
+        Map<String, Long> medians = new HashMap<>();
+        findTimes.forEach((item, estimate) -> {
+            if (estimate.getCount() >= MIN_FIND_TIME_SAMPLES) {
+                medians.put(item, Math.round(estimate.getEstimate()));
+            }
+        });
+        BingoMainThreadExecutor.getInstance().execute(() -> listener.accept(medians));
+    }
+
+    /**
+     * Starts collecting the finds of a match.
+     *
+     * @param startInstant The start of the match
+     */
+    public void beginMatch(Instant startInstant) {
+        beginMatch(startInstant, startInstant);
+    }
+
+    /**
+     * Starts collecting the finds of a match, which may be resumed.
+     *
+     * @param startInstant The instant the match was first started, the key
+     * of its records
+     * @param clockStartInstant The start elapsed times are counted from,
+     * later than startInstant by the downtime of a resumed match
+     */
+    public void beginMatch(Instant startInstant, Instant clockStartInstant) {
+        flush();
+        this.matchStartMillis = startInstant.toEpochMilli();
+        this.clockStartMillis = clockStartInstant.toEpochMilli();
+        if (flushTask == null) {
+            flushTask = Bukkit.getScheduler().runTaskTimer(
+                BingoPlugin.getInstance(),
+                this::flush,
+                FLUSH_PERIOD_TICKS,
+                FLUSH_PERIOD_TICKS
+            );
+        }
+    }
+
+    /**
+     * Records a quest completed by a player. It is written with the next
+     * batch.
+     *
+     * @param player The player who completed the quest
+     * @param item The name of the quest
+     * @param elapsedMillis The milliseconds since the start of the match
+     */
+    public void recordFind(BingoPlayer player, String item, long elapsedMillis) {
+        pendingFinds.add(
+            new Find(player.getUniqueId(), player.getName(), item, elapsedMillis)
+        );
+    }
+
+    /**
+     * Records the end of a match and its players, with the finds still
+     * pending. Must be called before the teams are cleared.
+     *
+     * @param endInstant The end of the match
+     * @param teams The teams of the match
+     * @param winners The teams that won the match
+     */
+    public void endMatch(
+        Instant endInstant,
+        List<BingoTeam> teams,
+        List<BingoTeam> winners
+    ) {
+        List<Participant> participants = new ArrayList<>();
+        StringBuilder winnerNames = new StringBuilder();
+        Map<String, List<Long>> itemTimes = new HashMap<>();
+        for (BingoTeam team : teams) {
+            for (Map.Entry<BingoQuest, Instant> completion : team
+                .getCompletedQuests()
+                .entrySet()) {
+                if (!(completion.getKey() instanceof BingoQuestItem)) continue;
+                itemTimes
+                    .computeIfAbsent(
+                        completion.getKey().getQuestName(),
+                        item -> new ArrayList<>()
+                    )
+                    .add(completion.getValue().toEpochMilli() - clockStartMillis);
+            }
+            boolean winner = winners.contains(team);
+            if (winner) {
+                if (winnerNames.length() > 0) winnerNames.append(", ");
+                winnerNames.append(team.getName());
+            }
+            for (BingoPlayer player : team.getPlayers()) {
+                participants.add(
+                    new Participant(
+                        player.getUniqueId(),
+                        player.getName(),
+                        team.getName(),
+                        winner
+                    )
+                );
+            }
+        }
+
+        List<Find> finds = takePendingFinds();
+        long startedAt = matchStartMillis;
+        long endedAt = endInstant.toEpochMilli();
+        String winnerList = winnerNames.toString();
+        submit(() -> {
+            writeFinds(startedAt, finds);
+            writeFindTimes(itemTimes);
+            try (
+                PreparedStatement match = connection.prepareStatement(
+                    "INSERT OR REPLACE INTO matches (started_at, ended_at, winners) VALUES (?, ?, ?)"
+                );
+                PreparedStatement matchPlayer = connection.prepareStatement(
+                    "INSERT OR REPLACE INTO match_players (started_at, uuid, team, winner) VALUES (?, ?, ?, ?)"
+                );
+                PreparedStatement player = connection.prepareStatement(
+                    "INSERT INTO players (uuid, name, matches, wins) VALUES (?, ?, 1, ?) " +
+                    "ON CONFLICT (uuid) DO UPDATE SET name = excluded.name, " +
+                    "matches = matches + 1, wins = wins + excluded.wins"
+                )
+            ) {
+                match.setLong(1, startedAt);
+                match.setLong(2, endedAt);
+                match.setString(3, winnerList);
+                match.executeUpdate();
+                for (Participant participant : participants) {
+                    matchPlayer.setLong(1, startedAt);
+                    matchPlayer.setString(2, participant.uuid.toString());
+                    matchPlayer.setString(3, participant.team);
+                    matchPlayer.setInt(4, participant.winner ? 1 : 0);
+                    matchPlayer.addBatch();
+                    player.setString(1, participant.uuid.toString());
+                    player.setString(2, participant.name);
+                    player.setInt(3, participant.winner ? 1 : 0);
+                    player.addBatch();
+                }
+                matchPlayer.executeBatch();
+                player.executeBatch();
+            }
+            Set<UUID> changed = new HashSet<>();
+            finds.forEach(find -> changed.add(find.uuid));
+            participants.forEach(participant -> changed.add(participant.uuid));
+            return changed;
+        });
+        // Queued after the write, so they read the totals of this match
+        executor.execute(this::refreshLeaderboards);
+        executor.execute(this::publishFindTimes);
+    }
+
+    /**
+     * Writes the pending finds in the background.
+     */
+    public void flush() {
+        if (pendingFinds.isEmpty()) return;
+        List<Find> finds = takePendingFinds();
+        long startedAt = matchStartMillis;
+        submit(() -> {
+            writeFinds(startedAt, finds);
+            Set<UUID> changed = new HashSet<>();
+            finds.forEach(find -> changed.add(find.uuid));
+            return changed;
+        });
+    }
+
+    private List<Find> takePendingFinds() {
+        List<Find> finds = pendingFinds;
+        pendingFinds = new ArrayList<>();
+        return finds;
+    }
+
+    /** Writes a batch of finds, on the background thread */
+    private void writeFinds(long startedAt, List<Find> finds)
+        throws SQLException {
+        if (finds.isEmpty()) return;
+        try (
+            PreparedStatement find = connection.prepareStatement(
+                "INSERT INTO finds (started_at, uuid, item, elapsed_ms) VALUES (?, ?, ?, ?)"
+            );
+            PreparedStatement player = connection.prepareStatement(
+                "INSERT INTO players (uuid, name, items_found) VALUES (?, ?, 1) " +
+                "ON CONFLICT (uuid) DO UPDATE SET name = excluded.name, " +
+                "items_found = items_found + 1"
+            );
+            PreparedStatement best = connection.prepareStatement(
+                "INSERT INTO best_finds (item, uuid, elapsed_ms) VALUES (?, ?, ?) " +
+                "ON CONFLICT (item, uuid) DO UPDATE SET " +
+                "elapsed_ms = MIN(elapsed_ms, excluded.elapsed_ms)"
+            )
+        ) {
+            for (Find entry : finds) {
+                find.setLong(1, startedAt);
+                find.setString(2, entry.uuid.toString());
+                find.setString(3, entry.item);
+                find.setLong(4, entry.elapsedMillis);
+                find.addBatch();
+                player.setString(1, entry.uuid.toString());
+                player.setString(2, entry.name);
+                player.addBatch();
+                best.setString(1, entry.item);
+                best.setString(2, entry.uuid.toString());
+                best.setLong(3, entry.elapsedMillis);
+                best.addBatch();
+            }
+            find.executeBatch();
+            player.executeBatch();
+            best.executeBatch();
+        }
+    }
+
+    /** Synchronized map dropping its least recently used entry past a size */
+    private static <K, V> Map<K, V> boundedCache(int maxSize) {
+        return Collections.synchronizedMap(
+            new LinkedHashMap<K, V>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    return size() > maxSize;
+                }
+            }
+        );
+    }
+
+    /** A write of the background thread, returning the players it changed */
+    private interface Write {
+        Set<UUID> run() throws SQLException;
+    }
+
+    /**
+     * Runs a write in one transaction on the background thread, then drops
+     * the cached statistics of the players it changed.
+     */
+    private void submit(Write write) {
+        executor.execute(() -> {
+            if (connection == null) return;
+            try {
+                connection.setAutoCommit(false);
+                Set<UUID> changed = write.run();
+                connection.commit();
+                invalidate(changed);
+            } catch (SQLException e) {
+                Bukkit.getLogger().log(Level.WARNING, "Couldn't write stats", e);
+                try {
+                    connection.rollback();
+                    // Estimates may have taken samples that were not written
+                    loadFindTimes();
+                } catch (SQLException rollback) {
+                    // The transaction is dropped with the connection
+                }
+            } finally {
+                try {
+                    connection.setAutoCommit(true);
+                } catch (SQLException e) {
+                    // Next write sets it again
+                }
+            }
+        });
+    }
+
+    private void invalidate(Set<UUID> changed) {
+        synchronized (cache) {
+            cache.values().removeIf(future -> {
+                if (!future.isDone()) return false;
+                Optional<BingoPlayerStats> stats = future.getNow(Optional.empty());
+                return stats.isPresent() && changed.contains(stats.get().getUniqueId());
+            });
+        }
+    }
+
+    /**
+     * @return True if the database couldn't be opened, so no statistics are
+     * kept or read.
+     */
+    public boolean isDisabled() {
+        return disabled;
+    }
+
+    /**
+     * Gets the statistics of a player, from the cache or read in the
+     * background. The future completes on the background thread; use
+     * {@link com.bingaso.bingo.utils.BingoMainThreadExecutor} to use the
+     * result with the Bukkit API.
+     *
+     * @param playerName The name of the player, in any case
+     * @return The statistics, empty if the player never played a match
+     */
+    public CompletableFuture<Optional<BingoPlayerStats>> getStats(String playerName) {
+        String name = playerName.toLowerCase(Locale.ROOT);
+        CompletableFuture<Optional<BingoPlayerStats>> future = cache.computeIfAbsent(
+            name,
+            key -> CompletableFuture.supplyAsync(() -> read(key), executor)
+        );
+        // Players not found may be written later, and any name can be typed
+        future.thenAccept(stats -> {
+            if (stats.isEmpty()) cache.remove(name, future);
+        });
+        return future;
+    }
+
+    private Optional<BingoPlayerStats> read(String playerName) {
+        if (connection == null) return Optional.empty();
+        try (
+            PreparedStatement player = connection.prepareStatement(
+                "SELECT uuid, name, matches, wins, items_found FROM players " +
+                "WHERE name = ? COLLATE NOCASE"
+            );
+            PreparedStatement fastest = connection.prepareStatement(
+                "SELECT item, elapsed_ms FROM finds WHERE uuid = ? " +
+                "ORDER BY elapsed_ms LIMIT 1"
+            );
+            PreparedStatement average = connection.prepareStatement(
+                "SELECT AVG(elapsed_ms) FROM finds WHERE uuid = ?"
+            )
+        ) {
+            player.setString(1, playerName);
+            try (ResultSet row = player.executeQuery()) {
+                if (!row.next()) return Optional.empty();
+                String uuid = row.getString(1);
+                fastest.setString(1, uuid);
+                average.setString(1, uuid);
+
+                String fastestItem = null;
+                long fastestMillis = 0;
+                try (ResultSet find = fastest.executeQuery()) {
+                    if (find.next()) {
+                        fastestItem = find.getString(1);
+                        fastestMillis = find.getLong(2);
+                    }
+                }
+                long averageMillis = 0;
+                try (ResultSet avg = average.executeQuery()) {
+                    if (avg.next()) averageMillis = avg.getLong(1);
+                }
+                return Optional.of(
+                    new BingoPlayerStats(
+                        UUID.fromString(uuid),
+                        row.getString(2),
+                        row.getInt(3),
+                        row.getInt(4),
+                        row.getInt(5),
+                        fastestItem,
+                        fastestMillis,
+                        averageMillis
+                    )
+                );
+            }
+        } catch (SQLException | IllegalArgumentException e) {
+            Bukkit.getLogger().log(Level.WARNING, "Couldn't read stats", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Gets a leaderboard, from the cache or read in the background. The
+     * future completes on the background thread; use
+     * {@link com.bingaso.bingo.utils.BingoMainThreadExecutor} to use the
+     * result with the Bukkit API.
+     *
+     * @param ranking What players are ranked by
+     * @param item The material name of the item of a {@link Ranking#FASTEST}
+     * leaderboard, ignored by the others
+     * @return The best {@value #LEADERBOARD_SIZE} players at most, best
+     * first
+     */
+    public CompletableFuture<List<BingoLeaderboardEntry>> getLeaderboard(
+        Ranking ranking,
+        String item
+    ) {
+        String key = leaderboardKey(ranking, item);
+        return leaderboards.computeIfAbsent(
+            key,
+            k -> CompletableFuture.supplyAsync(
+                () -> readLeaderboard(ranking, item),
+                executor
+            )
+        );
+    }
+
+    private static String leaderboardKey(Ranking ranking, String item) {
+        return ranking == Ranking.FASTEST
+            ? ranking + ":" + item.toUpperCase(Locale.ROOT)
+            : ranking.toString();
+    }
+
+    /**
+     * Reads again the leaderboards shown the most, and drops the others.
+     * Runs on the background thread once a match is written.
+     */
+    private void refreshLeaderboards() {
+        leaderboards.clear();
+        for (Ranking ranking : new Ranking[] { Ranking.WINS, Ranking.ITEMS_FOUND }) {
+            leaderboards.put(
+                leaderboardKey(ranking, null),
+                CompletableFuture.completedFuture(readLeaderboard(ranking, null))
+            );
+        }
+    }
+
+    private List<BingoLeaderboardEntry> readLeaderboard(
+        Ranking ranking,
+        String item
+    ) {
+        List<BingoLeaderboardEntry> entries = new ArrayList<>();
+        if (connection == null) return entries;
+        String query;
+        switch (ranking) {
+            case WINS:
+                query = "SELECT name, wins FROM players WHERE wins > 0 " +
+                    "ORDER BY wins DESC LIMIT ?";
+                break;
+            case ITEMS_FOUND:
+                query = "SELECT name, items_found FROM players WHERE items_found > 0 " +
+                    "ORDER BY items_found DESC LIMIT ?";
+                break;
+            default:
+                query = "SELECT players.name, best_finds.elapsed_ms FROM best_finds " +
+                    "JOIN players ON players.uuid = best_finds.uuid " +
+                    "WHERE best_finds.item = ? ORDER BY best_finds.elapsed_ms LIMIT ?";
+                break;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            int parameter = 1;
+            if (ranking == Ranking.FASTEST) {
+                statement.setString(parameter++, item.toUpperCase(Locale.ROOT));
+            }
+            statement.setInt(parameter, LEADERBOARD_SIZE);
+            try (ResultSet row = statement.executeQuery()) {
+                while (row.next()) {
+                    entries.add(
+                        new BingoLeaderboardEntry(row.getString(1), row.getLong(2))
+                    );
+                }
+            }
+        } catch (SQLException e) {
+            Bukkit.getLogger().log(Level.WARNING, "Couldn't read a leaderboard", e);
+        }
+        return entries;
+    }
+
+    /**
+     * Writes the pending finds and closes the database, waiting for the
+     * writes queued so far. Called when the plugin is disabled.
+     */
+    public void close() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        flush();
+        executor.execute(() -> {
+            if (connection == null) return;
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                // Closing anyway
+            }
+            connection = null;
+        });
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10L, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
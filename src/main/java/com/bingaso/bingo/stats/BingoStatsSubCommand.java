@@ -0,0 +1,131 @@
+package com.bingaso.bingo.stats;
+
+import com.bingaso.bingo.BingoPlugin;
+import com.bingaso.bingo.command.BingoSubCommand;
+import com.bingaso.bingo.utils.BingoMainThreadExecutor;
+import com.bingaso.bingo.utils.TimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Command executor for player statistics.
+ * Handles: /bingo stats [player]
+ */
+public class BingoStatsSubCommand implements BingoSubCommand {
+
+    @Override
+    public boolean execute(
+        @NotNull CommandSender sender,
+        @NotNull String[] args
+    ) {
+        if (args.length > 1) {
+            sender.sendMessage(
+                Component.text("/bingo stats [player]", NamedTextColor.RED)
+            );
+            return true;
+        }
+
+        String playerName;
+        if (args.length == 1) {
+            playerName = args[0];
+        } else if (sender instanceof Player) {
+            playerName = sender.getName();
+        } else {
+            sender.sendMessage(
+                Component.text("/bingo stats <player>", NamedTextColor.RED)
+            );
+            return true;
+        }
+
+        BingoStatsStore statsStore = BingoPlugin.getInstance()
+            .getBingoMatch()
+            .getStatsStore();
+        if (statsStore.isDisabled()) {
+            sender.sendMessage(
+                Component.text(
+                    "Player stats are disabled on this server.",
+                    NamedTextColor.RED
+                )
+            );
+            return true;
+        }
+
+        // Statistics are read off the main thread, and shown on it
+        statsStore
+            .getStats(playerName)
+            .thenAcceptAsync(
+                stats -> {
+                    if (sender instanceof Player && !((Player) sender).isOnline()) {
+                        return;
+                    }
+                    if (stats.isEmpty()) {
+                        sender.sendMessage(
+                            Component.text(
+                                playerName + " has not played a match yet.",
+                                NamedTextColor.RED
+                            )
+                        );
+                        return;
+                    }
+                    sendStats(sender, stats.get());
+                },
+                BingoMainThreadExecutor.getInstance()
+            );
+        return true;
+    }
+
+    private void sendStats(CommandSender sender, BingoPlayerStats stats) {
+        sender.sendMessage(
+            Component.text(
+                "=== Bingo Stats of " + stats.getName() + " ===",
+                NamedTextColor.GOLD
+            )
+        );
+        sendLine(sender, "Matches", String.valueOf(stats.getMatches()));
+        sendLine(sender, "Wins", String.valueOf(stats.getWins()));
+        sendLine(sender, "Items found", String.valueOf(stats.getItemsFound()));
+        if (stats.getFastestItem() != null) {
+            sendLine(
+                sender,
+                "Fastest find",
+                stats.getFastestItem() +
+                " in " +
+                TimeFormatter.formatMillis(stats.getFastestFindMillis())
+            );
+            sendLine(
+                sender,
+                "Average find time",
+                TimeFormatter.formatMillis(stats.getAverageFindMillis())
+            );
+        }
+    }
+
+    private void sendLine(CommandSender sender, String label, String value) {
+        sender.sendMessage(
+            Component.text(label + ": ", NamedTextColor.AQUA).append(
+                Component.text(value, NamedTextColor.WHITE)
+            )
+        );
+    }
+
+    @Override
+    public @Nullable List<String> getTabCompletions(
+        @NotNull CommandSender sender,
+        @NotNull String[] args
+    ) {
+        if (args.length == 1) {
+            return Bukkit.getOnlinePlayers()
+                .stream()
+                .map(Player::getName)
+                .collect(Collectors.toList());
+        }
+        return null;
+    }
+}
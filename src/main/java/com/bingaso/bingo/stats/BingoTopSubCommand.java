@@ -0,0 +1,171 @@
+package com.bingaso.bingo.stats;
+
+import com.bingaso.bingo.BingoPlugin;
+import com.bingaso.bingo.command.BingoSubCommand;
+import com.bingaso.bingo.stats.BingoStatsStore.Ranking;
+import com.bingaso.bingo.utils.BingoMainThreadExecutor;
+import com.bingaso.bingo.utils.TimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Material;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Command executor for leaderboards.
+ * Handles: /bingo top [wins|items|fastest &lt;item&gt;]
+ */
+public class BingoTopSubCommand implements BingoSubCommand {
+
+    @Override
+    public boolean execute(
+        @NotNull CommandSender sender,
+        @NotNull String[] args
+    ) {
+        Ranking ranking;
+        String item = null;
+        String title;
+        String board = args.length == 0 ? "wins" : args[0].toLowerCase(Locale.ROOT);
+        switch (board) {
+            case "wins":
+                if (args.length > 1) {
+                    sendHelpMessage(sender);
+                    return true;
+                }
+                ranking = Ranking.WINS;
+                title = "Most Wins";
+                break;
+            case "items":
+                if (args.length > 1) {
+                    sendHelpMessage(sender);
+                    return true;
+                }
+                ranking = Ranking.ITEMS_FOUND;
+                title = "Most Items Found";
+                break;
+            case "fastest":
+                if (args.length != 2) {
+                    sendHelpMessage(sender);
+                    return true;
+                }
+                Material material = Material.matchMaterial(args[1]);
+                if (material == null || !material.isItem() || material.isLegacy()) {
+                    sender.sendMessage(
+                        Component.text(
+                            args[1] + " is not an item.",
+                            NamedTextColor.RED
+                        )
+                    );
+                    return true;
+                }
+                ranking = Ranking.FASTEST;
+                item = material.name();
+                title = "Fastest " + item;
+                break;
+            default:
+                sendHelpMessage(sender);
+                return true;
+        }
+
+        BingoStatsStore statsStore = BingoPlugin.getInstance()
+            .getBingoMatch()
+            .getStatsStore();
+        if (statsStore.isDisabled()) {
+            sender.sendMessage(
+                Component.text(
+                    "Player stats are disabled on this server.",
+                    NamedTextColor.RED
+                )
+            );
+            return true;
+        }
+
+        // Leaderboards are read off the main thread, and shown on it
+        statsStore
+            .getLeaderboard(ranking, item)
+            .thenAcceptAsync(
+                entries -> {
+                    if (sender instanceof Player && !((Player) sender).isOnline()) {
+                        return;
+                    }
+                    sendLeaderboard(sender, title, ranking, entries);
+                },
+                BingoMainThreadExecutor.getInstance()
+            );
+        return true;
+    }
+
+    private void sendLeaderboard(
+        CommandSender sender,
+        String title,
+        Ranking ranking,
+        List<BingoLeaderboardEntry> entries
+    ) {
+        sender.sendMessage(
+            Component.text("=== Bingo Top: " + title + " ===", NamedTextColor.GOLD)
+        );
+        if (entries.isEmpty()) {
+            sender.sendMessage(
+                Component.text("Nobody is ranked yet.", NamedTextColor.GRAY)
+            );
+            return;
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            BingoLeaderboardEntry entry = entries.get(i);
+            String value = ranking == Ranking.FASTEST
+                ? TimeFormatter.formatMillis(entry.getValue())
+                : String.valueOf(entry.getValue());
+            sender.sendMessage(
+                Component.text((i + 1) + ". ", NamedTextColor.YELLOW)
+                    .append(Component.text(entry.getName(), NamedTextColor.AQUA))
+                    .append(Component.text(" - " + value, NamedTextColor.WHITE))
+            );
+        }
+    }
+
+    @Override
+    public @Nullable List<String> getTabCompletions(
+        @NotNull CommandSender sender,
+        @NotNull String[] args
+    ) {
+        if (args.length == 1) {
+            return Arrays.asList("wins", "items", "fastest");
+        }
+        if (args.length == 2 && args[0].equalsIgnoreCase("fastest")) {
+            String prefix = args[1].toUpperCase(Locale.ROOT);
+            return Arrays.stream(Material.values())
+                .filter(material -> material.isItem() && !material.isLegacy())
+                .map(Material::name)
+                .filter(name -> name.startsWith(prefix))
+                .collect(Collectors.toList());
+        }
+        return null;
+    }
+
+    private void sendHelpMessage(CommandSender sender) {
+        sender.sendMessage(
+            Component.text("=== Bingo Top Commands ===", NamedTextColor.GOLD)
+        );
+        sender.sendMessage(
+            Component.text("/bingo top wins", NamedTextColor.AQUA).append(
+                Component.text(" - Players with the most wins.")
+            )
+        );
+        sender.sendMessage(
+            Component.text("/bingo top items", NamedTextColor.AQUA).append(
+                Component.text(" - Players who found the most items.")
+            )
+        );
+        sender.sendMessage(
+            Component.text("/bingo top fastest <item>", NamedTextColor.AQUA).append(
+                Component.text(" - Fastest finds of an item.")
+            )
+        );
+    }
+}
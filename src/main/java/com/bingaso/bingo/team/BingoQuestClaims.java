@@ -0,0 +1,148 @@
+package com.bingaso.bingo.team;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.bingaso.bingo.quest.BingoQuest;
+
+/**
+ * Tracks which teams have completed every quest, updated on every quest
+ * change instead of scanning every team when it is read.
+ * <p>
+ * Every claimed quest maps to the set of {@link BingoTeam#getSlot() slots}
+ * of the teams that completed it, so checking whether a quest is locked or
+ * who owns it never goes through the team list.
+ * </p>
+ *
+ * @since 1.0
+ */
+public class BingoQuestClaims
+    implements TeamQuestListener, BingoTeamListener {
+
+    private final BingoTeamRepositoryReadOnly teamRepository;
+    /** Slots of the teams that completed every claimed quest */
+    private final Map<BingoQuest, BitSet> owners = new HashMap<>();
+
+    /**
+     * Creates the claims of the teams of a repository.
+     *
+     * @param teamRepository The repository resolving team slots
+     * @since 1.0
+     */
+    public BingoQuestClaims(BingoTeamRepositoryReadOnly teamRepository) {
+        this.teamRepository = teamRepository;
+    }
+
+    /**
+     * Checks if any team has completed a quest.
+     *
+     * @param quest The {@link BingoQuest} to check
+     * @return true if at least one team completed the quest
+     * @since 1.0
+     */
+    public boolean isClaimed(BingoQuest quest) {
+        return owners.containsKey(quest);
+    }
+
+    /**
+     * Checks if a team has completed a quest.
+     *
+     * @param quest The {@link BingoQuest} to check
+     * @param team The {@link BingoTeam} to check
+     * @return true if the team completed the quest
+     * @since 1.0
+     */
+    public boolean isClaimedBy(BingoQuest quest, BingoTeam team) {
+        BitSet teams = owners.get(quest);
+        return teams != null && team.getSlot() >= 0 && teams.get(team.getSlot());
+    }
+
+    /**
+     * Gets the number of teams that completed a quest.
+     *
+     * @param quest The {@link BingoQuest} to check
+     * @return The number of teams owning the quest
+     * @since 1.0
+     */
+    public int getClaimCount(BingoQuest quest) {
+        BitSet teams = owners.get(quest);
+        return teams == null ? 0 : teams.cardinality();
+    }
+
+    /**
+     * Gets the teams that completed a quest, by team slot.
+     *
+     * @param quest The {@link BingoQuest} to check
+     * @return The teams owning the quest, empty if it is not claimed
+     * @since 1.0
+     */
+    public List<BingoTeam> getOwners(BingoQuest quest) {
+        BitSet teams = owners.get(quest);
+        if (teams == null) return List.of();
+
+        List<BingoTeam> result = new ArrayList<>(teams.cardinality());
+        for (int slot = teams.nextSetBit(0); slot >= 0; slot = teams.nextSetBit(slot + 1)) {
+            BingoTeam team = teamRepository.findBySlot(slot);
+            if (team != null) result.add(team);
+        }
+        return result;
+    }
+
+    private void removeOwner(BingoQuest quest, int slot) {
+        BitSet teams = owners.get(quest);
+        if (teams == null) return;
+        teams.clear(slot);
+        if (teams.isEmpty()) owners.remove(quest);
+    }
+
+    /** Removes a team slot from every quest, for cleared or removed teams */
+    private void removeOwner(int slot) {
+        if (slot < 0) return;
+        owners.values().removeIf(teams -> {
+            teams.clear(slot);
+            return teams.isEmpty();
+        });
+    }
+
+    @Override
+    public void onQuestCompleted(
+        BingoTeam team,
+        BingoQuest quest,
+        Instant completionTime
+    ) {
+        if (team.getSlot() < 0) return;
+        owners.computeIfAbsent(quest, q -> new BitSet()).set(team.getSlot());
+    }
+
+    @Override
+    public void onQuestCompletionRemoved(BingoTeam team, BingoQuest quest) {
+        if (team.getSlot() < 0) return;
+        removeOwner(quest, team.getSlot());
+    }
+
+    @Override
+    public void onQuestsCleared(BingoTeam team) {
+        removeOwner(team.getSlot());
+    }
+
+    @Override
+    public void onTeamCreated(BingoTeam bingoTeam) {
+        for (BingoQuest quest : bingoTeam.getCompletedQuests().keySet()) {
+            onQuestCompleted(bingoTeam, quest, null);
+        }
+    }
+
+    @Override
+    public void onTeamRemoved(BingoTeam bingoTeam) {
+        removeOwner(bingoTeam.getSlot());
+    }
+
+    @Override
+    public void onTeamsCleared() {
+        owners.clear();
+    }
+}
@@ -2,11 +2,14 @@ package com.bingaso.bingo.team;
 
 import java.io.Serializable;
 import java.time.Instant;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
@@ -14,6 +17,8 @@ import org.jetbrains.annotations.NotNull;
 import com.bingaso.bingo.quest.BingoQuest;
 import com.bingaso.bingo.player.BingoPlayer;
 
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.audience.ForwardingAudience;
 import net.kyori.adventure.text.format.TextColor;
 
 /**
@@ -26,10 +31,28 @@ import net.kyori.adventure.text.format.TextColor;
  */
 public class BingoTeam implements Serializable {
 
-    private String name;
-    private TextColor color;
-    private final List<BingoPlayer> players = new ArrayList<>();
+    /**
+     * Changed by the repository on the main thread. Readable from any
+     * thread, but only consistent with the repository indexes on the main
+     * thread.
+     */
+    private volatile String name;
+    private volatile TextColor color;
+    /** Dense index of the team in its repository, -1 until it is saved */
+    private int slot = -1;
+    /**
+     * Copied on write, so the members can be iterated from any thread. Only
+     * matches the player index of the repository on the main thread.
+     */
+    private final List<BingoPlayer> players = new CopyOnWriteArrayList<>();
     private final HashMap<BingoQuest, Instant> completedItems = new HashMap<>();
+    /** Members currently online, kept current on membership changes, joins and quits */
+    private final transient Set<Player> onlineMembers = new LinkedHashSet<>();
+    private final transient Collection<Player> onlineMembersView =
+        Collections.unmodifiableSet(onlineMembers);
+    /** Audience forwarding to the online members */
+    private final transient ForwardingAudience audience =
+        Audience.audience(onlineMembers);
 
     /**
      * Constructs a new Team with a given name and given color.
@@ -59,6 +82,26 @@ public class BingoTeam implements Serializable {
         this.color = color;
     }
 
+    /**
+     * Gets the slot of the team: a small index, unique among the saved
+     * teams, that can be used to keep per-team state in arrays. The slot of
+     * a removed team may be given to a team saved later.
+     *
+     * @return The team's slot, or -1 if it was never saved.
+     * @since 1.0
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * @param slot The slot given to the team by its repository.
+     * @since 1.0
+     */
+    protected void setSlot(int slot) {
+        this.slot = slot;
+    }
+
     /**
      * @return The team's name.
      * @since 1.0
@@ -84,18 +127,54 @@ public class BingoTeam implements Serializable {
     }
 
     /** 
-     * @return An online {@link Player} list of the team.
+     * @return An unmodifiable view of the online {@link Player}s of the team.
+     * @since 1.0
+     */
+    public Collection<Player> getOnlinePlayers() {
+        return onlineMembersView;
+    }
+
+    /**
+     * Gets the audience of the online members of the team. The audience is
+     * created once and follows the members, so it can be kept and used to
+     * message the team without looking players up.
+     * 
+     * @return The {@link ForwardingAudience} of the team.
+     * @since 1.0
+     */
+    public ForwardingAudience audience() {
+        return audience;
+    }
+
+    /**
+     * Adds a member who just joined the server to the team audience.
+     * 
+     * @param player The {@link Player} who joined.
+     * @since 1.0
+     */
+    public void memberJoined(@NotNull Player player) {
+        if (hasMember(player)) {
+            onlineMembers.add(player);
+        }
+    }
+
+    /**
+     * Removes a member who is quitting the server from the team audience.
+     * 
+     * @param player The {@link Player} who is quitting.
      * @since 1.0
      */
-    public List<Player> getOnlinePlayers() {
-        List<Player> onlinePlayers = new ArrayList<>();
-        for (BingoPlayer player : players) {
-            Player onlinePlayer = player.getOnlinePlayer();
-            if (onlinePlayer != null) {
-                onlinePlayers.add(onlinePlayer);
+    public void memberQuit(@NotNull Player player) {
+        onlineMembers.remove(player);
+    }
+
+    private boolean hasMember(Player player) {
+        for (BingoPlayer bingoPlayer : players) {
+            if (bingoPlayer.getUniqueId().equals(player.getUniqueId())) {
+                return true;
             }
         }
-        return onlinePlayers;
+        return false;
     }
 
     /**
@@ -132,6 +211,10 @@ public class BingoTeam implements Serializable {
         if (players.contains(bingoPlayer)) {
             return false;
         }
+        Player onlinePlayer = bingoPlayer.getOnlinePlayer();
+        if (onlinePlayer != null) {
+            onlineMembers.add(onlinePlayer);
+        }
         return players.add(bingoPlayer);
     }
 
@@ -142,6 +225,9 @@ public class BingoTeam implements Serializable {
      */
     protected boolean removePlayer(@NotNull BingoPlayer bingoPlayer) {
         boolean b = players.remove(bingoPlayer);
+        onlineMembers.removeIf(p ->
+            p.getUniqueId().equals(bingoPlayer.getUniqueId())
+        );
         return b;
     }
 
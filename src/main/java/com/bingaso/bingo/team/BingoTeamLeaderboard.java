@@ -0,0 +1,205 @@
+package com.bingaso.bingo.team;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.bingaso.bingo.quest.BingoQuest;
+
+/**
+ * Ranking of the teams of a match, updated on every quest change instead of
+ * sorting every team when it is read.
+ * <p>
+ * Teams are kept in buckets by number of completed quests. Inside a bucket
+ * teams are kept in the order they reached that score, so a team reaching
+ * a score first stays ahead of teams reaching it later. Queries walk the
+ * buckets from the highest score and never sort. Scores are kept in an
+ * array indexed by {@link BingoTeam#getSlot() team slot}.
+ * </p>
+ *
+ * @since 1.0
+ */
+public class BingoTeamLeaderboard
+    implements TeamQuestListener, BingoTeamListener {
+
+    /** Teams by score, highest score first, in the order they reached it */
+    private final NavigableMap<Integer, LinkedHashSet<BingoTeam>> buckets =
+        new TreeMap<>(Collections.reverseOrder());
+    /** Current score of every ranked team by team slot, -1 if not ranked */
+    private int[] scores = newScores(8);
+    private int teamCount = 0;
+
+    private static int[] newScores(int length) {
+        int[] scores = new int[length];
+        Arrays.fill(scores, -1);
+        return scores;
+    }
+
+    private int getStoredScore(BingoTeam team) {
+        int slot = team.getSlot();
+        if (slot < 0 || slot >= scores.length) return -1;
+        return scores[slot];
+    }
+
+    /**
+     * Gets the score of a team.
+     *
+     * @param team The {@link BingoTeam} to look up
+     * @return The number of quests completed by the team, 0 if not ranked
+     * @since 1.0
+     */
+    public int getScore(BingoTeam team) {
+        return Math.max(getStoredScore(team), 0);
+    }
+
+    /**
+     * Gets the number of ranked teams.
+     *
+     * @return The number of teams in the leaderboard
+     * @since 1.0
+     */
+    public int getTeamCount() {
+        return teamCount;
+    }
+
+    /**
+     * Gets the best teams, best first.
+     *
+     * @param count The maximum number of teams to return
+     * @return The first teams of the ranking
+     * @since 1.0
+     */
+    public List<BingoTeam> getTopTeams(int count) {
+        List<BingoTeam> topTeams = new ArrayList<>(Math.min(count, teamCount));
+        for (LinkedHashSet<BingoTeam> bucket : buckets.values()) {
+            for (BingoTeam team : bucket) {
+                if (topTeams.size() >= count) return topTeams;
+                topTeams.add(team);
+            }
+        }
+        return topTeams;
+    }
+
+    /**
+     * Gets every team, best first.
+     *
+     * @return The full ranking
+     * @since 1.0
+     */
+    public List<BingoTeam> getRanking() {
+        return getTopTeams(teamCount);
+    }
+
+    /**
+     * Gets the position of a team in the ranking.
+     *
+     * @param team The {@link BingoTeam} to look up
+     * @return The 1-based position of the team, or 0 if it is not ranked
+     * @since 1.0
+     */
+    public int getRank(BingoTeam team) {
+        int score = getStoredScore(team);
+        if (score < 0) return 0;
+
+        int rank = 1;
+        for (LinkedHashSet<BingoTeam> bucket : buckets.headMap(score).values()) {
+            rank += bucket.size();
+        }
+        for (BingoTeam other : buckets.get(score)) {
+            if (other.equals(team)) break;
+            rank++;
+        }
+        return rank;
+    }
+
+    /**
+     * Gets every team sharing the highest score.
+     *
+     * @return The current leaders, empty if there are no teams
+     * @since 1.0
+     */
+    public List<BingoTeam> getLeaders() {
+        if (buckets.isEmpty()) return List.of();
+        return List.copyOf(buckets.firstEntry().getValue());
+    }
+
+    /**
+     * Moves a team to the bucket of a new score, behind the teams that
+     * reached it before.
+     */
+    private void setScore(BingoTeam team, int score) {
+        int slot = team.getSlot();
+        if (slot < 0) return;
+        if (slot >= scores.length) {
+            int[] grown = newScores(Math.max(slot + 1, scores.length * 2));
+            System.arraycopy(scores, 0, grown, 0, scores.length);
+            scores = grown;
+        }
+
+        int oldScore = scores[slot];
+        scores[slot] = score;
+        if (oldScore >= 0) {
+            removeFromBucket(team, oldScore);
+        } else {
+            teamCount++;
+        }
+        buckets.computeIfAbsent(score, s -> new LinkedHashSet<>()).add(team);
+    }
+
+    private void removeTeam(BingoTeam team) {
+        int oldScore = getStoredScore(team);
+        if (oldScore >= 0) {
+            scores[team.getSlot()] = -1;
+            teamCount--;
+            removeFromBucket(team, oldScore);
+        }
+    }
+
+    private void removeFromBucket(BingoTeam team, int score) {
+        LinkedHashSet<BingoTeam> bucket = buckets.get(score);
+        if (bucket == null) return;
+        bucket.remove(team);
+        if (bucket.isEmpty()) buckets.remove(score);
+    }
+
+    @Override
+    public void onQuestCompleted(
+        BingoTeam team,
+        BingoQuest quest,
+        Instant completionTime
+    ) {
+        setScore(team, team.getCompletedQuests().size());
+    }
+
+    @Override
+    public void onQuestCompletionRemoved(BingoTeam team, BingoQuest quest) {
+        setScore(team, team.getCompletedQuests().size());
+    }
+
+    @Override
+    public void onQuestsCleared(BingoTeam team) {
+        if (getStoredScore(team) >= 0) setScore(team, 0);
+    }
+
+    @Override
+    public void onTeamCreated(BingoTeam bingoTeam) {
+        setScore(bingoTeam, bingoTeam.getCompletedQuests().size());
+    }
+
+    @Override
+    public void onTeamRemoved(BingoTeam bingoTeam) {
+        removeTeam(bingoTeam);
+    }
+
+    @Override
+    public void onTeamsCleared() {
+        buckets.clear();
+        Arrays.fill(scores, -1);
+        teamCount = 0;
+    }
+}
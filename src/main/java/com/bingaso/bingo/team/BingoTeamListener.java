@@ -0,0 +1,42 @@
+package com.bingaso.bingo.team;
+
+/**
+ * Receives changes made to the teams of a match.
+ * All methods are called on the main thread after the change is applied, and
+ * do nothing by default so implementations only override what they need.
+ *
+ * @since 1.0
+ */
+public interface BingoTeamListener {
+
+    /**
+     * Called after a team is created.
+     *
+     * @param bingoTeam The new team.
+     * @since 1.0
+     */
+    default void onTeamCreated(BingoTeam bingoTeam) {}
+
+    /**
+     * Called after a team is removed.
+     *
+     * @param bingoTeam The removed team.
+     * @since 1.0
+     */
+    default void onTeamRemoved(BingoTeam bingoTeam) {}
+
+    /**
+     * Called after a player joins or leaves a team that still exists.
+     *
+     * @param bingoTeam The team whose players changed.
+     * @since 1.0
+     */
+    default void onTeamPlayersChanged(BingoTeam bingoTeam) {}
+
+    /**
+     * Called after every team is removed at once.
+     *
+     * @since 1.0
+     */
+    default void onTeamsCleared() {}
+}
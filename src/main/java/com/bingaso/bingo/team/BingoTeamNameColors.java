@@ -0,0 +1,198 @@
+package com.bingaso.bingo.team;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import com.bingaso.bingo.player.BingoPlayer;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+
+/**
+ * Colors the names of players with the color of their team, in the tab list
+ * and above their heads.
+ *
+ * Every {@link BingoTeam} is mirrored by a scoreboard {@link Team} on each
+ * scoreboard players may be looking at. The scoreboard teams follow the
+ * team changes, and a player joining or leaving a team only adds or removes
+ * that player's entry. Scoreboards added later get every team in one pass.
+ *
+ * Names above heads can only take one of the 16 named colors, so scoreboard
+ * teams use the nearest one. The tab list shows the exact team color: the
+ * list name of a player is set when that player joins or leaves a team, and
+ * when the player logs in.
+ *
+ * @since 1.0
+ */
+public class BingoTeamNameColors implements BingoTeamListener {
+
+    /** Prefix of the names of the scoreboard teams created by this class */
+    private static final String TEAM_PREFIX = "bingo_team_";
+
+    /** Scoreboards the teams are mirrored on */
+    private final List<Scoreboard> scoreboards = new ArrayList<>();
+    /** Name of the scoreboard team of every team */
+    private final Map<BingoTeam, String> teamIds = new LinkedHashMap<>();
+    /** Player names added to the scoreboard team of every team */
+    private final Map<BingoTeam, Set<String>> teamEntries = new HashMap<>();
+    private int nextId = 0;
+
+    /**
+     * Mirrors every team on a scoreboard, and every future change.
+     * Leftover teams of this class on the scoreboard, for example saved in
+     * the main scoreboard by a previous run, are removed first.
+     *
+     * @param scoreboard The {@link Scoreboard} to mirror teams on
+     * @since 1.0
+     */
+    public void addScoreboard(@NotNull Scoreboard scoreboard) {
+        if (scoreboards.contains(scoreboard)) return;
+        scoreboards.add(scoreboard);
+
+        for (Team team : new ArrayList<>(scoreboard.getTeams())) {
+            if (team.getName().startsWith(TEAM_PREFIX)) {
+                team.unregister();
+            }
+        }
+        for (BingoTeam bingoTeam : teamIds.keySet()) {
+            registerTeam(scoreboard, bingoTeam);
+        }
+    }
+
+    /**
+     * Stops mirroring teams on a scoreboard that is no longer shown.
+     *
+     * @param scoreboard The {@link Scoreboard} to forget
+     * @since 1.0
+     */
+    public void removeScoreboard(@NotNull Scoreboard scoreboard) {
+        scoreboards.remove(scoreboard);
+    }
+
+    /**
+     * Shows a player's name in the tab list with the exact color of their
+     * team, or without color if the player has no team.
+     *
+     * @param player The player whose list name is set
+     * @param bingoTeam The team of the player, or null
+     * @since 1.0
+     */
+    public void showTeamColor(@NotNull Player player, @Nullable BingoTeam bingoTeam) {
+        player.playerListName(
+            bingoTeam == null
+                ? null
+                : Component.text(player.getName(), bingoTeam.getColor())
+        );
+    }
+
+    /** Updates the list names of the online players among the entries */
+    private void showTeamColor(Set<String> entries, @Nullable BingoTeam bingoTeam) {
+        for (String entry : entries) {
+            Player player = Bukkit.getPlayerExact(entry);
+            if (player == null) continue;
+            // A player moved to another team keeps that team's color
+            showTeamColor(player, bingoTeam == null ? findTeam(entry) : bingoTeam);
+        }
+    }
+
+    private BingoTeam findTeam(String entry) {
+        for (Map.Entry<BingoTeam, Set<String>> team : teamEntries.entrySet()) {
+            if (team.getValue().contains(entry)) return team.getKey();
+        }
+        return null;
+    }
+
+    private void registerTeam(Scoreboard scoreboard, BingoTeam bingoTeam) {
+        Team team = scoreboard.registerNewTeam(teamIds.get(bingoTeam));
+        team.color(NamedTextColor.nearestTo(bingoTeam.getColor()));
+        for (String entry : teamEntries.get(bingoTeam)) {
+            team.addEntry(entry);
+        }
+    }
+
+    private static Set<String> getEntries(BingoTeam bingoTeam) {
+        Set<String> entries = new HashSet<>();
+        for (BingoPlayer bingoPlayer : bingoTeam.getPlayers()) {
+            entries.add(bingoPlayer.getName());
+        }
+        return entries;
+    }
+
+    @Override
+    public void onTeamCreated(BingoTeam bingoTeam) {
+        teamIds.put(bingoTeam, TEAM_PREFIX + nextId++);
+        teamEntries.put(bingoTeam, getEntries(bingoTeam));
+        for (Scoreboard scoreboard : scoreboards) {
+            registerTeam(scoreboard, bingoTeam);
+        }
+        showTeamColor(teamEntries.get(bingoTeam), bingoTeam);
+    }
+
+    @Override
+    public void onTeamPlayersChanged(BingoTeam bingoTeam) {
+        String id = teamIds.get(bingoTeam);
+        if (id == null) return;
+
+        Set<String> oldEntries = teamEntries.get(bingoTeam);
+        Set<String> newEntries = getEntries(bingoTeam);
+        Set<String> removed = new HashSet<>(oldEntries);
+        removed.removeAll(newEntries);
+        Set<String> added = new HashSet<>(newEntries);
+        added.removeAll(oldEntries);
+        for (Scoreboard scoreboard : scoreboards) {
+            Team team = scoreboard.getTeam(id);
+            if (team == null) continue;
+            for (String entry : removed) {
+                team.removeEntry(entry);
+            }
+            for (String entry : added) {
+                team.addEntry(entry);
+            }
+        }
+        teamEntries.put(bingoTeam, newEntries);
+        showTeamColor(removed, null);
+        showTeamColor(added, bingoTeam);
+    }
+
+    @Override
+    public void onTeamRemoved(BingoTeam bingoTeam) {
+        String id = teamIds.remove(bingoTeam);
+        Set<String> entries = teamEntries.remove(bingoTeam);
+        if (id == null) return;
+
+        for (Scoreboard scoreboard : scoreboards) {
+            Team team = scoreboard.getTeam(id);
+            if (team != null) team.unregister();
+        }
+        showTeamColor(entries, null);
+    }
+
+    @Override
+    public void onTeamsCleared() {
+        for (Scoreboard scoreboard : scoreboards) {
+            for (String id : teamIds.values()) {
+                Team team = scoreboard.getTeam(id);
+                if (team != null) team.unregister();
+            }
+        }
+        Set<String> entries = new HashSet<>();
+        for (Set<String> teamPlayers : teamEntries.values()) {
+            entries.addAll(teamPlayers);
+        }
+        teamIds.clear();
+        teamEntries.clear();
+        showTeamColor(entries, null);
+    }
+}
@@ -1,9 +1,11 @@
 package com.bingaso.bingo.team;
 
 import java.io.Serializable;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
+import java.util.UUID;
 
 import com.bingaso.bingo.player.BingoPlayer;
 
@@ -17,14 +19,208 @@ import net.kyori.adventure.text.format.TextColor;
  * by automatically handling player-team relationships and preventing invalid states
  * such as players being assigned to multiple teams simultaneously.
  * 
+ * Every saved team gets a dense slot, and every assigned player a dense
+ * player slot. A single hash lookup resolves a player's UUID to their player
+ * slot; from there the team is read from arrays, without hashing the
+ * {@link BingoPlayer} or the {@link BingoTeam}.
+ * 
+ * The indexes of the repository can be read from any thread. All indexes
+ * live in one state object that is never modified once published: writes
+ * are serialized, copy the current state, change the copy and publish it,
+ * and reads work on the state they started with, without locking. Name,
+ * color and player indexes are therefore always consistent with each other.
+ * Teams are few and change rarely, so copying them on every write is cheap.
+ * 
+ * The teams themselves are not part of that state. Renames, color changes
+ * and player assignments change the name, color and members of the shared
+ * {@link BingoTeam} just before the new state is published, so reading
+ * those fields together with the indexes is only consistent on the main
+ * thread, where the teams are changed. Other threads get consistent answers
+ * from the indexes, but must not expect {@code findByName(name).getName()}
+ * to be {@code name}, or the members of a team to match
+ * {@link #findTeamByPlayerId(UUID)} exactly.
+ * 
  * @since 1.0
  */
 public class BingoTeamRepositoryInMemory
     implements Serializable, BingoTeamRepository {
-    
-    private final HashMap<String, BingoTeam> nameTeams = new HashMap<>();
-    private final HashMap<TextColor, BingoTeam> colorTeams = new HashMap<>();
-    private final HashMap<BingoPlayer, BingoTeam> playersTeams = new HashMap<>();
+
+    /**
+     * Every index of the repository. A published state is only read; writers
+     * change a copy.
+     */
+    private static final class State implements Serializable {
+        /** Teams by name */
+        private final HashMap<String, BingoTeam> nameTeams;
+        private final HashMap<TextColor, BingoTeam> colorTeams;
+        /** Immutable list of the teams, in ring order */
+        private List<BingoTeam> teams;
+        private final long version;
+        /** Teams by slot, null for free slots */
+        private BingoTeam[] slotTeams;
+        private final BitSet usedTeamSlots;
+        /**
+         * Ring of the teams in the order they were saved: slots of the next
+         * and previous team of every team slot, and slot of the first team
+         * or -1.
+         */
+        private int[] nextTeamSlots;
+        private int[] previousTeamSlots;
+        private int firstTeamSlot;
+        /** Player slot of every assigned player */
+        private final HashMap<UUID, Integer> playerSlots;
+        /** Team slot of every player slot, -1 for free slots */
+        private int[] playerTeamSlots;
+        private final BitSet usedPlayerSlots;
+
+        /** Creates an empty state with the given version */
+        private State(long version) {
+            this.nameTeams = new HashMap<>();
+            this.colorTeams = new HashMap<>();
+            this.teams = List.of();
+            this.version = version;
+            this.slotTeams = new BingoTeam[8];
+            this.usedTeamSlots = new BitSet();
+            this.nextTeamSlots = new int[8];
+            this.previousTeamSlots = new int[8];
+            this.firstTeamSlot = -1;
+            this.playerSlots = new HashMap<>();
+            this.playerTeamSlots = new int[16];
+            this.usedPlayerSlots = new BitSet();
+        }
+
+        /** Copies a state, as the next version */
+        private State(State other) {
+            this.nameTeams = new HashMap<>(other.nameTeams);
+            this.colorTeams = new HashMap<>(other.colorTeams);
+            this.teams = other.teams;
+            this.version = other.version + 1;
+            this.slotTeams = other.slotTeams.clone();
+            this.usedTeamSlots = (BitSet) other.usedTeamSlots.clone();
+            this.nextTeamSlots = other.nextTeamSlots.clone();
+            this.previousTeamSlots = other.previousTeamSlots.clone();
+            this.firstTeamSlot = other.firstTeamSlot;
+            this.playerSlots = new HashMap<>(other.playerSlots);
+            this.playerTeamSlots = other.playerTeamSlots.clone();
+            this.usedPlayerSlots = (BitSet) other.usedPlayerSlots.clone();
+        }
+
+        private BingoTeam findBySlot(int slot) {
+            if (slot < 0 || slot >= slotTeams.length) return null;
+            return slotTeams[slot];
+        }
+
+        private BingoTeam findTeamByPlayerId(UUID uuid) {
+            Integer playerSlot = playerSlots.get(uuid);
+            if (playerSlot == null) return null;
+            return slotTeams[playerTeamSlots[playerSlot]];
+        }
+
+        private int addTeam(BingoTeam bingoTeam) {
+            nameTeams.put(bingoTeam.getName(), bingoTeam);
+            colorTeams.put(bingoTeam.getColor(), bingoTeam);
+
+            int slot = usedTeamSlots.nextClearBit(0);
+            if (slot >= slotTeams.length) {
+                slotTeams = Arrays.copyOf(slotTeams, slotTeams.length * 2);
+                nextTeamSlots = Arrays.copyOf(nextTeamSlots, slotTeams.length);
+                previousTeamSlots = Arrays.copyOf(previousTeamSlots, slotTeams.length);
+            }
+            usedTeamSlots.set(slot);
+            slotTeams[slot] = bingoTeam;
+            linkLast(slot);
+            listTeams();
+            return slot;
+        }
+
+        /**
+         * Lists the teams in ring order, so paged views and the arrows
+         * walking the ring agree, even after a rename.
+         */
+        private void listTeams() {
+            if (firstTeamSlot < 0) {
+                teams = List.of();
+                return;
+            }
+            BingoTeam[] ordered = new BingoTeam[usedTeamSlots.cardinality()];
+            int slot = firstTeamSlot;
+            for (int i = 0; i < ordered.length; i++) {
+                ordered[i] = slotTeams[slot];
+                slot = nextTeamSlots[slot];
+            }
+            teams = List.of(ordered);
+        }
+
+        /** Adds a team slot at the end of the ring, before the first team */
+        private void linkLast(int slot) {
+            if (firstTeamSlot < 0) {
+                firstTeamSlot = slot;
+                nextTeamSlots[slot] = slot;
+                previousTeamSlots[slot] = slot;
+                return;
+            }
+            int lastSlot = previousTeamSlots[firstTeamSlot];
+            nextTeamSlots[lastSlot] = slot;
+            previousTeamSlots[slot] = lastSlot;
+            nextTeamSlots[slot] = firstTeamSlot;
+            previousTeamSlots[firstTeamSlot] = slot;
+        }
+
+        /** Removes a team slot from the ring */
+        private void unlink(int slot) {
+            int nextSlot = nextTeamSlots[slot];
+            if (nextSlot == slot) {
+                firstTeamSlot = -1;
+                return;
+            }
+            int previousSlot = previousTeamSlots[slot];
+            nextTeamSlots[previousSlot] = nextSlot;
+            previousTeamSlots[nextSlot] = previousSlot;
+            if (firstTeamSlot == slot) firstTeamSlot = nextSlot;
+        }
+
+        private void removeTeam(BingoTeam bingoTeam) {
+            nameTeams.remove(bingoTeam.getName());
+            colorTeams.remove(bingoTeam.getColor());
+            for (BingoPlayer bingoPlayer : bingoTeam.getPlayers()) {
+                freePlayerSlot(bingoPlayer.getUniqueId());
+            }
+            int slot = bingoTeam.getSlot();
+            if (findBySlot(slot) == bingoTeam) {
+                unlink(slot);
+                slotTeams[slot] = null;
+                usedTeamSlots.clear(slot);
+            }
+            listTeams();
+        }
+
+        private void assignPlayer(UUID uuid, int teamSlot) {
+            Integer playerSlot = playerSlots.get(uuid);
+            if (playerSlot == null) {
+                playerSlot = usedPlayerSlots.nextClearBit(0);
+                if (playerSlot >= playerTeamSlots.length) {
+                    playerTeamSlots = Arrays.copyOf(
+                        playerTeamSlots,
+                        playerTeamSlots.length * 2
+                    );
+                }
+                usedPlayerSlots.set(playerSlot);
+                playerSlots.put(uuid, playerSlot);
+            }
+            playerTeamSlots[playerSlot] = teamSlot;
+        }
+
+        private void freePlayerSlot(UUID uuid) {
+            Integer playerSlot = playerSlots.remove(uuid);
+            if (playerSlot != null) {
+                playerTeamSlots[playerSlot] = -1;
+                usedPlayerSlots.clear(playerSlot);
+            }
+        }
+    }
+
+    /** Current state, replaced as a whole by every write */
+    private volatile State state = new State(0);
 
     /**
      * Constructs a new BingoTeamRepository with empty storage.
@@ -37,14 +233,14 @@ public class BingoTeamRepositoryInMemory
      * Saves a new bingo team to the repository.
      * 
      * @param bingoTeam The {@link BingoTeam} to save.
-     * @throws TeamNameAlreadyExistsException If a team with this name already  
+     * @throws TeamNameAlreadyExistsException If a team with this name already
      * exists.
      * @throws ColorAlreadyExistsException If a team with this color already
      * exists.
      * @since 1.0
      */
     @Override
-    public void save(BingoTeam bingoTeam)
+    public synchronized void save(BingoTeam bingoTeam)
         throws TeamNameAlreadyExistsException, ColorAlreadyExistsException {
         if(existsByName(bingoTeam.getName())) {
             throw new TeamNameAlreadyExistsException(bingoTeam.getName());
@@ -52,8 +248,9 @@ public class BingoTeamRepositoryInMemory
         if(existsByColor(bingoTeam.getColor())) {
             throw new ColorAlreadyExistsException(bingoTeam.getColor());
         }
-        nameTeams.put(bingoTeam.getName(), bingoTeam);
-        colorTeams.put(bingoTeam.getColor(), bingoTeam);
+        State next = new State(state);
+        bingoTeam.setSlot(next.addTeam(bingoTeam));
+        state = next;
     }
 
     /**
@@ -65,26 +262,42 @@ public class BingoTeamRepositoryInMemory
      * @since 1.0
      */
     @Override
-    public boolean remove(BingoTeam bingoTeam) {
-        boolean removed_name = nameTeams.remove(bingoTeam.getName()) != null;
-        boolean removed_color = colorTeams.remove(bingoTeam.getColor()) != null;
-        if (removed_name || removed_color) {
-            playersTeams.entrySet().removeIf(
-                entry -> entry.getValue().equals(bingoTeam)
-            );
+    public synchronized boolean remove(BingoTeam bingoTeam) {
+        State current = state;
+        boolean exists =
+            current.nameTeams.containsKey(bingoTeam.getName()) ||
+            current.colorTeams.containsKey(bingoTeam.getColor());
+        if (exists) {
+            State next = new State(current);
+            next.removeTeam(bingoTeam);
+            state = next;
         }
-        return removed_name || removed_color;
+        return exists;
     }
 
     /**
      * Find all {@link BingoTeam}s in the repository.
      * 
-     * @return An immutable list of all {@link BingoTeam}s.
+     * @return An immutable list of all {@link BingoTeam}s in the order they
+     * were saved, the order of {@link #getNextTeam(BingoTeam)}. The same
+     * instance until the repository changes.
      * @since 1.0
      */
     @Override
     public List<BingoTeam> findAll() {
-        return List.copyOf(nameTeams.values());
+        return state.teams;
+    }
+
+    /**
+     * Gets the version of the repository, increased on every change of its
+     * teams.
+     * 
+     * @return The current version.
+     * @since 1.0
+     */
+    @Override
+    public long getVersion() {
+        return state.version;
     }
 
     /**
@@ -96,7 +309,7 @@ public class BingoTeamRepositoryInMemory
      */
     @Override
     public BingoTeam findByName(String name) {
-        return nameTeams.get(name);
+        return state.nameTeams.get(name);
     }
 
     /**
@@ -108,7 +321,7 @@ public class BingoTeamRepositoryInMemory
      */
     @Override
     public boolean existsByName(String name) {
-        return nameTeams.containsKey(name);
+        return state.nameTeams.containsKey(name);
     }
 
     /**
@@ -133,14 +346,17 @@ public class BingoTeamRepositoryInMemory
      * @since 1.0
      */
     @Override
-    public void changeTeamName(BingoTeam bingoTeam, String newName)
+    public synchronized void changeTeamName(BingoTeam bingoTeam, String newName)
         throws TeamNameAlreadyExistsException {
         if (!isTeamNameAvailable(newName)) {
             throw new TeamNameAlreadyExistsException(newName);
         }
-        nameTeams.remove(bingoTeam.getName());
+        State next = new State(state);
+        next.nameTeams.remove(bingoTeam.getName());
         bingoTeam.setName(newName);
-        nameTeams.put(newName, bingoTeam);
+        // The ring, and the list of teams, keep the team where it was
+        next.nameTeams.put(newName, bingoTeam);
+        state = next;
     }
 
     /**
@@ -151,7 +367,7 @@ public class BingoTeamRepositoryInMemory
      * @since 1.0
      */
     public BingoTeam findByColor(TextColor color) {
-        return colorTeams.get(color);
+        return state.colorTeams.get(color);
     }
 
     /**
@@ -162,7 +378,7 @@ public class BingoTeamRepositoryInMemory
      * @since 1.0
      */
     public boolean existsByColor(TextColor color) {
-        return colorTeams.containsKey(color);
+        return state.colorTeams.containsKey(color);
     }
 
     /**
@@ -185,14 +401,16 @@ public class BingoTeamRepositoryInMemory
      * exists.
      * @since 1.0
      */
-    public void changeTeamColor(BingoTeam bingoTeam, TextColor newColor)
+    public synchronized void changeTeamColor(BingoTeam bingoTeam, TextColor newColor)
         throws ColorAlreadyExistsException {
         if (!isTeamColorAvailable(newColor)) {
             throw new ColorAlreadyExistsException(newColor);
         }
-        colorTeams.remove(bingoTeam.getColor());
+        State next = new State(state);
+        next.colorTeams.remove(bingoTeam.getColor());
         bingoTeam.setColor(newColor);
-        colorTeams.put(newColor, bingoTeam);
+        next.colorTeams.put(newColor, bingoTeam);
+        state = next;
     }
 
     /**
@@ -206,16 +424,20 @@ public class BingoTeamRepositoryInMemory
      * @since 1.0
      */
     @Override
-    public void assignPlayerToTeam(
+    public synchronized void assignPlayerToTeam(
         BingoPlayer bingoPlayer,
         BingoTeam bingoTeam
     ) {
-        BingoTeam oldBingoTeam = playersTeams.get(bingoPlayer);
+        UUID uuid = bingoPlayer.getUniqueId();
+        BingoTeam oldBingoTeam = findTeamByPlayerId(uuid);
         if(oldBingoTeam != null) {
             oldBingoTeam.removePlayer(bingoPlayer);
         }
         bingoTeam.addPlayer(bingoPlayer);
-        playersTeams.put(bingoPlayer, bingoTeam);
+
+        State next = new State(state);
+        next.assignPlayer(uuid, bingoTeam.getSlot());
+        state = next;
     }
 
     /**
@@ -228,11 +450,13 @@ public class BingoTeamRepositoryInMemory
      * @since 1.0
      */
     @Override
-    public BingoTeam removePlayerFromTeam(BingoPlayer bingoPlayer) {
-        BingoTeam oldBingoTeam = playersTeams.get(bingoPlayer);
+    public synchronized BingoTeam removePlayerFromTeam(BingoPlayer bingoPlayer) {
+        BingoTeam oldBingoTeam = findTeamByPlayerId(bingoPlayer.getUniqueId());
         if(oldBingoTeam != null) {
             oldBingoTeam.removePlayer(bingoPlayer);
-            playersTeams.remove(bingoPlayer);
+            State next = new State(state);
+            next.freePlayerSlot(bingoPlayer.getUniqueId());
+            state = next;
         }
         return oldBingoTeam;
     }
@@ -248,7 +472,46 @@ public class BingoTeamRepositoryInMemory
      */
     @Override
     public BingoTeam findTeamByPlayer(BingoPlayer bingoPlayer) {
-        return playersTeams.get(bingoPlayer);
+        return findTeamByPlayerId(bingoPlayer.getUniqueId());
+    }
+
+    /**
+     * Finds the {@link BingoTeam} that the player with the given UUID is
+     * currently assigned to, without looking the {@link BingoPlayer} up.
+     * 
+     * @param uuid The {@link UUID} of the player to look up
+     * @return The {@link BingoTeam} the player is on, or null if they're not
+     * on any team.
+     * @since 1.0
+     */
+    @Override
+    public BingoTeam findTeamByPlayerId(UUID uuid) {
+        return state.findTeamByPlayerId(uuid);
+    }
+
+    /**
+     * Finds a {@link BingoTeam} by its slot.
+     * 
+     * @param slot The slot of the {@link BingoTeam}.
+     * @return The {@link BingoTeam} in the given slot, or null if the slot is
+     * free.
+     * @since 1.0
+     */
+    @Override
+    public BingoTeam findBySlot(int slot) {
+        return state.findBySlot(slot);
+    }
+
+    /**
+     * Gets the size of arrays indexed by team slot: every team slot is lower
+     * than this value.
+     * 
+     * @return The number of team slots.
+     * @since 1.0
+     */
+    @Override
+    public int getTeamSlotCount() {
+        return state.usedTeamSlots.length();
     }
 
     /**
@@ -260,7 +523,7 @@ public class BingoTeamRepositoryInMemory
      */
     @Override
     public boolean isPlayerAssigned(BingoPlayer bingoPlayer) {
-        return playersTeams.containsKey(bingoPlayer);
+        return state.playerSlots.containsKey(bingoPlayer.getUniqueId());
     }
 
     /**
@@ -271,7 +534,7 @@ public class BingoTeamRepositoryInMemory
      */
     @Override
     public int getTeamCount() {
-        return nameTeams.size();
+        return state.nameTeams.size();
     }
 
     /**
@@ -282,7 +545,7 @@ public class BingoTeamRepositoryInMemory
      */
     @Override
     public int getAssignedPlayerCount() {
-        return playersTeams.size();
+        return state.playerSlots.size();
     }
 
     /**
@@ -292,10 +555,9 @@ public class BingoTeamRepositoryInMemory
      * @since 1.0
      */
     @Override
-    public void clear() {
-        playersTeams.clear();
-        colorTeams.clear();
-        nameTeams.clear();
+    public synchronized void clear() {
+        // Keep versions increasing, so cached values are never taken as current
+        state = new State(state.version + 1);
     }
 
     /**
@@ -306,28 +568,40 @@ public class BingoTeamRepositoryInMemory
      */
     @Override
     public boolean isEmpty() {
-        return nameTeams.isEmpty();
+        return state.nameTeams.isEmpty();
     }
 
+    /**
+     * Gets the team saved before a team, wrapping around to the last team.
+     * The order does not change when teams are renamed.
+     * 
+     * @param bingoTeam The current {@link BingoTeam}.
+     * @return The previous {@link BingoTeam}, or null if the team is not in
+     * the repository.
+     * @since 1.0
+     */
+    @Override
     public BingoTeam getPreviousTeam(BingoTeam bingoTeam) {
-        List<BingoTeam> teams = new ArrayList<>(nameTeams.values());
-        int index = teams.indexOf(bingoTeam);
-        if(index == -1) return null;
-        if (index > 0) {
-            return teams.get(index - 1);
-        } else {
-            return teams.get(teams.size() - 1);
-        }
+        State current = state;
+        int slot = bingoTeam.getSlot();
+        if (current.findBySlot(slot) != bingoTeam) return null;
+        return current.slotTeams[current.previousTeamSlots[slot]];
     }
 
+    /**
+     * Gets the team saved after a team, wrapping around to the first team.
+     * The order does not change when teams are renamed.
+     * 
+     * @param bingoTeam The current {@link BingoTeam}.
+     * @return The next {@link BingoTeam}, or null if the team is not in the
+     * repository.
+     * @since 1.0
+     */
+    @Override
     public BingoTeam getNextTeam(BingoTeam bingoTeam) {
-        List<BingoTeam> teams = new ArrayList<>(nameTeams.values());
-        int index = teams.indexOf(bingoTeam);
-        if(index == -1) return null;
-        if (index < teams.size() - 1) {
-            return teams.get(index + 1);
-        } else {
-            return teams.get(0);
-        }
+        State current = state;
+        int slot = bingoTeam.getSlot();
+        if (current.findBySlot(slot) != bingoTeam) return null;
+        return current.slotTeams[current.nextTeamSlots[slot]];
     }
 }
@@ -1,6 +1,7 @@
 package com.bingaso.bingo.team;
 
 import java.util.List;
+import java.util.UUID;
 
 import com.bingaso.bingo.player.BingoPlayer;
 
@@ -11,11 +12,22 @@ public interface BingoTeamRepositoryReadOnly {
     /**
      * Find all {@link BingoTeam}s in the repository.
      * 
-     * @return An immutable list of all {@link BingoTeam}s.
+     * @return An immutable list of all {@link BingoTeam}s, the same instance
+     * until the repository changes.
      * @since 1.0
      */
     public List<BingoTeam> findAll();
 
+    /**
+     * Gets the version of the repository, increased on every change of its teams.
+     * Callers can keep values derived from {@link #findAll()} until the
+     * version changes.
+     * 
+     * @return The current version.
+     * @since 1.0
+     */
+    public long getVersion();
+
     /**
      * Finds a {@link BingoTeam} by its name.
      * 
@@ -81,6 +93,37 @@ public interface BingoTeamRepositoryReadOnly {
      */
     public BingoTeam findTeamByPlayer(BingoPlayer bingoPlayer);
 
+    /**
+     * Finds the {@link BingoTeam} that the player with the given UUID is
+     * currently assigned to, without looking the {@link BingoPlayer} up.
+     * 
+     * @param uuid The {@link UUID} of the player to look up
+     * @return The {@link BingoTeam} the player is on, or null if they're not
+     * on any team.
+     * @since 1.0
+     */
+    public BingoTeam findTeamByPlayerId(UUID uuid);
+
+    /**
+     * Finds a {@link BingoTeam} by its slot.
+     * 
+     * @param slot The slot of the {@link BingoTeam}.
+     * @return The {@link BingoTeam} in the given slot, or null if the slot is
+     * free.
+     * @see BingoTeam#getSlot()
+     * @since 1.0
+     */
+    public BingoTeam findBySlot(int slot);
+
+    /**
+     * Gets the size of arrays indexed by team slot: every team slot is lower
+     * than this value.
+     * 
+     * @return The number of team slots.
+     * @since 1.0
+     */
+    public int getTeamSlotCount();
+
     /**
      * Checks if a {@link BingoPlayer} is currently assigned to any team.
      * 
@@ -114,7 +157,23 @@ public interface BingoTeamRepositoryReadOnly {
      */
     public boolean isEmpty();
 
+    /**
+     * Gets the team saved before a team, wrapping around to the last team.
+     * 
+     * @param bingoTeam The current {@link BingoTeam}.
+     * @return The previous {@link BingoTeam}, or null if the team is not in
+     * the repository.
+     * @since 1.0
+     */
     public BingoTeam getPreviousTeam(BingoTeam bingoTeam);
 
+    /**
+     * Gets the team saved after a team, wrapping around to the first team.
+     * 
+     * @param bingoTeam The current {@link BingoTeam}.
+     * @return The next {@link BingoTeam}, or null if the team is not in the
+     * repository.
+     * @since 1.0
+     */
     public BingoTeam getNextTeam(BingoTeam bingoTeam);
 }
@@ -0,0 +1,61 @@
+package com.bingaso.bingo.team;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import com.bingaso.bingo.utils.BingoMainThreadExecutor;
+
+import io.papermc.paper.event.player.AsyncChatEvent;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+
+/**
+ * Redirects the chat of players in team chat mode to their team.
+ * 
+ * @since 1.0
+ */
+public class TeamChatListener implements Listener {
+
+    /**
+     * Cancels chat messages of players in team chat mode and sends them to
+     * their team on the main thread, where teams can be read safely.
+     *
+     * @param event The async chat event
+     */
+    @EventHandler(priority = EventPriority.LOWEST, ignoreCancelled = true)
+    public void onAsyncChat(AsyncChatEvent event) {
+        Player player = event.getPlayer();
+        TeamChatService teamChat = TeamChatService.getInstance();
+        if (!teamChat.isTeamChatEnabled(player.getUniqueId())) return;
+
+        event.setCancelled(true);
+        Component message = event.message();
+        BingoMainThreadExecutor.getInstance().execute(() -> {
+            if (!player.isOnline()) return;
+            if (!teamChat.sendTeamMessage(player, message)) {
+                teamChat.disableTeamChat(player.getUniqueId());
+                player.sendMessage(
+                    Component.text(
+                        "You are not in a team, team chat disabled.",
+                        NamedTextColor.RED
+                    )
+                );
+            }
+        });
+    }
+
+    /**
+     * Leaves team chat mode when the player quits.
+     *
+     * @param event The PlayerQuitEvent
+     */
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        TeamChatService.getInstance().disableTeamChat(
+            event.getPlayer().getUniqueId()
+        );
+    }
+}
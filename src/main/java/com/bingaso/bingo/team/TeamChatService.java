@@ -0,0 +1,113 @@
+package com.bingaso.bingo.team;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import com.bingaso.bingo.BingoPlugin;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+
+/**
+ * Team chat of the Bingo game.
+ * 
+ * Players can send single messages to their team, or toggle the team chat
+ * mode so everything they write in chat only reaches their team. Messages
+ * are sent through the {@link BingoTeam#audience()} of the team, so no
+ * player is looked up per message.
+ * 
+ * @since 1.0
+ */
+public class TeamChatService {
+
+    /** Singleton instance */
+    public static final TeamChatService INSTANCE = new TeamChatService();
+
+    private static final Component TEAM_TAG = Component.text(
+        "[Team] ",
+        NamedTextColor.DARK_GRAY
+    );
+
+    /** Players whose chat goes to their team, read from the async chat thread */
+    private final Set<UUID> teamChatPlayers = ConcurrentHashMap.newKeySet();
+
+    private TeamChatService() {}
+
+    /**
+     * Gets the singleton instance of TeamChatService.
+     * 
+     * @return The singleton TeamChatService instance
+     * @since 1.0
+     */
+    public static TeamChatService getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Toggles the team chat mode of a player.
+     * 
+     * @param player The {@link Player} toggling the mode
+     * @return true if the chat of the player now goes to their team
+     * @since 1.0
+     */
+    public boolean toggleTeamChat(@NotNull Player player) {
+        UUID uuid = player.getUniqueId();
+        if (teamChatPlayers.remove(uuid)) {
+            return false;
+        }
+        teamChatPlayers.add(uuid);
+        return true;
+    }
+
+    /**
+     * Checks if the chat of a player goes to their team. Safe to call from
+     * the async chat thread.
+     * 
+     * @param uuid The {@link UUID} of the player
+     * @return true if the player is in team chat mode
+     * @since 1.0
+     */
+    public boolean isTeamChatEnabled(@NotNull UUID uuid) {
+        return teamChatPlayers.contains(uuid);
+    }
+
+    /**
+     * Leaves team chat mode, for example when the player quits.
+     * 
+     * @param uuid The {@link UUID} of the player
+     * @since 1.0
+     */
+    public void disableTeamChat(@NotNull UUID uuid) {
+        teamChatPlayers.remove(uuid);
+    }
+
+    /**
+     * Sends a message from a player to the online members of their team.
+     * Must be called on the main thread.
+     * 
+     * @param sender The {@link Player} writing the message
+     * @param message The message
+     * @return false if the player is not in a team
+     * @since 1.0
+     */
+    public boolean sendTeamMessage(@NotNull Player sender, @NotNull Component message) {
+        BingoTeam team = BingoPlugin.getInstance()
+            .getBingoMatch()
+            .getBingoTeamFromPlayer(sender);
+        if (team == null) {
+            return false;
+        }
+
+        team.audience().sendMessage(
+            TEAM_TAG
+                .append(Component.text(sender.getName(), team.getColor()))
+                .append(Component.text(": ", NamedTextColor.GRAY))
+                .append(message)
+        );
+        return true;
+    }
+}
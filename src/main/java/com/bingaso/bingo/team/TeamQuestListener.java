@@ -0,0 +1,46 @@
+package com.bingaso.bingo.team;
+
+import java.time.Instant;
+
+import com.bingaso.bingo.quest.BingoQuest;
+
+/**
+ * Receives changes made to the quests completed by teams.
+ * All methods are called after the change is applied, and do nothing by
+ * default so implementations only override what they need.
+ *
+ * @since 1.0
+ */
+public interface TeamQuestListener {
+
+    /**
+     * Called after a team completes a quest.
+     *
+     * @param team The {@link BingoTeam} that completed the quest.
+     * @param quest The completed {@link BingoQuest}.
+     * @param completionTime The {@link Instant} the quest was completed.
+     * @since 1.0
+     */
+    default void onQuestCompleted(
+        BingoTeam team,
+        BingoQuest quest,
+        Instant completionTime
+    ) {}
+
+    /**
+     * Called after a quest completion is taken away from a team.
+     *
+     * @param team The {@link BingoTeam} that lost the quest.
+     * @param quest The {@link BingoQuest} no longer completed.
+     * @since 1.0
+     */
+    default void onQuestCompletionRemoved(BingoTeam team, BingoQuest quest) {}
+
+    /**
+     * Called after every quest completion of a team is cleared.
+     *
+     * @param team The {@link BingoTeam} whose quests were cleared.
+     * @since 1.0
+     */
+    default void onQuestsCleared(BingoTeam team) {}
+}
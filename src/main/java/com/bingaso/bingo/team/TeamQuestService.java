@@ -1,6 +1,7 @@
 package com.bingaso.bingo.team;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -50,6 +51,12 @@ public class TeamQuestService {
     }
 
     private final BingoTeamRepository teamRepository;
+    /** Listeners notified of every quest completion change */
+    private final List<TeamQuestListener> listeners = new ArrayList<>();
+    /** Ranking of the teams, updated on every quest completion change */
+    private final BingoTeamLeaderboard leaderboard = new BingoTeamLeaderboard();
+    /** Teams owning every quest, updated on every quest completion change */
+    private final BingoQuestClaims claims;
 
     /**
      * Constructs a new TeamQuestService with the specified team repository.
@@ -59,6 +66,55 @@ public class TeamQuestService {
      */
     public TeamQuestService(BingoTeamRepository teamRepository) {
         this.teamRepository = teamRepository;
+        this.claims = new BingoQuestClaims(teamRepository);
+        // First listeners, so the ranking and the claims are current for
+        // every other one
+        listeners.add(leaderboard);
+        listeners.add(claims);
+    }
+
+    /**
+     * Gets the ranking of the teams, kept current by this service.
+     * Teams must also be added and removed through it as a
+     * {@link BingoTeamListener}.
+     * 
+     * @return The {@link BingoTeamLeaderboard} of the match
+     * @since 1.0
+     */
+    public BingoTeamLeaderboard getLeaderboard() {
+        return leaderboard;
+    }
+
+    /**
+     * Gets the teams owning every quest, kept current by this service.
+     * Teams must also be added and removed through it as a
+     * {@link BingoTeamListener}.
+     * 
+     * @return The {@link BingoQuestClaims} of the match
+     * @since 1.0
+     */
+    public BingoQuestClaims getClaims() {
+        return claims;
+    }
+
+    /**
+     * Registers a listener notified of every quest completion change.
+     * 
+     * @param listener The {@link TeamQuestListener} to add
+     * @since 1.0
+     */
+    public void addListener(TeamQuestListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregisters a listener.
+     * 
+     * @param listener The {@link TeamQuestListener} to remove
+     * @since 1.0
+     */
+    public void removeListener(TeamQuestListener listener) {
+        listeners.remove(listener);
     }
 
     /**
@@ -95,6 +151,7 @@ public class TeamQuestService {
         }
 
         team.addCompletedQuest(quest, completionTime);
+        listeners.forEach(l -> l.onQuestCompleted(team, quest, completionTime));
     }
 
     /**
@@ -115,6 +172,7 @@ public class TeamQuestService {
         }
 
         team.removeCompletedQuest(quest);
+        listeners.forEach(l -> l.onQuestCompletionRemoved(team, quest));
         return true;
     }
 
@@ -127,6 +185,7 @@ public class TeamQuestService {
     public void clearAllQuests(BingoTeam team) {
         if (team != null) {
             team.clearCompletedQuests();
+            listeners.forEach(l -> l.onQuestsCleared(team));
         }
     }
 
@@ -199,10 +258,7 @@ public class TeamQuestService {
         if (quest == null) {
             return false;
         }
-
-        List<BingoTeam> teams = teamRepository.findAll();
-        return teams.stream()
-            .anyMatch(team -> team.hasCompletedQuest(quest));
+        return claims.isClaimed(quest);
     }
 
     /**
@@ -216,11 +272,7 @@ public class TeamQuestService {
         if (quest == null) {
             return List.of();
         }
-
-        List<BingoTeam> teams = teamRepository.findAll();
-        return teams.stream()
-            .filter(team -> team.hasCompletedQuest(quest))
-            .toList();
+        return claims.getOwners(quest);
     }
 
     /**
@@ -230,29 +282,19 @@ public class TeamQuestService {
      * @since 1.0
      */
     public BingoTeam getTeamWithMostQuests() {
-        List<BingoTeam> teams = teamRepository.findAll();
-        return teams.stream()
-            .max((team1, team2) -> Integer.compare(
-                team1.getCompletedQuests().size(),
-                team2.getCompletedQuests().size()
-            ))
-            .orElse(null);
+        List<BingoTeam> topTeams = leaderboard.getTopTeams(1);
+        return topTeams.isEmpty() ? null : topTeams.get(0);
     }
 
     /**
      * Gets all teams sorted by their quest completion count in descending order.
+     * Teams with the same count are ordered by the time they reached it.
      * 
      * @return A list of teams ordered by quest completion count
      * @since 1.0
      */
     public List<BingoTeam> getTeamsByQuestCount() {
-        List<BingoTeam> teams = teamRepository.findAll();
-        return teams.stream()
-            .sorted((team1, team2) -> Integer.compare(
-                team2.getCompletedQuests().size(), // Descending order
-                team1.getCompletedQuests().size()
-            ))
-            .toList();
+        return leaderboard.getRanking();
     }
 
     /**
@@ -1,13 +1,27 @@
 package com.bingaso.bingo.team.select;
 
-import org.bukkit.Bukkit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
 
 import com.bingaso.bingo.BingoPlugin;
 import com.bingaso.bingo.gui.BingoGui;
+import com.bingaso.bingo.gui.BingoGuiItem;
 import com.bingaso.bingo.gui.BingoGuiItemFactory;
+import com.bingaso.bingo.gui.BingoGuiSessionManager;
+import com.bingaso.bingo.gui.BingoTextCaptureGui;
 import com.bingaso.bingo.match.BingoMatch;
+import com.bingaso.bingo.match.managers.MatchLifecycleManager.State;
+import com.bingaso.bingo.match.managers.TeamManager.MaxPlayersException;
 import com.bingaso.bingo.team.BingoTeam;
+import com.bingaso.bingo.team.BingoTeamListener;
+import com.bingaso.bingo.team.BingoTeamRepository.TeamNameAlreadyExistsException;
+import com.bingaso.bingo.utils.BingoMainThreadExecutor;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -16,13 +30,42 @@ import net.kyori.adventure.text.format.TextDecoration;
 /**
  * GUI for displaying and managing teams in the Bingo game.
  * Provides interface for creating new teams and joining existing ones.
+ * <p>
+ * Teams are shown in pages, only the page a player is looking at is
+ * rendered. Join buttons are cached per team and rebuilt only when the
+ * players of that team change, and changes are pushed in place to the
+ * players viewing the affected pages.
+ * </p>
  */
-public class BingoTeamSelectGui extends BingoGui {
+public class BingoTeamSelectGui extends BingoGui implements BingoTeamListener {
+
+    /** Number of team slots of every page, the first two rows */
+    private static final int TEAMS_PER_PAGE = 18;
+    private static final int PREVIOUS_PAGE_SLOT = 18;
+    private static final int NEW_TEAM_SLOT = 22;
+    private static final int NEXT_PAGE_SLOT = 26;
 
     /** Singleton instance */
     public static final BingoTeamSelectGui INSTANCE = new BingoTeamSelectGui();
-    private BingoTeamSelectGui() {}
-    
+
+    /** Cached join buttons, removed when the players of the team change */
+    private final Map<BingoTeam, ItemStack> joinButtons = new HashMap<>();
+
+    private BingoTeamSelectGui() {
+        registerClickHandler("bingo_team_new_team_gui_item", this::onNewTeamClick);
+        registerClickHandler("bingo_team_join_team_gui_item", this::onJoinTeamClick);
+        registerClickHandler(
+            BingoGuiItemFactory.PREVIOUS_PAGE_ITEM_ID,
+            (event, player, clickedItem, context) ->
+                openPage(player, getPage(context) - 1)
+        );
+        registerClickHandler(
+            BingoGuiItemFactory.NEXT_PAGE_ITEM_ID,
+            (event, player, clickedItem, context) ->
+                openPage(player, getPage(context) + 1)
+        );
+    }
+
     /**
      * Gets the singleton instance of TeamsGui.
      * @return The singleton TeamsGui instance
@@ -33,32 +76,330 @@ public class BingoTeamSelectGui extends BingoGui {
 
     /** Context necessary to open this inventory */
     public static class BingoTeamSelectGuiContext extends GuiContext {
-        public BingoTeamSelectGuiContext() {}
+
+        /** Page shown, starting at 0 */
+        public int page;
+
+        public BingoTeamSelectGuiContext() {
+            this(0);
+        }
+
+        public BingoTeamSelectGuiContext(int page) {
+            this.page = page;
+        }
     }
 
     /**
-     * Creates and returns the teams GUI inventory.
-     * Contains items for all existing teams plus an option to create
-     * a new team.
-     * 
+     * Creates and returns the teams GUI inventory for the page of the
+     * context. Contains the join buttons of the teams of that page, the
+     * option to create a new team and the arrows to change page.
+     *
      * @return The configured teams GUI inventory
      */
     @Override
     public Inventory getInventory(GuiContext context) {
-        Inventory inventory = Bukkit.createInventory(
-            null,
+        List<BingoTeam> teams = getTeams();
+        int page = Math.min(getPage(context), getPageCount(teams) - 1);
+        if (context instanceof BingoTeamSelectGuiContext) {
+            // Pages may have disappeared since the context was created
+            ((BingoTeamSelectGuiContext) context).page = page;
+        }
+
+        Inventory inventory = createInventory(
+            context,
             27,
             Component.text("Team Selection", NamedTextColor.GOLD, TextDecoration.BOLD)
         );
+        renderPage(inventory, teams, page);
+        return inventory;
+    }
 
-        BingoMatch gameMatch = BingoPlugin.getInstance().getBingoMatch();
-        // Adds a new wool for each team
-        for(BingoTeam t: gameMatch.getBingoTeamRepository().findAll()) {
-            inventory.addItem(BingoGuiItemFactory.createJoinTeamGuiItem(t));
+    /**
+     * Fills an inventory with the given page.
+     *
+     * @param inventory The inventory to fill
+     * @param teams All teams, in display order
+     * @param page The page to show
+     */
+    private void renderPage(Inventory inventory, List<BingoTeam> teams, int page) {
+        inventory.clear();
+
+        int first = page * TEAMS_PER_PAGE;
+        int last = Math.min(first + TEAMS_PER_PAGE, teams.size());
+        for (int i = first; i < last; i++) {
+            inventory.setItem(i - first, getJoinButton(teams.get(i)));
         }
 
-        // Adds a wool to create a team
-        inventory.addItem(BingoGuiItemFactory.createNewTeamGuiItem());
-        return inventory;
+        if (page > 0) {
+            inventory.setItem(
+                PREVIOUS_PAGE_SLOT,
+                BingoGuiItemFactory.createPreviousPageGuiItem()
+            );
+        }
+        inventory.setItem(NEW_TEAM_SLOT, BingoGuiItemFactory.createNewTeamGuiItem());
+        if (page < getPageCount(teams) - 1) {
+            inventory.setItem(
+                NEXT_PAGE_SLOT,
+                BingoGuiItemFactory.createNextPageGuiItem()
+            );
+        }
+    }
+
+    private void openPage(Player player, int page) {
+        openForPlayer(player, new BingoTeamSelectGuiContext(Math.max(0, page)));
+    }
+
+    private ItemStack getJoinButton(BingoTeam team) {
+        return joinButtons.computeIfAbsent(
+            team,
+            BingoGuiItemFactory::createJoinTeamGuiItem
+        );
+    }
+
+    private List<BingoTeam> getTeams() {
+        return BingoPlugin.getInstance()
+            .getBingoMatch()
+            .getBingoTeamRepository()
+            .findAll();
+    }
+
+    private int getPage(GuiContext context) {
+        if (context instanceof BingoTeamSelectGuiContext) {
+            return ((BingoTeamSelectGuiContext) context).page;
+        }
+        return 0;
+    }
+
+    private int getPageCount(List<BingoTeam> teams) {
+        return Math.max(1, (teams.size() + TEAMS_PER_PAGE - 1) / TEAMS_PER_PAGE);
+    }
+
+    /**
+     * Only the button of the team changes, so it is replaced in place for the
+     * viewers of its page.
+     */
+    @Override
+    public void onTeamPlayersChanged(BingoTeam bingoTeam) {
+        joinButtons.remove(bingoTeam);
+
+        List<BingoTeam> teams = getTeams();
+        int index = teams.indexOf(bingoTeam);
+        if (index == -1) return;
+
+        int page = index / TEAMS_PER_PAGE;
+        for (Map.Entry<Player, GuiContext> viewer : getViewers().entrySet()) {
+            if (getPage(viewer.getValue()) != page) continue;
+
+            Inventory inventory = getOpenInventory(viewer.getKey());
+            if (inventory != null) {
+                inventory.setItem(index % TEAMS_PER_PAGE, getJoinButton(bingoTeam));
+            }
+        }
+    }
+
+    /**
+     * New teams are added last, so only the last page changes, plus the page
+     * before it when the new team starts a new page and it needs a next arrow.
+     */
+    @Override
+    public void onTeamCreated(BingoTeam bingoTeam) {
+        List<BingoTeam> teams = getTeams();
+        int index = teams.indexOf(bingoTeam);
+        if (index == -1) return;
+
+        int firstChangedPage = index / TEAMS_PER_PAGE;
+        if (index % TEAMS_PER_PAGE == 0) {
+            firstChangedPage--;
+        }
+        refreshPagesFrom(teams, firstChangedPage);
+    }
+
+    /**
+     * Teams after the removed one move back one slot. Its position is no longer
+     * known, so every page is refreshed, this only happens when a team empties.
+     */
+    @Override
+    public void onTeamRemoved(BingoTeam bingoTeam) {
+        joinButtons.remove(bingoTeam);
+        refreshPagesFrom(getTeams(), 0);
+    }
+
+    @Override
+    public void onTeamsCleared() {
+        joinButtons.clear();
+        refreshPagesFrom(getTeams(), 0);
+    }
+
+    /**
+     * Renders again, in place, the inventories of the players viewing the
+     * given page or a later one. Viewers of pages that no longer exist are
+     * moved to the last page.
+     *
+     * @param teams All teams, in display order
+     * @param firstPage The first page that changed
+     */
+    private void refreshPagesFrom(List<BingoTeam> teams, int firstPage) {
+        int lastPage = getPageCount(teams) - 1;
+        for (Map.Entry<Player, GuiContext> viewer : getViewers().entrySet()) {
+            int page = getPage(viewer.getValue());
+            if (page < firstPage) continue;
+
+            Player player = viewer.getKey();
+            if (page > lastPage) {
+                openPage(player, lastPage);
+                continue;
+            }
+            Inventory inventory = getOpenInventory(player);
+            if (inventory != null) {
+                renderPage(inventory, teams, page);
+            }
+        }
+    }
+
+    private Map<Player, GuiContext> getViewers() {
+        return BingoGuiSessionManager.getInstance().getViewers(this);
+    }
+
+    /**
+     * Checks that teams can still be changed, telling the player otherwise.
+     *
+     * @param player The player trying to change teams
+     * @return True if the match is on lobby state, false otherwise
+     */
+    private boolean checkLobbyState(Player player) {
+        BingoMatch bingoMatch = BingoPlugin.getInstance().getBingoMatch();
+        if (bingoMatch.getState() != State.LOBBY) {
+            player.sendMessage(
+                Component.text(
+                    "You cannot create or join teams right now.",
+                    NamedTextColor.RED
+                )
+            );
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Asks the player for a team name, then creates the team and adds the
+     * player to it.
+     */
+    private void onNewTeamClick(
+        InventoryClickEvent event,
+        Player player,
+        ItemStack clickedItem,
+        GuiContext context
+    ) {
+        if (!checkLobbyState(player)) return;
+
+        BingoMatch bingoMatch = BingoPlugin.getInstance().getBingoMatch();
+        BingoTextCaptureGui bingoTextCaptureGui =
+            new BingoTextCaptureGui(player);
+        bingoTextCaptureGui.open(player, "Team name");
+        try {
+            bingoTextCaptureGui
+                .getResultFuture()
+                .thenAcceptAsync(newTeamName -> {
+                    BingoTeam newTeam;
+                    try {
+                        newTeam = bingoMatch.createBingoTeam(
+                            newTeamName
+                        );
+                    } catch (TeamNameAlreadyExistsException e) {
+                        player.sendMessage(
+                            Component.text(
+                                e.getMessage(),
+                                NamedTextColor.RED
+                            )
+                        );
+                        return;
+                    }
+                    player.sendMessage(
+                        Component.text(
+                            "Succesfully created new team with name \"" +
+                                newTeam.getName() +
+                                "\".",
+                            NamedTextColor.GREEN
+                        )
+                    );
+                    try {
+                        bingoMatch.addPlayerToBingoTeam(
+                            player,
+                            newTeam
+                        );
+                        player.sendMessage(
+                            Component.text(
+                                "Added you to the new team.",
+                                NamedTextColor.GREEN
+                            )
+                        );
+                    } catch (MaxPlayersException e) {
+                        player.sendMessage(
+                            Component.text(
+                                "Couldn't add you to the new team.",
+                                NamedTextColor.RED
+                            )
+                        );
+                    }
+                    player.closeInventory();
+                }, BingoMainThreadExecutor.getInstance());
+        } catch (Exception e) {
+            player.sendMessage(
+                Component.text(
+                    "Couldn't capture team name",
+                    NamedTextColor.RED
+                )
+            );
+        }
+    }
+
+    /**
+     * Adds the player to the team of the clicked item.
+     */
+    private void onJoinTeamClick(
+        InventoryClickEvent event,
+        Player player,
+        ItemStack clickedItem,
+        GuiContext context
+    ) {
+        if (!checkLobbyState(player)) return;
+
+        BingoMatch bingoMatch = BingoPlugin.getInstance().getBingoMatch();
+        String teamName = BingoGuiItem.getCustomString(
+            clickedItem,
+            BingoGuiItem.TEAM
+        );
+        if (teamName == null) return;
+        BingoTeam team = bingoMatch
+            .getBingoTeamRepository()
+            .findByName(teamName);
+        if (team == null) {
+            player.sendMessage(
+                Component.text(
+                    "Team not found, couldn't join.",
+                    NamedTextColor.RED
+                )
+            );
+            return;
+        }
+
+        try {
+            bingoMatch.addPlayerToBingoTeam(player, team);
+            player.sendMessage(
+                Component.text(
+                    "You have joined the team \"" +
+                        team.getName() +
+                        "\".",
+                    NamedTextColor.GREEN
+                )
+            );
+        } catch (MaxPlayersException e) {
+            player.sendMessage(
+                Component.text(
+                    "Couldn't join the team, it is full.",
+                    NamedTextColor.RED
+                )
+            );
+        }
     }
 }
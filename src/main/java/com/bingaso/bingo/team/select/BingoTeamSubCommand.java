@@ -19,7 +19,7 @@ import java.util.Map;
 
 /**
  * Command executor for team-related commands.
- * Handles: /bingoteam create, /bingoteam join <teamId>, /bingoteam leave, /bingoteam list
+ * Handles: /bingoteam create, /bingoteam join <teamId>, /bingoteam leave, /bingoteam list, /bingoteam chat
  */
 public class BingoTeamSubCommand implements BingoSubCommand {
     
@@ -30,6 +30,7 @@ public class BingoTeamSubCommand implements BingoSubCommand {
     private final ListTeamsHandler listHandler;
     private final TeamInfoHandler infoHandler;
     private final SelectTeamHandler selectHandler;
+    private final TeamChatHandler chatHandler;
     
     public BingoTeamSubCommand() {
         this.createHandler = new CreateTeamHandler();
@@ -38,6 +39,7 @@ public class BingoTeamSubCommand implements BingoSubCommand {
         this.listHandler = new ListTeamsHandler();
         this.infoHandler = new TeamInfoHandler();
         this.selectHandler = new SelectTeamHandler();
+        this.chatHandler = new TeamChatHandler();
         
         this.handlers = new HashMap<>();
         handlers.put("create", createHandler);
@@ -46,6 +48,7 @@ public class BingoTeamSubCommand implements BingoSubCommand {
         handlers.put("list", listHandler);
         handlers.put("info", infoHandler);
         handlers.put("select", selectHandler);
+        handlers.put("chat", chatHandler);
     }
     
     @Override
@@ -82,12 +85,13 @@ public class BingoTeamSubCommand implements BingoSubCommand {
         listHandler.sendHelpMessage(player);
         infoHandler.sendHelpMessage(player);
         selectHandler.sendHelpMessage(player);
+        chatHandler.sendHelpMessage(player);
     }
     
     @Override
     public @Nullable List<String> getTabCompletions(@NotNull CommandSender sender, @NotNull String[] args) {
         if (args.length == 1) {
-            return Arrays.asList("create", "join", "leave", "list", "info", "select");
+            return Arrays.asList("create", "join", "leave", "list", "info", "select", "chat");
         }
         
         if (args.length >= 2) {
@@ -7,7 +7,6 @@ import com.bingaso.bingo.match.managers.MatchLifecycleManager.State;
 import com.bingaso.bingo.match.managers.TeamManager.MaxPlayersException;
 import com.bingaso.bingo.team.BingoTeam;
 import com.bingaso.bingo.team.BingoTeamRepository.TeamNameAlreadyExistsException;
-import com.bingaso.bingo.team.select.BingoTeamSelectGui;
 import java.util.ArrayList;
 import java.util.List;
 import net.kyori.adventure.text.Component;
@@ -146,7 +145,6 @@ public class CreateTeamHandler implements BingoSubCommand {
             );
         }
 
-        BingoTeamSelectGui.getInstance().updateInventories();
         return true;
     }
 
@@ -6,7 +6,6 @@ import com.bingaso.bingo.match.BingoMatch;
 import com.bingaso.bingo.match.managers.MatchLifecycleManager.State;
 import com.bingaso.bingo.match.managers.TeamManager.MaxPlayersException;
 import com.bingaso.bingo.team.BingoTeam;
-import com.bingaso.bingo.team.select.BingoTeamSelectGui;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -148,7 +147,6 @@ public class JoinTeamHandler implements BingoSubCommand {
             );
         }
 
-        BingoTeamSelectGui.getInstance().updateInventories();
         return true;
     }
 
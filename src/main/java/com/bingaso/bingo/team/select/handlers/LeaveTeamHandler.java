@@ -6,7 +6,6 @@ import com.bingaso.bingo.match.BingoMatch;
 import com.bingaso.bingo.match.managers.MatchLifecycleManager.State;
 import com.bingaso.bingo.player.BingoPlayer;
 import com.bingaso.bingo.team.BingoTeam;
-import com.bingaso.bingo.team.select.BingoTeamSelectGui;
 import java.util.ArrayList;
 import java.util.List;
 import net.kyori.adventure.text.Component;
@@ -127,7 +126,6 @@ public class LeaveTeamHandler implements BingoSubCommand {
             );
         }
 
-        BingoTeamSelectGui.getInstance().updateInventories();
         return true;
     }
 
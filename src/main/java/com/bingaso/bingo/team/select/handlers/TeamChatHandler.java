@@ -0,0 +1,54 @@
+package com.bingaso.bingo.team.select.handlers;
+
+import com.bingaso.bingo.command.BingoSubCommand;
+import com.bingaso.bingo.team.TeamChatService;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TeamChatHandler implements BingoSubCommand {
+
+    @Override
+    public boolean execute(@NotNull CommandSender sender, @NotNull String[] args) {
+        if (!(sender instanceof Player)) {
+            sender.sendMessage(Component.text("This command can only be used by players.", NamedTextColor.RED));
+            return true;
+        }
+
+        Player player = (Player) sender;
+        TeamChatService teamChat = TeamChatService.getInstance();
+
+        // With a message, send it to the team once
+        if (args.length > 0) {
+            Component message = Component.text(String.join(" ", args));
+            if (!teamChat.sendTeamMessage(player, message)) {
+                player.sendMessage(Component.text("You are not in a team.", NamedTextColor.RED));
+            }
+            return true;
+        }
+
+        if (teamChat.toggleTeamChat(player)) {
+            player.sendMessage(Component.text("Team chat enabled, your messages only reach your team.", NamedTextColor.GREEN));
+        } else {
+            player.sendMessage(Component.text("Team chat disabled.", NamedTextColor.GREEN));
+        }
+        return true;
+    }
+
+    public void sendHelpMessage(Player player) {
+        player.sendMessage(Component.text("/bingo team chat [message] - Message your team or toggle team chat", NamedTextColor.GREEN));
+    }
+
+    @Override
+    public @Nullable List<String> getTabCompletions(@NotNull CommandSender sender, @NotNull String[] args) {
+        return new ArrayList<>();
+    }
+}
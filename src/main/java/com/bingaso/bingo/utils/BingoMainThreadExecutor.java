@@ -0,0 +1,108 @@
+package com.bingaso.bingo.utils;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Executor running work on the server main thread, where the Bukkit API can
+ * be used safely.
+ * <p>
+ * Work submitted from any thread is queued, and the queue is drained by a
+ * single scheduler task on the next tick. However many callbacks complete
+ * during a tick, they cost at most one scheduler task, and nothing is
+ * scheduled while the queue is empty. Use it for every hand-off from async
+ * code, for example with
+ * {@link java.util.concurrent.CompletableFuture#thenAcceptAsync(java.util.function.Consumer, Executor)}.
+ * </p>
+ */
+public class BingoMainThreadExecutor implements Executor {
+
+    /** Singleton instance */
+    private static final BingoMainThreadExecutor INSTANCE =
+        new BingoMainThreadExecutor();
+
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    /** Whether a drain task is scheduled for the next tick */
+    private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private volatile Plugin plugin;
+
+    private BingoMainThreadExecutor() {}
+
+    /**
+     * Gets the singleton instance of BingoMainThreadExecutor.
+     * @return The singleton BingoMainThreadExecutor instance
+     */
+    public static BingoMainThreadExecutor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Starts accepting work.
+     *
+     * @param plugin The plugin that owns the drain tasks
+     */
+    public void start(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Stops accepting work and runs what is still queued. Must be called
+     * from the main thread.
+     */
+    public void stop() {
+        this.plugin = null;
+        drain();
+    }
+
+    /**
+     * Runs a task on the main thread during the next tick, after the tasks
+     * submitted before it.
+     *
+     * @param task The task to run
+     * @throws RejectedExecutionException If the executor is not started
+     */
+    @Override
+    public void execute(Runnable task) {
+        Plugin owner = plugin;
+        if (owner == null) {
+            throw new RejectedExecutionException("Executor is not started");
+        }
+        queue.add(task);
+        if (drainScheduled.compareAndSet(false, true)) {
+            Bukkit.getScheduler().runTask(owner, this::drain);
+        }
+    }
+
+    /**
+     * Runs the queued tasks. Tasks queued while draining are run by the next
+     * drain, so a task that resubmits itself does not hold the tick.
+     */
+    private void drain() {
+        drainScheduled.set(false);
+        int count = queue.size();
+        for (int i = 0; i < count; i++) {
+            Runnable task = queue.poll();
+            if (task == null) break;
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                Bukkit.getLogger().log(Level.SEVERE, "Main thread task failed", e);
+            }
+        }
+        Plugin owner = plugin;
+        if (
+            owner != null &&
+            !queue.isEmpty() &&
+            drainScheduled.compareAndSet(false, true)
+        ) {
+            Bukkit.getScheduler().runTask(owner, this::drain);
+        }
+    }
+}
@@ -6,7 +6,6 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import org.bukkit.Bukkit;
-import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 
@@ -83,22 +82,6 @@ public class Broadcaster {
         );
     }
 
-    /**
-     * Announces when a team finds an item on their Bingo card.
-     * The announcement includes the team name and the item found.
-     *
-     * @param team The team that found the item
-     * @param item The material type that was found
-     */
-    public void announceItemFound(BingoTeam team, Material item) {
-        Component message = Component.text(team.getName(), NamedTextColor.AQUA)
-            .append(Component.text(" team", NamedTextColor.GRAY))
-            .append(Component.text(" has found ", NamedTextColor.GRAY))
-            .append(Component.text(item.name(), NamedTextColor.GREEN));
-
-        announce(message);
-    }
-
     /**
      * Sends a prefixed message to a specific player.
      *
@@ -135,4 +118,16 @@ public class Broadcaster {
         );
         announce(message);
     }
+
+    /**
+     * Announces that an interrupted Bingo game continues.
+     * This is typically called when a match is restored from its checkpoint.
+     */
+    public void announceResume() {
+        Component message = Component.text(
+            "Bingo game has resumed!",
+            NamedTextColor.GOLD
+        );
+        announce(message);
+    }
 }
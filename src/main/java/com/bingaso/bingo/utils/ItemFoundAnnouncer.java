@@ -0,0 +1,154 @@
+package com.bingaso.bingo.utils;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.scheduler.BukkitTask;
+
+import com.bingaso.bingo.BingoPlugin;
+import com.bingaso.bingo.match.BingoMatchSettings;
+import com.bingaso.bingo.match.BingoMatchSettings.AnnouncementMode;
+import com.bingaso.bingo.team.BingoTeam;
+
+/**
+ * Announces the items found by teams in chat.
+ * <p>
+ * In {@link AnnouncementMode#INDIVIDUAL} mode every item is announced as
+ * soon as it is found. In {@link AnnouncementMode#COMBINED} mode the items
+ * found within a short window are collected and announced with a single
+ * message per team, so a burst of finds at the start of a match does not
+ * flood the chat. The components of teams, items and single announcements
+ * are built once and reused.
+ * </p>
+ */
+public class ItemFoundAnnouncer {
+
+    /** Ticks during which found items are collected in combined mode */
+    private static final long WINDOW_TICKS = 20L;
+    private static final Component HAS_FOUND = Component.text(
+        " team has found ",
+        NamedTextColor.GRAY
+    );
+    private static final JoinConfiguration ITEM_SEPARATOR =
+        JoinConfiguration.separator(Component.text(", ", NamedTextColor.GRAY));
+
+    private final BingoMatchSettings settings;
+    private final Broadcaster broadcaster;
+
+    /** Names of the items, by material */
+    private final Map<Material, Component> itemNames = new EnumMap<>(
+        Material.class
+    );
+    /** Start of every announcement of a team */
+    private final Map<BingoTeam, Component> teamParts = new HashMap<>();
+    /** Single item announcements of every team, by material */
+    private final Map<BingoTeam, Map<Material, Component>> messages =
+        new HashMap<>();
+    /** Items found since the last announcement, by team in finding order */
+    private final Map<BingoTeam, List<Material>> pending =
+        new LinkedHashMap<>();
+    private BukkitTask flushTask;
+
+    /**
+     * Creates an announcer following the announcement mode of the settings.
+     *
+     * @param settings The match settings
+     * @param broadcaster The broadcaster sending the messages
+     */
+    public ItemFoundAnnouncer(
+        BingoMatchSettings settings,
+        Broadcaster broadcaster
+    ) {
+        this.settings = settings;
+        this.broadcaster = broadcaster;
+    }
+
+    /**
+     * Announces that a team found an item, now or at the end of the current
+     * window depending on the announcement mode.
+     *
+     * @param team The team that found the item
+     * @param item The material type that was found
+     */
+    public void announce(BingoTeam team, Material item) {
+        if (settings.getAnnouncementMode() == AnnouncementMode.INDIVIDUAL) {
+            broadcaster.announce(getMessage(team, item));
+            return;
+        }
+
+        pending.computeIfAbsent(team, t -> new ArrayList<>()).add(item);
+        if (flushTask == null) {
+            flushTask = Bukkit.getScheduler().runTaskLater(
+                BingoPlugin.getInstance(),
+                this::flush,
+                WINDOW_TICKS
+            );
+        }
+    }
+
+    /**
+     * Announces every collected item right away, one message per team.
+     */
+    public void flush() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+
+        for (Map.Entry<BingoTeam, List<Material>> entry : pending.entrySet()) {
+            BingoTeam team = entry.getKey();
+            List<Material> items = entry.getValue();
+            if (items.size() == 1) {
+                broadcaster.announce(getMessage(team, items.get(0)));
+                continue;
+            }
+
+            List<Component> names = new ArrayList<>(items.size());
+            for (Material item : items) {
+                names.add(getItemName(item));
+            }
+            broadcaster.announce(
+                getTeamPart(team).append(Component.join(ITEM_SEPARATOR, names))
+            );
+        }
+        pending.clear();
+    }
+
+    /**
+     * Announces the collected items and forgets the cached team components,
+     * typically at the end of a match.
+     */
+    public void clear() {
+        flush();
+        teamParts.clear();
+        messages.clear();
+    }
+
+    private Component getMessage(BingoTeam team, Material item) {
+        return messages
+            .computeIfAbsent(team, t -> new EnumMap<>(Material.class))
+            .computeIfAbsent(item, i ->
+                getTeamPart(team).append(getItemName(i))
+            );
+    }
+
+    private Component getTeamPart(BingoTeam team) {
+        return teamParts.computeIfAbsent(team, t ->
+            Component.text(t.getName(), NamedTextColor.AQUA).append(HAS_FOUND)
+        );
+    }
+
+    private Component getItemName(Material item) {
+        return itemNames.computeIfAbsent(item, i ->
+            Component.text(i.name(), NamedTextColor.GREEN)
+        );
+    }
+}
@@ -0,0 +1,65 @@
+package com.bingaso.bingo.utils;
+
+/**
+ * Formats durations for scoreboards, timers, menus and chat.
+ * <p>
+ * The formats are built with a small {@link StringBuilder} rather than
+ * {@link String#format}, since some of them are called every second for
+ * every player.
+ * </p>
+ */
+public final class TimeFormatter {
+
+    private TimeFormatter() {}
+
+    /**
+     * Formats a number of seconds as hh:mm:ss.
+     *
+     * @param totalSeconds The seconds to format
+     * @return The formatted time
+     */
+    public static String formatSeconds(long totalSeconds) {
+        return appendClock(new StringBuilder(8), totalSeconds).toString();
+    }
+
+    /**
+     * Formats a number of milliseconds as hh:mm:ss, dropping the
+     * milliseconds.
+     *
+     * @param milliseconds The milliseconds to format
+     * @return The formatted time
+     */
+    public static String formatMillis(long milliseconds) {
+        return formatSeconds(milliseconds / 1000);
+    }
+
+    /**
+     * Formats a number of seconds as m:ss, or h:mm:ss for an hour or more.
+     *
+     * @param totalSeconds The seconds to format
+     * @return The formatted time
+     */
+    public static String formatCompactSeconds(long totalSeconds) {
+        long hours = totalSeconds / 3600;
+        long minutes = totalSeconds / 60 % 60;
+
+        StringBuilder builder = new StringBuilder(8);
+        if (hours > 0) {
+            builder.append(hours).append(':');
+            if (minutes < 10) builder.append('0');
+        }
+        builder.append(minutes).append(':');
+        return appendTwoDigits(builder, totalSeconds % 60).toString();
+    }
+
+    private static StringBuilder appendClock(StringBuilder builder, long totalSeconds) {
+        appendTwoDigits(builder, totalSeconds / 3600).append(':');
+        appendTwoDigits(builder, totalSeconds / 60 % 60).append(':');
+        return appendTwoDigits(builder, totalSeconds % 60);
+    }
+
+    private static StringBuilder appendTwoDigits(StringBuilder builder, long value) {
+        if (value < 10) builder.append('0');
+        return builder.append(value);
+    }
+}